@@ -1,6 +1,7 @@
 plugins {
     `java-library`
     id("com.vanniktech.maven.publish") version "0.36.0"
+    id("me.champeau.jmh") version "0.7.3"
 }
 
 description = "A library for Minestom placement"
@@ -48,6 +49,14 @@ repositories {
     maven("https://central.sonatype.com/repository/maven-snapshots")
 }
 
+val loadTest: SourceSet by sourceSets.creating {
+    compileClasspath += sourceSets.main.get().output
+    runtimeClasspath += sourceSets.main.get().output
+}
+
+configurations[loadTest.implementationConfigurationName].extendsFrom(configurations.implementation.get())
+configurations[loadTest.runtimeOnlyConfigurationName].extendsFrom(configurations.runtimeOnly.get())
+
 dependencies {
     implementation("net.minestom:minestom:26_1-SNAPSHOT")
 
@@ -61,9 +70,35 @@ dependencies {
     testImplementation("org.tinylog:tinylog-api:2.8.0-M1")
     testImplementation("org.tinylog:tinylog-impl:2.8.0-M1")
     testImplementation("org.tinylog:slf4j-tinylog:2.8.0-M1")
+
+    // Load testing
+    "loadTestImplementation"("net.minestom:testing:26_1-SNAPSHOT")
+    "loadTestImplementation"("org.junit.jupiter:junit-jupiter:5.11.4")
+    "loadTestRuntimeOnly"("org.junit.platform:junit-platform-launcher")
+    "loadTestRuntimeOnly"("org.junit.jupiter:junit-jupiter-engine:5.11.4")
+}
+
+jmh {
+    jmhVersion = "1.37"
+    profilers = listOf("gc")
+    resultFormat = "JSON"
 }
 
 tasks.test {
     useJUnitPlatform()
     failOnNoDiscoveredTests = false
+}
+
+tasks.register<Test>("loadTest") {
+    description = "Drives simulated builders through the placement rules and reports tick times."
+    group = "verification"
+    testClassesDirs = loadTest.output.classesDirs
+    classpath = loadTest.runtimeClasspath
+    useJUnitPlatform()
+    testLogging.showStandardStreams = true
+    outputs.upToDateWhen { false }
+
+    for (property in listOf("placement.loadTest.builders", "placement.loadTest.ticks")) {
+        System.getProperty(property)?.let { systemProperty(property, it) }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,91 @@
+package rocks.minestom.placement;
+
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.instance.block.BlockFace;
+import net.minestom.server.instance.block.rule.BlockPlacementRule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Torches, signs and coral fans attached to the walls and floor around the placed position.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AttachableBenchmark {
+    private BlockPlacementRule wallTorchRule;
+    private BlockPlacementRule signRule;
+    private BlockPlacementRule coralFanRule;
+    private BlockPlacementRule.PlacementState wallTorchPlacement;
+    private BlockPlacementRule.PlacementState signPlacement;
+    private BlockPlacementRule.PlacementState coralFanPlacement;
+    private BlockPlacementRule.UpdateState wallTorchUpdate;
+    private BlockPlacementRule.UpdateState coralFanUpdate;
+
+    @Setup
+    public void setup() {
+        BenchmarkWorld.init();
+        var center = BenchmarkWorld.CENTER;
+
+        var torches = new BenchmarkWorld()
+                .fill(0, center.blockY() - 1, Block.STONE)
+                .set(center.relative(BlockFace.SOUTH), Block.STONE_BRICKS)
+                .set(center.relative(BlockFace.WEST), Block.OAK_PLANKS);
+        this.wallTorchRule = BenchmarkWorld.rule(Block.WALL_TORCH);
+        this.wallTorchPlacement = torches.placement(Block.WALL_TORCH, BlockFace.NORTH, 45.0F, 20.0F);
+        torches.set(center, this.wallTorchRule.blockPlace(this.wallTorchPlacement));
+        this.wallTorchUpdate = torches.update(BlockFace.SOUTH);
+
+        var signs = new BenchmarkWorld()
+                .fill(0, center.blockY() - 1, Block.GRASS_BLOCK);
+        this.signRule = BenchmarkWorld.rule(Block.OAK_SIGN);
+        this.signPlacement = signs.placement(Block.OAK_SIGN, BlockFace.TOP, 123.0F, 40.0F);
+
+        var corals = new BenchmarkWorld()
+                .fill(0, BenchmarkWorld.SIZE - 1, Block.WATER)
+                .fill(0, center.blockY() - 1, Block.SAND)
+                .set(center.relative(BlockFace.SOUTH), Block.STONE);
+        this.coralFanRule = BenchmarkWorld.rule(Block.BRAIN_CORAL_WALL_FAN);
+        this.coralFanPlacement = corals.placement(Block.BRAIN_CORAL_WALL_FAN, BlockFace.NORTH, 10.0F, 10.0F);
+        corals.set(center, this.coralFanRule.blockPlace(this.coralFanPlacement));
+        this.coralFanUpdate = corals.update(BlockFace.SOUTH);
+    }
+
+    @Benchmark
+    public Block wallTorchPlace() {
+        return this.wallTorchRule.blockPlace(this.wallTorchPlacement);
+    }
+
+    @Benchmark
+    public Block wallTorchUpdate() {
+        return this.wallTorchRule.blockUpdate(this.wallTorchUpdate);
+    }
+
+    @Benchmark
+    public Block signPlace() {
+        return this.signRule.blockPlace(this.signPlacement);
+    }
+
+    @Benchmark
+    public Block coralFanPlace() {
+        return this.coralFanRule.blockPlace(this.coralFanPlacement);
+    }
+
+    @Benchmark
+    public Block coralFanUpdate() {
+        return this.coralFanRule.blockUpdate(this.coralFanUpdate);
+    }
+}
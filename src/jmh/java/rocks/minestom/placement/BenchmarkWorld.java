@@ -0,0 +1,96 @@
+package rocks.minestom.placement;
+
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.coordinate.Point;
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.coordinate.Vec;
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.instance.block.BlockFace;
+import net.minestom.server.instance.block.rule.BlockPlacementRule;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+
+/**
+ * A dense in-memory {@link Block.Getter} used as the neighborhood for placement benchmarks. Positions
+ * outside of the {@link #SIZE}³ cube read as air.
+ */
+final class BenchmarkWorld implements Block.Getter {
+    static final int SIZE = 16;
+    static final Point CENTER = new Vec(SIZE / 2, SIZE / 2, SIZE / 2);
+
+    private static boolean initialized;
+
+    private final Block[] blocks = new Block[SIZE * SIZE * SIZE];
+
+    BenchmarkWorld() {
+        Arrays.fill(this.blocks, Block.AIR);
+    }
+
+    /**
+     * Boots the registries and registers every vanilla rule, once per benchmark JVM.
+     */
+    static synchronized void init() {
+        if (initialized) {
+            return;
+        }
+
+        MinecraftServer.init();
+        Registrations.registerAllVanilla(MinecraftServer.getBlockManager());
+        initialized = true;
+    }
+
+    static @NotNull BlockPlacementRule rule(@NotNull Block block) {
+        var rule = MinecraftServer.getBlockManager().getBlockPlacementRule(block);
+
+        if (rule == null) {
+            throw new IllegalStateException("No placement rule registered for " + block);
+        }
+
+        return rule;
+    }
+
+    @NotNull BenchmarkWorld set(int x, int y, int z, @NotNull Block block) {
+        this.blocks[index(x, y, z)] = block;
+        return this;
+    }
+
+    @NotNull BenchmarkWorld set(@NotNull Point position, @NotNull Block block) {
+        return this.set(position.blockX(), position.blockY(), position.blockZ(), block);
+    }
+
+    @NotNull BenchmarkWorld fill(int minY, int maxY, @NotNull Block block) {
+        for (var y = minY; y <= maxY; y++) {
+            for (var x = 0; x < SIZE; x++) {
+                for (var z = 0; z < SIZE; z++) {
+                    this.set(x, y, z, block);
+                }
+            }
+        }
+
+        return this;
+    }
+
+    @NotNull BlockPlacementRule.PlacementState placement(@NotNull Block block, @Nullable BlockFace face, float yaw, float pitch) {
+        var playerPosition = new Pos(CENTER.x() + 0.5D, CENTER.y(), CENTER.z() - 2.5D, yaw, pitch);
+        return new BlockPlacementRule.PlacementState(this, block, face, CENTER, new Vec(0.5D, 0.25D, 0.5D), playerPosition, null, false);
+    }
+
+    @NotNull BlockPlacementRule.UpdateState update(@NotNull BlockFace fromFace) {
+        return new BlockPlacementRule.UpdateState(this, CENTER, this.getBlock(CENTER), fromFace);
+    }
+
+    @Override
+    public @NotNull Block getBlock(int x, int y, int z, @NotNull Condition condition) {
+        if (x < 0 || y < 0 || z < 0 || x >= SIZE || y >= SIZE || z >= SIZE) {
+            return Block.AIR;
+        }
+
+        return this.blocks[index(x, y, z)];
+    }
+
+    private static int index(int x, int y, int z) {
+        return (y * SIZE + z) * SIZE + x;
+    }
+}
@@ -0,0 +1,107 @@
+package rocks.minestom.placement;
+
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.instance.block.BlockFace;
+import net.minestom.server.instance.block.rule.BlockPlacementRule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Walls, fences and panes placed into a mixed neighborhood of connectables, gates and solid blocks.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ConnectableBenchmark {
+    private BlockPlacementRule wallRule;
+    private BlockPlacementRule fenceRule;
+    private BlockPlacementRule paneRule;
+    private BlockPlacementRule.PlacementState wallPlacement;
+    private BlockPlacementRule.PlacementState fencePlacement;
+    private BlockPlacementRule.PlacementState panePlacement;
+    private BlockPlacementRule.UpdateState wallUpdate;
+    private BlockPlacementRule.UpdateState fenceUpdate;
+    private BlockPlacementRule.UpdateState paneUpdate;
+
+    @Setup
+    public void setup() {
+        BenchmarkWorld.init();
+        var center = BenchmarkWorld.CENTER;
+
+        var walls = new BenchmarkWorld()
+                .fill(0, center.blockY() - 1, Block.STONE)
+                .set(center.relative(BlockFace.NORTH), Block.STONE_BRICK_WALL)
+                .set(center.relative(BlockFace.SOUTH), Block.COBBLESTONE_WALL)
+                .set(center.relative(BlockFace.EAST), Block.STONE)
+                .set(center.relative(BlockFace.TOP), Block.STONE_BRICK_WALL.withProperty("up", "true"));
+        this.wallRule = BenchmarkWorld.rule(Block.STONE_BRICK_WALL);
+        this.wallPlacement = walls.placement(Block.STONE_BRICK_WALL, BlockFace.TOP, 0.0F, 30.0F);
+        walls.set(center, this.wallRule.blockPlace(this.wallPlacement));
+        this.wallUpdate = walls.update(BlockFace.EAST);
+
+        var fences = new BenchmarkWorld()
+                .fill(0, center.blockY() - 1, Block.GRASS_BLOCK)
+                .set(center.relative(BlockFace.EAST), Block.OAK_FENCE)
+                .set(center.relative(BlockFace.WEST), Block.SPRUCE_FENCE)
+                .set(center.relative(BlockFace.NORTH), Block.OAK_FENCE_GATE.withProperty("facing", "east"))
+                .set(center.relative(BlockFace.SOUTH), Block.OAK_LEAVES);
+        this.fenceRule = BenchmarkWorld.rule(Block.OAK_FENCE);
+        this.fencePlacement = fences.placement(Block.OAK_FENCE, BlockFace.TOP, 90.0F, 30.0F);
+        fences.set(center, this.fenceRule.blockPlace(this.fencePlacement));
+        this.fenceUpdate = fences.update(BlockFace.NORTH);
+
+        var panes = new BenchmarkWorld()
+                .fill(0, center.blockY() - 1, Block.STONE)
+                .set(center.relative(BlockFace.NORTH), Block.GLASS_PANE)
+                .set(center.relative(BlockFace.EAST), Block.IRON_BARS)
+                .set(center.relative(BlockFace.SOUTH), Block.COBBLESTONE_WALL)
+                .set(center.relative(BlockFace.WEST), Block.SHULKER_BOX);
+        this.paneRule = BenchmarkWorld.rule(Block.GLASS_PANE);
+        this.panePlacement = panes.placement(Block.GLASS_PANE, BlockFace.TOP, 180.0F, 30.0F);
+        panes.set(center, this.paneRule.blockPlace(this.panePlacement));
+        this.paneUpdate = panes.update(BlockFace.WEST);
+    }
+
+    @Benchmark
+    public Block wallPlace() {
+        return this.wallRule.blockPlace(this.wallPlacement);
+    }
+
+    @Benchmark
+    public Block wallUpdate() {
+        return this.wallRule.blockUpdate(this.wallUpdate);
+    }
+
+    @Benchmark
+    public Block fencePlace() {
+        return this.fenceRule.blockPlace(this.fencePlacement);
+    }
+
+    @Benchmark
+    public Block fenceUpdate() {
+        return this.fenceRule.blockUpdate(this.fenceUpdate);
+    }
+
+    @Benchmark
+    public Block panePlace() {
+        return this.paneRule.blockPlace(this.panePlacement);
+    }
+
+    @Benchmark
+    public Block paneUpdate() {
+        return this.paneRule.blockUpdate(this.paneUpdate);
+    }
+}
@@ -0,0 +1,91 @@
+package rocks.minestom.placement;
+
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.instance.block.BlockFace;
+import net.minestom.server.instance.block.rule.BlockPlacementRule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Stairs forming corners, doors next to other doors and chests pairing with a neighbor.
+ * <p>
+ * Door placement needs a live instance for its upper half, so only door updates are measured here.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OrientableBenchmark {
+    private BlockPlacementRule stairRule;
+    private BlockPlacementRule doorRule;
+    private BlockPlacementRule chestRule;
+    private BlockPlacementRule.PlacementState stairPlacement;
+    private BlockPlacementRule.PlacementState chestPlacement;
+    private BlockPlacementRule.UpdateState stairUpdate;
+    private BlockPlacementRule.UpdateState doorUpdate;
+
+    @Setup
+    public void setup() {
+        BenchmarkWorld.init();
+        var center = BenchmarkWorld.CENTER;
+
+        var stairs = new BenchmarkWorld()
+                .fill(0, center.blockY() - 1, Block.STONE)
+                .set(center.relative(BlockFace.NORTH), Block.OAK_STAIRS.withProperty("facing", "east"))
+                .set(center.relative(BlockFace.SOUTH), Block.OAK_STAIRS.withProperty("facing", "west"))
+                .set(center.relative(BlockFace.EAST), Block.OAK_STAIRS.withProperty("facing", "north"))
+                .set(center.relative(BlockFace.WEST), Block.STONE);
+        this.stairRule = BenchmarkWorld.rule(Block.OAK_STAIRS);
+        this.stairPlacement = stairs.placement(Block.OAK_STAIRS, BlockFace.TOP, 180.0F, 30.0F);
+        stairs.set(center, this.stairRule.blockPlace(this.stairPlacement));
+        this.stairUpdate = stairs.update(BlockFace.NORTH);
+
+        var doors = new BenchmarkWorld()
+                .fill(0, center.blockY() - 1, Block.STONE)
+                .set(center, Block.OAK_DOOR.withProperties(Map.of("half", "lower", "facing", "north")))
+                .set(center.relative(BlockFace.TOP), Block.OAK_DOOR.withProperties(Map.of("half", "upper", "facing", "north")))
+                .set(center.relative(BlockFace.EAST), Block.OAK_DOOR.withProperties(Map.of("half", "lower", "facing", "north")));
+        this.doorRule = BenchmarkWorld.rule(Block.OAK_DOOR);
+        this.doorUpdate = doors.update(BlockFace.TOP);
+
+        var chests = new BenchmarkWorld()
+                .fill(0, center.blockY() - 1, Block.STONE)
+                .set(center.relative(BlockFace.WEST), Block.CHEST.withProperties(Map.of("facing", "north", "type", "single")))
+                .set(center.relative(BlockFace.EAST), Block.TRAPPED_CHEST);
+        this.chestRule = BenchmarkWorld.rule(Block.CHEST);
+        this.chestPlacement = chests.placement(Block.CHEST, BlockFace.TOP, 0.0F, 30.0F);
+    }
+
+    @Benchmark
+    public Block stairPlace() {
+        return this.stairRule.blockPlace(this.stairPlacement);
+    }
+
+    @Benchmark
+    public Block stairUpdate() {
+        return this.stairRule.blockUpdate(this.stairUpdate);
+    }
+
+    @Benchmark
+    public Block doorUpdate() {
+        return this.doorRule.blockUpdate(this.doorUpdate);
+    }
+
+    @Benchmark
+    public Block chestPlace() {
+        return this.chestRule.blockPlace(this.chestPlacement);
+    }
+}
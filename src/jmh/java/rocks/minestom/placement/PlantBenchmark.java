@@ -0,0 +1,102 @@
+package rocks.minestom.placement;
+
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.instance.block.BlockFace;
+import net.minestom.server.instance.block.rule.BlockPlacementRule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Flowers, crops, sugar cane and cactus checking their support blocks.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PlantBenchmark {
+    private BlockPlacementRule flowerRule;
+    private BlockPlacementRule cropRule;
+    private BlockPlacementRule sugarCaneRule;
+    private BlockPlacementRule cactusRule;
+    private BlockPlacementRule.PlacementState flowerPlacement;
+    private BlockPlacementRule.PlacementState cropPlacement;
+    private BlockPlacementRule.PlacementState sugarCanePlacement;
+    private BlockPlacementRule.PlacementState cactusPlacement;
+    private BlockPlacementRule.UpdateState flowerUpdate;
+    private BlockPlacementRule.UpdateState sugarCaneUpdate;
+
+    @Setup
+    public void setup() {
+        BenchmarkWorld.init();
+        var center = BenchmarkWorld.CENTER;
+        var ground = center.relative(BlockFace.BOTTOM);
+
+        var meadow = new BenchmarkWorld()
+                .fill(0, ground.blockY(), Block.GRASS_BLOCK)
+                .set(center.relative(BlockFace.EAST), Block.SHORT_GRASS);
+        this.flowerRule = BenchmarkWorld.rule(Block.POPPY);
+        this.flowerPlacement = meadow.placement(Block.POPPY, BlockFace.TOP, 0.0F, 60.0F);
+        meadow.set(center, Block.POPPY);
+        this.flowerUpdate = meadow.update(BlockFace.BOTTOM);
+
+        var farm = new BenchmarkWorld()
+                .fill(0, ground.blockY(), Block.FARMLAND);
+        this.cropRule = BenchmarkWorld.rule(Block.WHEAT);
+        this.cropPlacement = farm.placement(Block.WHEAT, BlockFace.TOP, 0.0F, 60.0F);
+
+        var riverbank = new BenchmarkWorld()
+                .fill(0, ground.blockY(), Block.SAND)
+                .set(ground.relative(BlockFace.WEST), Block.WATER);
+        this.sugarCaneRule = BenchmarkWorld.rule(Block.SUGAR_CANE);
+        this.sugarCanePlacement = riverbank.placement(Block.SUGAR_CANE, BlockFace.TOP, 0.0F, 60.0F);
+        riverbank.set(center, Block.SUGAR_CANE);
+        this.sugarCaneUpdate = riverbank.update(BlockFace.BOTTOM);
+
+        var desert = new BenchmarkWorld()
+                .fill(0, ground.blockY(), Block.SAND);
+        this.cactusRule = BenchmarkWorld.rule(Block.CACTUS);
+        this.cactusPlacement = desert.placement(Block.CACTUS, BlockFace.TOP, 0.0F, 60.0F);
+    }
+
+    @Benchmark
+    public Block flowerPlace() {
+        return this.flowerRule.blockPlace(this.flowerPlacement);
+    }
+
+    @Benchmark
+    public Block flowerUpdate() {
+        return this.flowerRule.blockUpdate(this.flowerUpdate);
+    }
+
+    @Benchmark
+    public Block cropPlace() {
+        return this.cropRule.blockPlace(this.cropPlacement);
+    }
+
+    @Benchmark
+    public Block sugarCanePlace() {
+        return this.sugarCaneRule.blockPlace(this.sugarCanePlacement);
+    }
+
+    @Benchmark
+    public Block sugarCaneUpdate() {
+        return this.sugarCaneRule.blockUpdate(this.sugarCaneUpdate);
+    }
+
+    @Benchmark
+    public Block cactusPlace() {
+        return this.cactusRule.blockPlace(this.cactusPlacement);
+    }
+}
@@ -0,0 +1,90 @@
+package rocks.minestom.placement;
+
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.instance.block.rule.BlockPlacementRule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Replays a {@link PlacementTrace} through the registered rules, one recorded call per operation, so
+ * the gc profiler's normalized allocation rate reads as bytes per call. Pass the trace with
+ * {@code -p trace=<file>}, and {@code -p rule=<simple class name>,...} to get one result per rule.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TraceReplayBenchmark {
+    @Param({""})
+    public String trace;
+
+    /**
+     * Only replays calls handled by the rule with this simple class name, or every call when empty.
+     */
+    @Param({""})
+    public String rule;
+
+    private Call[] calls;
+    private int next;
+
+    @Setup
+    public void setup() throws IOException {
+        if (this.trace.isEmpty()) {
+            throw new IllegalStateException("No trace given, pass one with -p trace=<file>");
+        }
+
+        BenchmarkWorld.init();
+        var blockManager = MinecraftServer.getBlockManager();
+        var calls = new ArrayList<Call>();
+
+        try (var input = Files.newInputStream(Path.of(this.trace))) {
+            for (var event : PlacementTrace.read(input)) {
+                var rule = blockManager.getBlockPlacementRule(event.block());
+
+                if (rule == null || (!this.rule.isEmpty() && !this.rule.equals(rule.getClass().getSimpleName()))) {
+                    continue;
+                }
+
+                calls.add(event.placement()
+                        ? new Call(rule, event.placementState(BenchmarkWorld.CENTER), null)
+                        : new Call(rule, null, event.updateState(BenchmarkWorld.CENTER)));
+            }
+        }
+
+        if (calls.isEmpty()) {
+            throw new IllegalStateException("The trace has no calls" + (this.rule.isEmpty() ? "" : " for " + this.rule));
+        }
+
+        this.calls = calls.toArray(Call[]::new);
+    }
+
+    @Benchmark
+    public Object replay() {
+        var call = this.calls[this.next];
+        this.next = this.next + 1 == this.calls.length ? 0 : this.next + 1;
+
+        return call.placement != null
+                ? call.rule.blockPlace(call.placement)
+                : call.rule.blockUpdate(call.update);
+    }
+
+    private record Call(BlockPlacementRule rule, BlockPlacementRule.PlacementState placement, BlockPlacementRule.UpdateState update) {
+    }
+}
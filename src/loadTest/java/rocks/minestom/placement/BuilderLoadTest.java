@@ -0,0 +1,156 @@
+package rocks.minestom.placement;
+
+import net.minestom.server.Auth;
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.coordinate.Point;
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.entity.GameMode;
+import net.minestom.server.instance.Instance;
+import net.minestom.server.instance.block.Block;
+import net.minestom.testing.Env;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs an offline server without a network socket and adds simulated builders in steps, reporting the
+ * tick duration percentiles, the time spent in placement rules and the GC pauses at each step.
+ * <p>
+ * The builder counts and the ticks measured per step are read from the {@code placement.loadTest.builders}
+ * (comma separated) and {@code placement.loadTest.ticks} system properties.
+ */
+public final class BuilderLoadTest {
+    private static final int ACTIONS_PER_TICK = 1;
+
+    @Test
+    void builders() {
+        var steps = Arrays.stream(System.getProperty("placement.loadTest.builders", "1,8,32,128").split(","))
+                .mapToInt(step -> Integer.parseInt(step.trim()))
+                .sorted()
+                .toArray();
+        var ticks = Integer.getInteger("placement.loadTest.ticks", 600);
+
+        MinecraftServer.init(new Auth.Offline());
+        var env = Env.createInstance(MinecraftServer.process());
+
+        try {
+            Registrations.registerAllVanilla(MinecraftServer.getBlockManager(), true);
+
+            var instance = MinecraftServer.getInstanceManager().createInstanceContainer();
+            instance.setGenerator(unit -> unit.modifier().fillHeight(-64, 0, Block.STONE));
+
+            var plotsPerRow = (int) Math.ceil(Math.sqrt(steps[steps.length - 1]));
+            var builders = new ArrayList<SimulatedBuilder>();
+
+            // one full cycle of a single builder first, so a plan that stops reaching the rules fails loudly
+            var first = spawn(env, instance, SimulatedBuilder.plotOrigin(0, plotsPerRow));
+            builders.add(first);
+            var placementCount = first.placedPositions().size();
+            run(env, builders, placementCount);
+            assertPlot(instance, first, true);
+            run(env, builders, first.actionCount() - placementCount);
+            assertPlot(instance, first, false);
+
+            System.out.printf("%8s %8s %8s %8s %8s %12s %10s %10s%n",
+                    "builders", "p50 ms", "p95 ms", "p99 ms", "max ms", "rules ms/t", "gc pauses", "gc ms");
+
+            for (var step : steps) {
+                while (builders.size() < step) {
+                    builders.add(spawn(env, instance, SimulatedBuilder.plotOrigin(builders.size(), plotsPerRow)));
+                }
+
+                // let the new builders settle in before measuring
+                run(env, builders, ticks / 5);
+                PlacementMetrics.reset();
+
+                var gcCount = gcCount();
+                var gcTime = gcTime();
+                var durations = run(env, builders, ticks);
+                var ruleNanos = PlacementMetrics.rules().values().stream().mapToLong(PlacementMetrics.RuleMetrics::totalNanos).sum();
+
+                System.out.printf("%8d %8.2f %8.2f %8.2f %8.2f %12.3f %10d %10d%n",
+                        step,
+                        percentile(durations, 0.50D),
+                        percentile(durations, 0.95D),
+                        percentile(durations, 0.99D),
+                        percentile(durations, 1.0D),
+                        ruleNanos / 1.0E6D / ticks,
+                        gcCount() - gcCount,
+                        gcTime() - gcTime);
+                printSlowestRules(PlacementMetrics.rules());
+            }
+
+            var placements = PlacementMetrics.rules().values().stream().mapToLong(PlacementMetrics.RuleMetrics::placeCalls).sum();
+            assertTrue(placements > 0, "No placement reached the rules");
+        } finally {
+            env.cleanup();
+        }
+    }
+
+    private static SimulatedBuilder spawn(Env env, Instance instance, Point origin) {
+        var player = env.createPlayer(instance, new Pos(origin.x() + 4.5D, origin.y() + 4.0D, origin.z() + 4.5D, 0.0F, 45.0F));
+        player.setGameMode(GameMode.CREATIVE);
+        return new SimulatedBuilder(player, origin);
+    }
+
+    private static void assertPlot(Instance instance, SimulatedBuilder builder, boolean built) {
+        for (var position : builder.placedPositions()) {
+            assertEquals(built, !instance.getBlock(position).isAir(),
+                    () -> (built ? "No block was placed at " : "The block was not broken at ") + position);
+        }
+    }
+
+    /**
+     * Ticks the server, letting every builder act before each tick, and returns the tick durations in
+     * milliseconds.
+     */
+    private static double[] run(Env env, List<SimulatedBuilder> builders, int ticks) {
+        var durations = new double[ticks];
+
+        for (var tick = 0; tick < ticks; tick++) {
+            for (var builder : builders) {
+                for (var action = 0; action < ACTIONS_PER_TICK; action++) {
+                    builder.act();
+                }
+            }
+
+            var start = System.nanoTime();
+            env.tick();
+            durations[tick] = (System.nanoTime() - start) / 1.0E6D;
+        }
+
+        return durations;
+    }
+
+    private static void printSlowestRules(Map<String, PlacementMetrics.RuleMetrics> rules) {
+        rules.entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<String, PlacementMetrics.RuleMetrics> entry) -> entry.getValue().totalNanos()).reversed())
+                .limit(3)
+                .forEach(entry -> System.out.printf("%12s %s: %.3f ms over %d calls%n", "", entry.getKey(),
+                        entry.getValue().totalNanos() / 1.0E6D, entry.getValue().placeCalls() + entry.getValue().updateCalls()));
+    }
+
+    private static double percentile(double[] durations, double percentile) {
+        var sorted = durations.clone();
+        Arrays.sort(sorted);
+        var index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.clamp(index, 0, sorted.length - 1)];
+    }
+
+    private static long gcCount() {
+        return ManagementFactory.getGarbageCollectorMXBeans().stream().mapToLong(GarbageCollectorMXBean::getCollectionCount).sum();
+    }
+
+    private static long gcTime() {
+        return ManagementFactory.getGarbageCollectorMXBeans().stream().mapToLong(GarbageCollectorMXBean::getCollectionTime).sum();
+    }
+}
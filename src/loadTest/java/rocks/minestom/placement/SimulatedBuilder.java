@@ -0,0 +1,134 @@
+package rocks.minestom.placement;
+
+import net.minestom.server.coordinate.Point;
+import net.minestom.server.coordinate.Vec;
+import net.minestom.server.entity.Player;
+import net.minestom.server.entity.PlayerHand;
+import net.minestom.server.instance.block.BlockFace;
+import net.minestom.server.item.ItemStack;
+import net.minestom.server.item.Material;
+import net.minestom.server.network.packet.client.play.ClientPlayerBlockPlacementPacket;
+import net.minestom.server.network.packet.client.play.ClientPlayerDiggingPacket;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A player that builds a plot of fence grids, stairs, doors, vines and redstone and then tears it down
+ * again, forever. Actions are queued as client packets, so they take the same listener and event path
+ * as a real client's.
+ */
+final class SimulatedBuilder {
+    /**
+     * Plots are this many blocks apart, so builders never touch each other's blocks.
+     */
+    static final int PLOT_SPACING = 24;
+
+    private final Player player;
+    private final List<Action> actions;
+    private final List<Point> placedPositions;
+    private int next;
+    private int sequence;
+
+    SimulatedBuilder(@NotNull Player player, @NotNull Point origin) {
+        this.player = player;
+        this.actions = plan(origin);
+        this.placedPositions = this.actions.subList(0, this.actions.size() / 2).stream()
+                .map(action -> action.target().relative(action.face()))
+                .toList();
+    }
+
+    /**
+     * Where the plot of the {@code index}th builder starts, with plots laid out in rows.
+     */
+    static @NotNull Vec plotOrigin(int index, int plotsPerRow) {
+        return new Vec((index % plotsPerRow) * PLOT_SPACING, 0, (index / plotsPerRow) * PLOT_SPACING);
+    }
+
+    /**
+     * Every position a block is placed at, in placement order. The first {@code placedPositions().size()}
+     * actions place them, the rest of the cycle breaks them again.
+     */
+    @NotNull List<Point> placedPositions() {
+        return this.placedPositions;
+    }
+
+    int actionCount() {
+        return this.actions.size();
+    }
+
+    /**
+     * Queues the next action's packet; the player handles it during its next tick.
+     */
+    void act() {
+        var action = this.actions.get(this.next);
+        this.next = (this.next + 1) % this.actions.size();
+        this.sequence++;
+
+        if (action.item() == null) {
+            this.player.addPacketToQueue(new ClientPlayerDiggingPacket(ClientPlayerDiggingPacket.Status.STARTED_DIGGING, action.target(), action.face(), this.sequence));
+            return;
+        }
+
+        this.player.setItemInMainHand(ItemStack.of(action.item()));
+        this.player.addPacketToQueue(new ClientPlayerBlockPlacementPacket(PlayerHand.MAIN, action.target(), action.face(),
+                0.5F, 1.0F, 0.5F, false, false, this.sequence));
+    }
+
+    /**
+     * Every placement of a plot built on the ground at {@code origin.y() - 1}, followed by breaking each
+     * placed block in reverse order.
+     */
+    private static @NotNull List<Action> plan(@NotNull Point origin) {
+        var placements = new ArrayList<Action>();
+
+        for (var x = 0; x <= 8; x++) {
+            for (var z = 0; z <= 8; z++) {
+                if (x % 4 == 0 || z % 4 == 0) {
+                    placements.add(onGround(origin, x, z, Material.OAK_FENCE));
+                }
+            }
+        }
+
+        for (var x = 0; x <= 8; x++) {
+            placements.add(onGround(origin, x, 10, Material.OAK_STAIRS));
+            placements.add(onGround(origin, x, -4, Material.REDSTONE));
+        }
+
+        placements.add(onGround(origin, -1, -4, Material.REDSTONE_TORCH));
+
+        for (var x = 0; x <= 6; x += 2) {
+            placements.add(onGround(origin, x, -2, Material.OAK_DOOR));
+        }
+
+        for (var y = 0; y < 3; y++) {
+            placements.add(new Action(Material.STONE, origin.add(10, y - 1, 0), BlockFace.TOP));
+        }
+
+        for (var y = 0; y < 3; y++) {
+            placements.add(new Action(Material.VINE, origin.add(10, y, 0), BlockFace.EAST));
+        }
+
+        var actions = new ArrayList<>(placements);
+
+        for (var index = placements.size() - 1; index >= 0; index--) {
+            var placement = placements.get(index);
+            actions.add(new Action(null, placement.target().relative(placement.face()), BlockFace.TOP));
+        }
+
+        return actions;
+    }
+
+    private static @NotNull Action onGround(@NotNull Point origin, int x, int z, @NotNull Material item) {
+        return new Action(item, origin.add(x, -1, z), BlockFace.TOP);
+    }
+
+    /**
+     * Clicks {@code face} of the block at {@code target} with {@code item}, or breaks the block at
+     * {@code target} when {@code item} is {@code null}.
+     */
+    private record Action(@Nullable Material item, @NotNull Point target, @NotNull BlockFace face) {
+    }
+}
@@ -20,7 +20,7 @@ public final class AmethystClusterPlacementRule extends BlockPlacementRule {
         var supportPosition = placePosition.relative(facing.getOppositeFace());
         var supportBlock = instance.getBlock(supportPosition);
 
-        if (!supportBlock.registry().collisionShape().isFaceFull(facing)) {
+        if (!FaceSturdiness.isFull(supportBlock, facing)) {
             return null;
         }
 
@@ -47,7 +47,7 @@ public final class AmethystClusterPlacementRule extends BlockPlacementRule {
         }
         var supportBlock = updateState.instance().getBlock(updateState.blockPosition().relative(supportFace));
 
-        if (!supportBlock.registry().collisionShape().isFaceFull(facing)) {
+        if (!FaceSturdiness.isFull(supportBlock, facing)) {
             return Block.AIR;
         }
         return currentBlock;
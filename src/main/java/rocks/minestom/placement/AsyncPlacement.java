@@ -0,0 +1,150 @@
+package rocks.minestom.placement;
+
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.coordinate.Point;
+import net.minestom.server.instance.Instance;
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.instance.block.rule.BlockPlacementRule;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Placement evaluation off the tick thread. The block palettes around the placed position are copied
+ * when the placement is requested, the placement rule runs against that copy on a virtual thread, and
+ * the result is written on the next tick, unless the position changed in the meantime.
+ * <p>
+ * Partner blocks (the upper half of a door, the head of a bed) are collected by the snapshot and written
+ * along with the result. Rules that need more of the live instance than the snapshot offers, such as
+ * rules that schedule neighbor updates, flag the snapshot; those placements are evaluated again on the
+ * tick thread when the result is applied, as are placements whose rule read a block that has changed
+ * since. Otherwise a rejection against the snapshot is final. Entity collisions are checked on the tick
+ * thread, for the main block and its partners, right before writing.
+ */
+public final class AsyncPlacement {
+    /**
+     * Distance around the placed position, in blocks on each axis, that the snapshot is guaranteed to
+     * cover. Placement rules read no further than this; reads beyond it see air.
+     */
+    public static final int SNAPSHOT_RADIUS = 2;
+
+    private static final ExecutorService EXECUTOR = Executors.newVirtualThreadPerTaskExecutor();
+
+    private AsyncPlacement() {
+
+    }
+
+    /**
+     * Evaluates a placement against a snapshot of its surroundings and writes the result on the next tick.
+     * Must be called from the instance's tick thread. The returned future completes with the block that
+     * was placed, or {@code null} if the rule rejected the placement or the position changed before the
+     * result could be applied.
+     */
+    public static @NotNull CompletableFuture<Block> place(@NotNull Instance instance, @NotNull BlockPlacementRule.PlacementState placementState) {
+        var position = placementState.placePosition();
+        var expected = instance.getBlock(position);
+        var rule = MinecraftServer.getBlockManager().getBlockPlacementRule(placementState.block());
+        var future = new CompletableFuture<Block>();
+
+        if (rule == null) {
+            instance.scheduleNextTick(ignored -> apply(instance, position, expected, placementState.block(), null, future));
+            return future;
+        }
+
+        var snapshot = ChunkSnapshot.capture(instance, position, SNAPSHOT_RADIUS);
+        var snapshotState = new BlockPlacementRule.PlacementState(
+                snapshot,
+                placementState.block(),
+                placementState.blockFace(),
+                position,
+                placementState.cursorPosition(),
+                placementState.playerPosition(),
+                placementState.usedItemStack(),
+                placementState.isPlayerShifting()
+        );
+
+        CompletableFuture.supplyAsync(() -> rule.blockPlace(snapshotState), EXECUTOR).whenComplete((result, error) -> {
+            if (error != null) {
+                future.completeExceptionally(error);
+                return;
+            }
+
+            instance.scheduleNextTick(ignored -> {
+                if (isConflicting(instance, position, expected)) {
+                    future.complete(null);
+                    return;
+                }
+
+                if (snapshot.needsInstance() || !snapshot.isCurrent(instance)) {
+                    apply(instance, position, expected, rule.blockPlace(placementState), null, future);
+                    return;
+                }
+
+                apply(instance, position, expected, result, snapshot, future);
+            });
+        });
+
+        return future;
+    }
+
+    private static boolean isConflicting(@NotNull Instance instance, @NotNull Point position, @NotNull Block expected) {
+        return instance.getBlock(position).stateId() != expected.stateId();
+    }
+
+    private static void apply(@NotNull Instance instance, @NotNull Point position, @NotNull Block expected,
+                              @Nullable Block block, @Nullable ChunkSnapshot snapshot, @NotNull CompletableFuture<Block> future) {
+        if (block == null || isConflicting(instance, position, expected) || intersectsEntity(instance, position, block, snapshot)) {
+            future.complete(null);
+            return;
+        }
+
+        if (snapshot != null) {
+            writePartners(instance, snapshot);
+        }
+
+        instance.setBlock(position, block);
+        SignalIndex.invalidate(instance, position);
+        future.complete(block);
+    }
+
+    private static boolean intersectsEntity(@NotNull Instance instance, @NotNull Point position, @NotNull Block block,
+                                            @Nullable ChunkSnapshot snapshot) {
+        var collisionIndex = EntityCollisionIndex.of(instance);
+
+        if (collisionIndex.intersects(position, block)) {
+            return true;
+        }
+
+        if (snapshot == null) {
+            return false;
+        }
+
+        var positions = snapshot.partnerPositions();
+        var blocks = snapshot.partnerBlocks();
+
+        for (var index = 0; index < positions.size(); index++) {
+            if (collisionIndex.intersects(positions.get(index), blocks.get(index))) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Writes partners without updates before the main block, so the updates the main block triggers
+     * already see them.
+     */
+    private static void writePartners(@NotNull Instance instance, @NotNull ChunkSnapshot snapshot) {
+        var positions = snapshot.partnerPositions();
+        var blocks = snapshot.partnerBlocks();
+
+        for (var index = 0; index < positions.size(); index++) {
+            instance.setBlock(positions.get(index), blocks.get(index), false);
+            SignalIndex.invalidate(instance, positions.get(index));
+        }
+    }
+}
@@ -1,13 +1,13 @@
 package rocks.minestom.placement;
 
-import net.kyori.adventure.key.Key;
-import net.minestom.server.MinecraftServer;
 import net.minestom.server.instance.block.Block;
 import net.minestom.server.instance.block.BlockFace;
 import net.minestom.server.instance.block.rule.BlockPlacementRule;
 import org.jetbrains.annotations.NotNull;
 
 public final class BambooStalkPlacementRule extends BlockPlacementRule {
+    private static final IntProperty AGE = IntProperty.of("age");
+
     public BambooStalkPlacementRule(@NotNull Block block) {
         super(block);
     }
@@ -23,9 +23,7 @@ public final class BambooStalkPlacementRule extends BlockPlacementRule {
         }
 
         var belowBlock = instance.getBlock(placePosition.relative(BlockFace.BOTTOM));
-        var supportsBambooTag = MinecraftServer.process().blocks().getTag(Key.key("minecraft:supports_bamboo"));
-
-        if (supportsBambooTag == null || !supportsBambooTag.contains(belowBlock)) {
+        if (!BlockTag.SUPPORTS_BAMBOO.contains(belowBlock)) {
             return null;
         }
 
@@ -37,12 +35,10 @@ public final class BambooStalkPlacementRule extends BlockPlacementRule {
         }
 
         if (belowBlock.compare(Block.BAMBOO)) {
-            var existingAgeProperty = belowBlock.getProperty("age");
-            var existingAge = existingAgeProperty == null ? 0 : Integer.parseInt(existingAgeProperty);
+            var existingAge = AGE.get(belowBlock, 0);
             var newAge = existingAge > 0 ? 1 : 0;
 
-            return this.block
-                    .withProperty("age", Integer.toString(newAge))
+            return AGE.with(this.block, newAge)
                     .withProperty("leaves", "none")
                     .withProperty("stage", "0");
         }
@@ -50,11 +46,9 @@ public final class BambooStalkPlacementRule extends BlockPlacementRule {
         var aboveBlock = instance.getBlock(placePosition.relative(BlockFace.TOP));
 
         if (aboveBlock.compare(Block.BAMBOO)) {
-            var aboveAgeProperty = aboveBlock.getProperty("age");
-            var aboveAge = aboveAgeProperty == null ? 0 : Integer.parseInt(aboveAgeProperty);
+            var aboveAge = AGE.get(aboveBlock, 0);
 
-            return this.block
-                    .withProperty("age", Integer.toString(aboveAge))
+            return AGE.with(this.block, aboveAge)
                     .withProperty("leaves", "none")
                     .withProperty("stage", "0");
         }
@@ -16,7 +16,7 @@ public final class BannerPlacementRule extends BlockPlacementRule {
         var placePosition = placementState.placePosition();
         var belowBlock = instance.getBlock(placePosition.relative(BlockFace.BOTTOM));
 
-        if (!belowBlock.registry().collisionShape().isFaceFull(BlockFace.TOP)) {
+        if (!FaceSturdiness.isFull(belowBlock, BlockFace.TOP)) {
             return null;
         }
 
@@ -35,7 +35,7 @@ public final class BannerPlacementRule extends BlockPlacementRule {
         }
         var below = updateState.instance().getBlock(updateState.blockPosition().relative(BlockFace.BOTTOM));
 
-        if (!below.registry().collisionShape().isFaceFull(BlockFace.TOP)) {
+        if (!FaceSturdiness.isFull(below, BlockFace.TOP)) {
             return Block.AIR;
         }
         return updateState.currentBlock();
@@ -1,6 +1,5 @@
 package rocks.minestom.placement;
 
-import net.minestom.server.instance.Instance;
 import net.minestom.server.instance.block.Block;
 import net.minestom.server.instance.block.BlockFace;
 import net.minestom.server.instance.block.rule.BlockPlacementRule;
@@ -14,21 +13,12 @@ public final class BedPlacementRule extends BlockPlacementRule {
 
     @Override
     public Block blockPlace(@NotNull PlacementState placementState) {
-        if (!(placementState.instance() instanceof Instance instance)) {
-            return null;
-        }
-
+        var blockGetter = placementState.instance();
         var playerPosition = placementState.playerPosition();
         var yaw = playerPosition == null ? 0.0F : playerPosition.yaw();
         var facing = BlockFace.fromYaw(yaw);
         var placePosition = placementState.placePosition();
         var headPosition = placePosition.relative(facing);
-        var existingHeadBlock = instance.getBlock(headPosition);
-
-        if (!existingHeadBlock.registry().isReplaceable()) {
-            return null;
-        }
-
         var facingName = facing.name().toLowerCase();
         var headBlock = this.block
                 .withHandler(BedBlockHandler.INSTANCE)
@@ -36,13 +26,19 @@ public final class BedPlacementRule extends BlockPlacementRule {
                 .withProperty("part", "head")
                 .withProperty("occupied", "false");
 
-        instance.setBlock(headPosition, headBlock, false);
-
-        return this.block
+        var footBlock = this.block
                 .withHandler(BedBlockHandler.INSTANCE)
                 .withProperty("facing", facingName)
                 .withProperty("part", "foot")
                 .withProperty("occupied", "false");
+
+        if (EntityCollisionIndex.intersectsAnyEntity(blockGetter, placePosition, footBlock)) {
+            return null;
+        }
+
+        return MultiBlockPlacement.begin(blockGetter, placePosition)
+                .with(headPosition, headBlock)
+                .commit(footBlock);
     }
 
     @Override
@@ -43,15 +43,15 @@ public final class BellPlacementRule extends BlockPlacementRule {
         if (clickedFace == BlockFace.WEST || clickedFace == BlockFace.EAST) {
             var westNeighbor = blockGetter.getBlock(position.relative(BlockFace.WEST));
             var eastNeighbor = blockGetter.getBlock(position.relative(BlockFace.EAST));
-            return westNeighbor.registry().collisionShape().isFaceFull(BlockFace.EAST)
-                    && eastNeighbor.registry().collisionShape().isFaceFull(BlockFace.WEST);
+            return FaceSturdiness.isFull(westNeighbor, BlockFace.EAST)
+                    && FaceSturdiness.isFull(eastNeighbor, BlockFace.WEST);
         }
 
         if (clickedFace == BlockFace.NORTH || clickedFace == BlockFace.SOUTH) {
             var northNeighbor = blockGetter.getBlock(position.relative(BlockFace.NORTH));
             var southNeighbor = blockGetter.getBlock(position.relative(BlockFace.SOUTH));
-            return northNeighbor.registry().collisionShape().isFaceFull(BlockFace.SOUTH)
-                    && southNeighbor.registry().collisionShape().isFaceFull(BlockFace.NORTH);
+            return FaceSturdiness.isFull(northNeighbor, BlockFace.SOUTH)
+                    && FaceSturdiness.isFull(southNeighbor, BlockFace.NORTH);
         }
 
         return false;
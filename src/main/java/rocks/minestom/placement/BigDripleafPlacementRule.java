@@ -1,7 +1,5 @@
 package rocks.minestom.placement;
 
-import net.kyori.adventure.key.Key;
-import net.minestom.server.MinecraftServer;
 import net.minestom.server.instance.block.Block;
 import net.minestom.server.instance.block.BlockFace;
 import net.minestom.server.instance.block.rule.BlockPlacementRule;
@@ -17,10 +15,9 @@ public final class BigDripleafPlacementRule extends BlockPlacementRule {
         var instance = placementState.instance();
         var placePosition = placementState.placePosition();
         var belowBlock = instance.getBlock(placePosition.relative(BlockFace.BOTTOM));
-        var supportTag = MinecraftServer.process().blocks().getTag(Key.key("minecraft:supports_big_dripleaf"));
         var validSupport = belowBlock.compare(Block.BIG_DRIPLEAF)
                 || belowBlock.compare(Block.BIG_DRIPLEAF_STEM)
-                || (supportTag != null && supportTag.contains(belowBlock));
+                || BlockTag.SUPPORTS_BIG_DRIPLEAF.contains(belowBlock);
 
         if (!validSupport) {
             return null;
@@ -57,9 +54,7 @@ public final class BigDripleafPlacementRule extends BlockPlacementRule {
         if (below.compare(Block.BIG_DRIPLEAF) || below.compare(Block.BIG_DRIPLEAF_STEM)) {
             return updateState.currentBlock();
         }
-        var supportTag = MinecraftServer.process().blocks().getTag(Key.key("minecraft:supports_big_dripleaf"));
-
-        if (supportTag != null && supportTag.contains(below)) {
+        if (BlockTag.SUPPORTS_BIG_DRIPLEAF.contains(below)) {
             return updateState.currentBlock();
         }
         return Block.AIR;
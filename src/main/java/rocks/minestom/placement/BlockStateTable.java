@@ -0,0 +1,252 @@
+package rocks.minestom.placement;
+
+import net.minestom.server.instance.block.Block;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Compiled property layout of a single block type. Every state of the block is given a mixed-radix
+ * offset (one digit per property), so that replacing one property value is integer arithmetic and two
+ * flat array loads instead of a property-name lookup and a state search.
+ * <p>
+ * Rules resolve their property and value indices once, in the constructor, and then compose states
+ * through {@link #with} on raw state ids.
+ */
+final class BlockStateTable {
+    private static volatile BlockStateTable[] tables;
+
+    private final String[] names;
+    private final String[][] values;
+    private final int[] radix;
+    private final int[] stride;
+    private final int[] trueValue;
+    private final int[] falseValue;
+    private final int minStateId;
+    private final int[] offsetByState;
+    private final int[] stateByOffset;
+
+    private BlockStateTable(@NotNull Block block) {
+        var states = new ArrayList<>(block.possibleStates());
+        states.sort(Comparator.comparingInt(Block::stateId));
+        this.names = block.properties().keySet().stream().sorted().toArray(String[]::new);
+
+        var propertyCount = this.names.length;
+        var seenValues = new ArrayList<List<String>>(propertyCount);
+
+        for (var index = 0; index < propertyCount; index++) {
+            seenValues.add(new ArrayList<>());
+        }
+
+        for (var state : states) {
+            var properties = state.properties();
+
+            for (var index = 0; index < propertyCount; index++) {
+                var value = properties.get(this.names[index]);
+                var seen = seenValues.get(index);
+
+                if (!seen.contains(value)) {
+                    seen.add(value);
+                }
+            }
+        }
+
+        this.values = new String[propertyCount][];
+        this.radix = new int[propertyCount];
+        this.stride = new int[propertyCount];
+        var size = 1;
+
+        for (var index = propertyCount - 1; index >= 0; index--) {
+            this.values[index] = seenValues.get(index).toArray(String[]::new);
+            this.radix[index] = this.values[index].length;
+            this.stride[index] = size;
+            size *= this.radix[index];
+        }
+
+        this.trueValue = new int[propertyCount];
+        this.falseValue = new int[propertyCount];
+
+        for (var index = 0; index < propertyCount; index++) {
+            this.trueValue[index] = this.value(index, "true");
+            this.falseValue[index] = this.value(index, "false");
+        }
+
+        this.minStateId = states.getFirst().stateId();
+        this.offsetByState = new int[states.getLast().stateId() - this.minStateId + 1];
+        this.stateByOffset = new int[size];
+        Arrays.fill(this.offsetByState, -1);
+        Arrays.fill(this.stateByOffset, block.stateId());
+
+        for (var state : states) {
+            var properties = state.properties();
+            var offset = 0;
+
+            for (var index = 0; index < propertyCount; index++) {
+                offset += this.value(index, properties.get(this.names[index])) * this.stride[index];
+            }
+
+            this.offsetByState[state.stateId() - this.minStateId] = offset;
+            this.stateByOffset[offset] = state.stateId();
+        }
+    }
+
+    /**
+     * Returns the table of the given block's type, compiling every table on first use.
+     */
+    static @NotNull BlockStateTable of(@NotNull Block block) {
+        var tables = BlockStateTable.tables;
+
+        if (tables == null) {
+            tables = buildAll();
+        }
+
+        return tables[block.id()];
+    }
+
+    /**
+     * Compiles the tables of every registered block type.
+     */
+    static synchronized BlockStateTable[] buildAll() {
+        var existing = BlockStateTable.tables;
+
+        if (existing != null) {
+            return existing;
+        }
+
+        var blocks = Block.values();
+        var maxId = 0;
+
+        for (var block : blocks) {
+            maxId = Math.max(maxId, block.id());
+        }
+
+        var tables = new BlockStateTable[maxId + 1];
+
+        for (var block : blocks) {
+            tables[block.id()] = new BlockStateTable(block);
+        }
+
+        BlockStateTable.tables = tables;
+        return tables;
+    }
+
+    /**
+     * Returns the index of the named property, or {@code -1} if the block does not have it.
+     */
+    int property(@NotNull String name) {
+        for (var index = 0; index < this.names.length; index++) {
+            if (this.names[index].equals(name)) {
+                return index;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Returns the index of the value within the property, or {@code -1} if it is not a legal value.
+     */
+    int value(int property, @NotNull String value) {
+        if (property < 0) {
+            return -1;
+        }
+
+        var values = this.values[property];
+
+        for (var index = 0; index < values.length; index++) {
+            if (values[index].equals(value)) {
+                return index;
+            }
+        }
+
+        return -1;
+    }
+
+    int valueCount(int property) {
+        return property < 0 ? 0 : this.radix[property];
+    }
+
+    @NotNull String valueName(int property, int value) {
+        return this.values[property][value];
+    }
+
+    /**
+     * Returns the value index the given state holds for the property, or {@code -1} if the property
+     * is missing or the state does not belong to this block.
+     */
+    int valueIndex(int stateId, int property) {
+        var offset = this.offset(stateId);
+
+        if (property < 0 || offset < 0) {
+            return -1;
+        }
+
+        return offset / this.stride[property] % this.radix[property];
+    }
+
+    /**
+     * Returns the state id reached by replacing one property value of the given state. Missing
+     * properties and values leave the state unchanged.
+     */
+    int with(int stateId, int property, int value) {
+        var offset = this.offset(stateId);
+
+        if (property < 0 || value < 0 || offset < 0) {
+            return stateId;
+        }
+
+        var stride = this.stride[property];
+        var current = offset / stride % this.radix[property];
+        return this.stateByOffset[offset + (value - current) * stride];
+    }
+
+    int withBoolean(int stateId, int property, boolean value) {
+        if (property < 0) {
+            return stateId;
+        }
+
+        return this.with(stateId, property, value ? this.trueValue[property] : this.falseValue[property]);
+    }
+
+    boolean booleanValue(int stateId, int property) {
+        return property >= 0 && this.valueIndex(stateId, property) == this.trueValue[property];
+    }
+
+    /**
+     * Returns the block for the given state id, keeping the handler and nbt of {@code current}.
+     */
+    static @NotNull Block block(@NotNull Block current, int stateId) {
+        if (current.stateId() == stateId) {
+            return current;
+        }
+
+        var result = Block.fromStateId(stateId);
+
+        if (result == null) {
+            return current;
+        }
+
+        if (current.handler() != null) {
+            result = result.withHandler(current.handler());
+        }
+
+        if (current.nbt() != null) {
+            result = result.withNbt(current.nbt());
+        }
+
+        return result;
+    }
+
+    private int offset(int stateId) {
+        var index = stateId - this.minStateId;
+
+        if (index < 0 || index >= this.offsetByState.length) {
+            return -1;
+        }
+
+        return this.offsetByState[index];
+    }
+}
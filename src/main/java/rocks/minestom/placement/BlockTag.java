@@ -0,0 +1,119 @@
+package rocks.minestom.placement;
+
+import net.kyori.adventure.key.Key;
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.instance.block.Block;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.BitSet;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A block registry tag flattened into a bitset keyed by block id, so that membership checks on the
+ * placement hot path are a single array load instead of a {@link Key} allocation plus registry lookup.
+ * <p>
+ * Every tag is rebuilt by {@link Registrations#registerAllVanilla}; a tag first used before that is
+ * built lazily on its first {@link #contains} call.
+ */
+final class BlockTag {
+    private static final Map<Key, BlockTag> TAGS = new ConcurrentHashMap<>();
+    private static final long[] EMPTY = new long[0];
+
+    static final BlockTag ALL_HANGING_SIGNS = of("minecraft:all_hanging_signs");
+    static final BlockTag BUTTONS = of("minecraft:buttons");
+    static final BlockTag CANNOT_SUPPORT_SNOW_LAYER = of("minecraft:cannot_support_snow_layer");
+    static final BlockTag COPPER_CHESTS = of("minecraft:copper_chests");
+    static final BlockTag COPPER_DOORS = of("minecraft:copper_doors");
+    static final BlockTag COPPER_TRAPDOORS = of("minecraft:copper_trapdoors");
+    static final BlockTag DIRT = of("minecraft:dirt");
+    static final BlockTag DOORS = of("minecraft:doors");
+    static final BlockTag FENCE_GATES = of("minecraft:fence_gates");
+    static final BlockTag FENCES = of("minecraft:fences");
+    static final BlockTag JUNGLE_LOGS = of("minecraft:jungle_logs");
+    static final BlockTag LEAVES = of("minecraft:leaves");
+    static final BlockTag LOGS = of("minecraft:logs");
+    static final BlockTag MUSHROOM_GROW_BLOCK = of("minecraft:mushroom_grow_block");
+    static final BlockTag PRESSURE_PLATES = of("minecraft:pressure_plates");
+    static final BlockTag RAILS = of("minecraft:rails");
+    static final BlockTag SAND = of("minecraft:sand");
+    static final BlockTag SHULKER_BOXES = of("minecraft:shulker_boxes");
+    static final BlockTag SOUL_FIRE_BASE_BLOCKS = of("minecraft:soul_fire_base_blocks");
+    static final BlockTag STAIRS = of("minecraft:stairs");
+    static final BlockTag SUPPORT_OVERRIDE_CACTUS_FLOWER = of("minecraft:support_override_cactus_flower");
+    static final BlockTag SUPPORT_OVERRIDE_SNOW_LAYER = of("minecraft:support_override_snow_layer");
+    static final BlockTag SUPPORTS_BAMBOO = of("minecraft:supports_bamboo");
+    static final BlockTag SUPPORTS_BIG_DRIPLEAF = of("minecraft:supports_big_dripleaf");
+    static final BlockTag SUPPORTS_CACTUS = of("minecraft:supports_cactus");
+    static final BlockTag SUPPORTS_CHORUS_PLANT = of("minecraft:supports_chorus_plant");
+    static final BlockTag SUPPORTS_CROPS = of("minecraft:supports_crops");
+    static final BlockTag SUPPORTS_HANGING_MANGROVE_PROPAGULE = of("minecraft:supports_hanging_mangrove_propagule");
+    static final BlockTag SUPPORTS_MANGROVE_PROPAGULE = of("minecraft:supports_mangrove_propagule");
+    static final BlockTag SUPPORTS_SMALL_DRIPLEAF = of("minecraft:supports_small_dripleaf");
+    static final BlockTag SUPPORTS_VEGETATION = of("minecraft:supports_vegetation");
+    static final BlockTag WALLS = of("minecraft:walls");
+    static final BlockTag WOODEN_BUTTONS = of("minecraft:wooden_buttons");
+    static final BlockTag WOODEN_FENCES = of("minecraft:wooden_fences");
+
+    private final Key key;
+    private volatile long[] bits;
+
+    private BlockTag(@NotNull Key key) {
+        this.key = key;
+    }
+
+    /**
+     * Returns the shared index for the given tag key, creating it on first use.
+     */
+    static @NotNull BlockTag of(@NotNull Key key) {
+        return TAGS.computeIfAbsent(key, BlockTag::new);
+    }
+
+    private static @NotNull BlockTag of(@NotNull String key) {
+        return of(Key.key(key));
+    }
+
+    /**
+     * Rebuilds every known tag from the loaded registry data.
+     */
+    static void rebuildAll() {
+        for (var tag : TAGS.values()) {
+            tag.rebuild();
+        }
+    }
+
+    boolean contains(@NotNull Block block) {
+        var bits = this.bits;
+
+        if (bits == null) {
+            bits = this.rebuild();
+        }
+
+        var id = block.id();
+        var word = id >>> 6;
+        return word < bits.length && (bits[word] & 1L << id) != 0L;
+    }
+
+    private long[] rebuild() {
+        var tag = MinecraftServer.process().blocks().getTag(this.key);
+
+        if (tag == null) {
+            this.bits = EMPTY;
+            return EMPTY;
+        }
+
+        var members = new BitSet();
+
+        for (var entry : tag) {
+            var block = Block.fromKey(entry.key());
+
+            if (block != null) {
+                members.set(block.id());
+            }
+        }
+
+        var bits = members.toLongArray();
+        this.bits = bits;
+        return bits;
+    }
+}
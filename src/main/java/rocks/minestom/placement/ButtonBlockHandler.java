@@ -2,7 +2,6 @@ package rocks.minestom.placement;
 
 import net.kyori.adventure.key.Key;
 import net.kyori.adventure.sound.Sound;
-import net.minestom.server.MinecraftServer;
 import net.minestom.server.instance.block.Block;
 import net.minestom.server.instance.block.BlockHandler;
 import net.minestom.server.sound.SoundEvent;
@@ -12,8 +11,6 @@ import org.jetbrains.annotations.NotNull;
 public final class ButtonBlockHandler implements BlockHandler {
     public static final ButtonBlockHandler INSTANCE = new ButtonBlockHandler();
     private static final Key KEY = Key.key("placement:button");
-    private static final Key WOODEN_BUTTONS_TAG = Key.key("minecraft:wooden_buttons");
-    private static final Key BUTTONS_TAG = Key.key("minecraft:buttons");
     private static final int WOODEN_DELAY = 30;
     private static final int STONE_DELAY = 20;
 
@@ -26,6 +23,11 @@ public final class ButtonBlockHandler implements BlockHandler {
         return KEY;
     }
 
+    @Override
+    public void onDestroy(@NotNull Destroy destroy) {
+        RedstoneEngine.of(destroy.getInstance()).markSource(destroy.getBlockPosition());
+    }
+
     @Override
     public boolean onInteract(@NotNull Interaction interaction) {
         if (Utility.shouldSkipInteract(interaction)) {
@@ -44,6 +46,7 @@ public final class ButtonBlockHandler implements BlockHandler {
         var wooden = isWooden(block);
 
         instance.setBlock(blockPosition, pressedBlock);
+        RedstoneEngine.of(instance).markSource(blockPosition);
 
         var pressSound = Sound.sound(wooden ? SoundEvent.BLOCK_WOODEN_BUTTON_CLICK_ON : SoundEvent.BLOCK_STONE_BUTTON_CLICK_ON, Sound.Source.BLOCK, 0.3F, 0.6F);
         instance.playSound(pressSound, blockPosition.add(0.5D, 0.5D, 0.5D));
@@ -52,9 +55,7 @@ public final class ButtonBlockHandler implements BlockHandler {
 
         instance.scheduler().buildTask(() -> {
             var currentBlock = instance.getBlock(blockPosition);
-            var buttonsTag = MinecraftServer.process().blocks().getTag(BUTTONS_TAG);
-
-            if (buttonsTag == null || !buttonsTag.contains(currentBlock)) {
+            if (!BlockTag.BUTTONS.contains(currentBlock)) {
                 return;
             }
 
@@ -63,16 +64,14 @@ public final class ButtonBlockHandler implements BlockHandler {
             }
 
             instance.setBlock(blockPosition, currentBlock.withProperty("powered", "false"));
+            RedstoneEngine.of(instance).markSource(blockPosition);
             var releaseSound = Sound.sound(wooden ? SoundEvent.BLOCK_WOODEN_BUTTON_CLICK_OFF : SoundEvent.BLOCK_STONE_BUTTON_CLICK_OFF, Sound.Source.BLOCK, 0.3F, 0.5F);
             instance.playSound(releaseSound, blockPosition.add(0.5D, 0.5D, 0.5D));
         }).delay(TaskSchedule.tick(delay)).schedule();
-
-        // TODO: vanilla emits a redstone signal on the connected face; redstone is not simulated here
         return false;
     }
 
     private static boolean isWooden(@NotNull Block block) {
-        var tag = MinecraftServer.process().blocks().getTag(WOODEN_BUTTONS_TAG);
-        return tag != null && tag.contains(block);
+        return BlockTag.WOODEN_BUTTONS.contains(block);
     }
 }
@@ -1,7 +1,5 @@
 package rocks.minestom.placement;
 
-import net.kyori.adventure.key.Key;
-import net.minestom.server.MinecraftServer;
 import net.minestom.server.instance.block.Block;
 import net.minestom.server.instance.block.BlockFace;
 import net.minestom.server.instance.block.rule.BlockPlacementRule;
@@ -17,13 +15,11 @@ public final class CactusFlowerPlacementRule extends BlockPlacementRule {
         var instance = placementState.instance();
         var supportPosition = placementState.placePosition().relative(BlockFace.BOTTOM);
         var supportBlock = instance.getBlock(supportPosition);
-        var overrideTag = MinecraftServer.process().blocks().getTag(Key.key("minecraft:support_override_cactus_flower"));
-
-        if (overrideTag != null && overrideTag.contains(supportBlock)) {
+        if (BlockTag.SUPPORT_OVERRIDE_CACTUS_FLOWER.contains(supportBlock)) {
             return this.block;
         }
 
-        if (supportBlock.registry().collisionShape().isFaceFull(BlockFace.TOP)) {
+        if (FaceSturdiness.isFull(supportBlock, BlockFace.TOP)) {
             return this.block;
         }
         return null;
@@ -36,13 +32,11 @@ public final class CactusFlowerPlacementRule extends BlockPlacementRule {
             return updateState.currentBlock();
         }
         var below = updateState.instance().getBlock(updateState.blockPosition().relative(BlockFace.BOTTOM));
-        var overrideTag = MinecraftServer.process().blocks().getTag(Key.key("minecraft:support_override_cactus_flower"));
-
-        if (overrideTag != null && overrideTag.contains(below)) {
+        if (BlockTag.SUPPORT_OVERRIDE_CACTUS_FLOWER.contains(below)) {
             return updateState.currentBlock();
         }
 
-        if (below.registry().collisionShape().isFaceFull(BlockFace.TOP)) {
+        if (FaceSturdiness.isFull(below, BlockFace.TOP)) {
             return updateState.currentBlock();
         }
         return Block.AIR;
@@ -1,7 +1,5 @@
 package rocks.minestom.placement;
 
-import net.kyori.adventure.key.Key;
-import net.minestom.server.MinecraftServer;
 import net.minestom.server.instance.block.Block;
 import net.minestom.server.instance.block.BlockFace;
 import net.minestom.server.instance.block.rule.BlockPlacementRule;
@@ -36,9 +34,7 @@ public final class CactusPlacementRule extends BlockPlacementRule {
         if (supportBlock.compare(Block.CACTUS)) {
             return this.block;
         }
-        var supportsCactusTag = MinecraftServer.process().blocks().getTag(Key.key("minecraft:supports_cactus"));
-
-        if (supportsCactusTag != null && supportsCactusTag.contains(supportBlock)) {
+        if (BlockTag.SUPPORTS_CACTUS.contains(supportBlock)) {
             return this.block;
         }
         return null;
@@ -67,9 +63,7 @@ public final class CactusPlacementRule extends BlockPlacementRule {
         if (below.compare(Block.CACTUS)) {
             return updateState.currentBlock();
         }
-        var supportsCactusTag = MinecraftServer.process().blocks().getTag(Key.key("minecraft:supports_cactus"));
-
-        if (supportsCactusTag != null && supportsCactusTag.contains(below)) {
+        if (BlockTag.SUPPORTS_CACTUS.contains(below)) {
             return updateState.currentBlock();
         }
         return Block.AIR;
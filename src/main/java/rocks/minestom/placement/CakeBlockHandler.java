@@ -8,6 +8,7 @@ import org.jetbrains.annotations.NotNull;
 public final class CakeBlockHandler implements BlockHandler {
     public static final CakeBlockHandler INSTANCE = new CakeBlockHandler();
     private static final Key KEY = Key.key("placement:cake");
+    private static final IntProperty BITES = IntProperty.of("bites");
 
     private CakeBlockHandler() {
 
@@ -31,8 +32,7 @@ public final class CakeBlockHandler implements BlockHandler {
         }
 
         var block = interaction.getBlock();
-        var bitesProperty = block.getProperty("bites");
-        var bites = bitesProperty == null ? 0 : Integer.parseInt(bitesProperty);
+        var bites = BITES.get(block, 0);
         var instance = interaction.getInstance();
         var blockPosition = interaction.getBlockPosition();
 
@@ -43,7 +43,7 @@ public final class CakeBlockHandler implements BlockHandler {
         if (bites >= 6) {
             instance.setBlock(blockPosition, Block.AIR);
         } else {
-            instance.setBlock(blockPosition, block.withProperty("bites", String.valueOf(bites + 1)));
+            instance.setBlock(blockPosition, BITES.with(block, bites + 1));
         }
 
         return false;
@@ -6,6 +6,8 @@ import net.minestom.server.instance.block.rule.BlockPlacementRule;
 import org.jetbrains.annotations.NotNull;
 
 public final class CandlePlacementRule extends BlockPlacementRule {
+    private static final IntProperty CANDLES = IntProperty.of("candles");
+
     public CandlePlacementRule(@NotNull Block block) {
         super(block);
     }
@@ -17,17 +19,16 @@ public final class CandlePlacementRule extends BlockPlacementRule {
         var existingBlock = instance.getBlock(placePosition);
 
         if (existingBlock.compare(this.block)) {
-            var candlesProperty = existingBlock.getProperty("candles");
-            var candles = candlesProperty == null ? 1 : Integer.parseInt(candlesProperty);
+            var candles = CANDLES.get(existingBlock, 1);
 
             if (candles < 4) {
-                return existingBlock.withProperty("candles", Integer.toString(candles + 1));
+                return CANDLES.with(existingBlock, candles + 1);
             }
         }
 
         var belowBlock = instance.getBlock(placePosition.relative(BlockFace.BOTTOM));
 
-        if (!belowBlock.registry().collisionShape().isFaceFull(BlockFace.TOP)) {
+        if (!FaceSturdiness.isFull(belowBlock, BlockFace.TOP)) {
             return null;
         }
 
@@ -48,7 +49,7 @@ public final class CandlePlacementRule extends BlockPlacementRule {
         }
         var below = updateState.instance().getBlock(updateState.blockPosition().relative(BlockFace.BOTTOM));
 
-        if (!below.registry().collisionShape().isFaceFull(BlockFace.TOP)) {
+        if (!FaceSturdiness.isFull(below, BlockFace.TOP)) {
             return Block.AIR;
         }
         return updateState.currentBlock();
@@ -1,13 +1,13 @@
 package rocks.minestom.placement;
 
-import net.kyori.adventure.key.Key;
-import net.minestom.server.MinecraftServer;
 import net.minestom.server.instance.block.Block;
 import net.minestom.server.instance.block.BlockFace;
 import net.minestom.server.instance.block.rule.BlockPlacementRule;
 import org.jetbrains.annotations.NotNull;
 
 public final class CeilingHangingSignPlacementRule extends BlockPlacementRule {
+    private static final IntProperty ROTATION = IntProperty.of("rotation");
+
     public CeilingHangingSignPlacementRule(@NotNull Block block) {
         super(block);
     }
@@ -21,7 +21,7 @@ public final class CeilingHangingSignPlacementRule extends BlockPlacementRule {
         var placePosition = placementState.placePosition();
         var abovePosition = placePosition.relative(BlockFace.TOP);
         var blockAbove = instance.getBlock(abovePosition);
-        var aboveFaceFull = blockAbove.registry().collisionShape().isFaceFull(BlockFace.BOTTOM);
+        var aboveFaceFull = FaceSturdiness.isFull(blockAbove, BlockFace.BOTTOM);
         var shifting = placementState.isPlayerShifting();
         var attachedToMiddle = !aboveFaceFull || shifting;
         var hangingFromSign = false;
@@ -35,10 +35,10 @@ public final class CeilingHangingSignPlacementRule extends BlockPlacementRule {
                     hangingFromSign = true;
                 }
             } else {
-                var aboveRotationProperty = blockAbove.getProperty("rotation");
+                var aboveRotation = ROTATION.get(blockAbove, -1);
 
-                if (aboveRotationProperty != null) {
-                    var aboveDirection = segmentToDirection(Integer.parseInt(aboveRotationProperty));
+                if (aboveRotation >= 0) {
+                    var aboveDirection = segmentToDirection(aboveRotation);
 
                     if (aboveDirection != null && sameHorizontalAxis(aboveDirection, direction)) {
                         attachedToMiddle = false;
@@ -72,7 +72,7 @@ public final class CeilingHangingSignPlacementRule extends BlockPlacementRule {
         }
         var currentBlock = updateState.currentBlock();
         var aboveBlock = updateState.instance().getBlock(updateState.blockPosition().relative(BlockFace.TOP));
-        var aboveFaceFull = aboveBlock.registry().collisionShape().isFaceFull(BlockFace.BOTTOM);
+        var aboveFaceFull = FaceSturdiness.isFull(aboveBlock, BlockFace.BOTTOM);
 
         if (aboveFaceFull) {
             return currentBlock;
@@ -81,12 +81,12 @@ public final class CeilingHangingSignPlacementRule extends BlockPlacementRule {
         if (!isHangingSign(aboveBlock)) {
             return Block.AIR;
         }
-        var rotationProperty = currentBlock.getProperty("rotation");
+        var rotation = ROTATION.get(currentBlock, -1);
 
-        if (rotationProperty == null) {
+        if (rotation < 0) {
             return Block.AIR;
         }
-        var direction = segmentToDirection(Integer.parseInt(rotationProperty));
+        var direction = segmentToDirection(rotation);
 
         if (direction == null) {
             return Block.AIR;
@@ -96,12 +96,12 @@ public final class CeilingHangingSignPlacementRule extends BlockPlacementRule {
         if (aboveFacing != null) {
             return sameHorizontalAxis(aboveFacing, direction) ? currentBlock : Block.AIR;
         }
-        var aboveRotationProperty = aboveBlock.getProperty("rotation");
+        var aboveRotation = ROTATION.get(aboveBlock, -1);
 
-        if (aboveRotationProperty == null) {
+        if (aboveRotation < 0) {
             return Block.AIR;
         }
-        var aboveDirection = segmentToDirection(Integer.parseInt(aboveRotationProperty));
+        var aboveDirection = segmentToDirection(aboveRotation);
 
         if (aboveDirection == null) {
             return Block.AIR;
@@ -110,8 +110,7 @@ public final class CeilingHangingSignPlacementRule extends BlockPlacementRule {
     }
 
     private static boolean isHangingSign(@NotNull Block block) {
-        var tag = MinecraftServer.process().blocks().getTag(Key.key("minecraft:all_hanging_signs"));
-        return tag != null && tag.contains(block);
+        return BlockTag.ALL_HANGING_SIGNS.contains(block);
     }
 
     private static boolean sameHorizontalAxis(@NotNull String facingName, @NotNull BlockFace other) {
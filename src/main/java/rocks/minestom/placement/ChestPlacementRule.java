@@ -7,7 +7,11 @@ import net.minestom.server.instance.block.rule.BlockPlacementRule;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.Objects;
+
 public final class ChestPlacementRule extends BlockPlacementRule {
+    private static final EnumProperty<BlockFace> FACING = EnumProperty.facing();
+
     public ChestPlacementRule(@NotNull Block block) {
         super(block);
     }
@@ -45,6 +49,33 @@ public final class ChestPlacementRule extends BlockPlacementRule {
                 .withProperty("waterlogged", waterlogged ? "true" : "false");
     }
 
+    @Override
+    public Block blockUpdate(@NotNull UpdateState updateState) {
+        var currentBlock = updateState.currentBlock();
+        var fromFace = updateState.fromFace();
+
+        if (fromFace == BlockFace.TOP || fromFace == BlockFace.BOTTOM) {
+            return currentBlock;
+        }
+
+        var neighborBlock = updateState.instance().getBlock(updateState.blockPosition().relative(fromFace));
+
+        if (canConnect(this.block, neighborBlock)) {
+            var neighborType = neighborBlock.getProperty("type");
+
+            if ("single".equals(currentBlock.getProperty("type"))
+                    && !"single".equals(neighborType)
+                    && Objects.equals(currentBlock.getProperty("facing"), neighborBlock.getProperty("facing"))
+                    && connectedDirection(neighborBlock) == fromFace.getOppositeFace()) {
+                return currentBlock.withProperty("type", "left".equals(neighborType) ? "right" : "left");
+            }
+        } else if (connectedDirection(currentBlock) == fromFace) {
+            return currentBlock.withProperty("type", "single");
+        }
+
+        return currentBlock;
+    }
+
     private @NotNull String getChestType(@NotNull Block.Getter blockGetter, @NotNull Point position, @NotNull BlockFace facing) {
         if (facing == this.candidatePartnerFacing(blockGetter, position, clockwise(facing))) {
             return "left";
@@ -56,7 +87,7 @@ public final class ChestPlacementRule extends BlockPlacementRule {
     private @Nullable BlockFace candidatePartnerFacing(@NotNull Block.Getter blockGetter, @NotNull Point position, @NotNull BlockFace neighborDirection) {
         var neighborBlock = blockGetter.getBlock(position.relative(neighborDirection));
 
-        if (!neighborBlock.compare(this.block)) {
+        if (!canConnect(this.block, neighborBlock)) {
             return null;
         }
 
@@ -66,13 +97,28 @@ public final class ChestPlacementRule extends BlockPlacementRule {
             return null;
         }
 
-        var neighborFacing = neighborBlock.getProperty("facing");
+        return FACING.get(neighborBlock, null);
+    }
+
+    /**
+     * Chests pair with the same block, except copper chests, which pair across every oxidation stage.
+     */
+    private static boolean canConnect(@NotNull Block chest, @NotNull Block neighbor) {
+        return neighbor.compare(chest) || BlockTag.COPPER_CHESTS.contains(chest) && BlockTag.COPPER_CHESTS.contains(neighbor);
+    }
+
+    /**
+     * Direction of the other half of a double chest, or {@code null} for a single chest.
+     */
+    private static @Nullable BlockFace connectedDirection(@NotNull Block chest) {
+        var facing = FACING.get(chest, null);
+        var type = chest.getProperty("type");
 
-        if (neighborFacing == null) {
+        if (facing == null || type == null || "single".equals(type)) {
             return null;
         }
 
-        return BlockFace.valueOf(neighborFacing.toUpperCase());
+        return "left".equals(type) ? clockwise(facing) : counterClockwise(facing);
     }
 
     private static BlockFace clockwise(@NotNull BlockFace face) {
@@ -1,12 +1,9 @@
 package rocks.minestom.placement;
 
-import net.kyori.adventure.key.Key;
-import net.minestom.server.MinecraftServer;
 import net.minestom.server.coordinate.Point;
 import net.minestom.server.instance.block.Block;
 import net.minestom.server.instance.block.BlockFace;
 import net.minestom.server.instance.block.rule.BlockPlacementRule;
-import net.minestom.server.registry.RegistryTag;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -19,10 +16,9 @@ public final class ChorusPlantPlacementRule extends BlockPlacementRule {
     public Block blockPlace(@NotNull PlacementState placementState) {
         var blockGetter = placementState.instance();
         var placePosition = placementState.placePosition();
-        var supportsTag = MinecraftServer.process().blocks().getTag(Key.key("minecraft:supports_chorus_plant"));
 
         return this.block
-                .withProperty("down", String.valueOf(this.connects(blockGetter, placePosition, BlockFace.BOTTOM, supportsTag)))
+                .withProperty("down", String.valueOf(this.connects(blockGetter, placePosition, BlockFace.BOTTOM, BlockTag.SUPPORTS_CHORUS_PLANT)))
                 .withProperty("up", String.valueOf(this.connects(blockGetter, placePosition, BlockFace.TOP, null)))
                 .withProperty("north", String.valueOf(this.connects(blockGetter, placePosition, BlockFace.NORTH, null)))
                 .withProperty("east", String.valueOf(this.connects(blockGetter, placePosition, BlockFace.EAST, null)))
@@ -30,7 +26,7 @@ public final class ChorusPlantPlacementRule extends BlockPlacementRule {
                 .withProperty("west", String.valueOf(this.connects(blockGetter, placePosition, BlockFace.WEST, null)));
     }
 
-    private boolean connects(@NotNull Block.Getter blockGetter, @NotNull Point placePosition, @NotNull BlockFace face, @Nullable RegistryTag<Block> supportsTag) {
+    private boolean connects(@NotNull Block.Getter blockGetter, @NotNull Point placePosition, @NotNull BlockFace face, @Nullable BlockTag supportsTag) {
         var neighbor = blockGetter.getBlock(placePosition.relative(face));
 
         if (neighbor.compare(this.block) || neighbor.compare(Block.CHORUS_FLOWER)) {
@@ -0,0 +1,182 @@
+package rocks.minestom.placement;
+
+import net.minestom.server.coordinate.Point;
+import net.minestom.server.instance.Instance;
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.instance.palette.Palette;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Copy of the block states around a position, readable from any thread. Only the block palettes of the
+ * sections overlapping the requested box are cloned, at most eight for a box that fits in a section, so
+ * capturing costs a few array copies. Block handlers and nbt are not copied; positions in sections that
+ * were not loaded, or outside the copied box, read as air.
+ * <p>
+ * A snapshot serves a single rule evaluation, and also collects what that evaluation needs from the
+ * live world: partner blocks to write along with the result, or the instance itself. Every read is
+ * recorded with the state id it returned, so the result can be checked against the live world before
+ * it is applied.
+ */
+final class ChunkSnapshot implements Block.Getter {
+    private final int minSectionX;
+    private final int minSectionY;
+    private final int minSectionZ;
+    private final int sizeX;
+    private final int sizeY;
+    private final int sizeZ;
+    private final Palette[] palettes;
+    private final int minY;
+    private final int maxY;
+    private final List<Point> partnerPositions = new ArrayList<>(1);
+    private final List<Block> partnerBlocks = new ArrayList<>(1);
+    private final PositionQueue reads = new PositionQueue(32);
+    private boolean needsInstance;
+
+    private ChunkSnapshot(int minSectionX, int minSectionY, int minSectionZ, int sizeX, int sizeY, int sizeZ, int minY, int maxY) {
+        this.minSectionX = minSectionX;
+        this.minSectionY = minSectionY;
+        this.minSectionZ = minSectionZ;
+        this.sizeX = sizeX;
+        this.sizeY = sizeY;
+        this.sizeZ = sizeZ;
+        this.palettes = new Palette[sizeX * sizeY * sizeZ];
+        this.minY = minY;
+        this.maxY = maxY;
+    }
+
+    /**
+     * Copies the sections holding every block within {@code radius} blocks of {@code center} on each
+     * axis. Must be called from the thread that ticks the instance.
+     */
+    static @NotNull ChunkSnapshot capture(@NotNull Instance instance, @NotNull Point center, int radius) {
+        var dimensionType = instance.getCachedDimensionType();
+        var minSectionX = (center.blockX() - radius) >> 4;
+        var maxSectionX = (center.blockX() + radius) >> 4;
+        var minSectionY = (center.blockY() - radius) >> 4;
+        var maxSectionY = (center.blockY() + radius) >> 4;
+        var minSectionZ = (center.blockZ() - radius) >> 4;
+        var maxSectionZ = (center.blockZ() + radius) >> 4;
+        var minWorldSection = dimensionType.minY() >> 4;
+        var maxWorldSection = (dimensionType.maxY() - 1) >> 4;
+        var snapshot = new ChunkSnapshot(minSectionX, minSectionY, minSectionZ,
+                maxSectionX - minSectionX + 1, maxSectionY - minSectionY + 1, maxSectionZ - minSectionZ + 1,
+                dimensionType.minY(), dimensionType.maxY());
+
+        for (var sectionX = minSectionX; sectionX <= maxSectionX; sectionX++) {
+            for (var sectionZ = minSectionZ; sectionZ <= maxSectionZ; sectionZ++) {
+                var chunk = instance.getChunk(sectionX, sectionZ);
+
+                if (chunk == null) {
+                    continue;
+                }
+
+                for (var sectionY = Math.max(minSectionY, minWorldSection); sectionY <= Math.min(maxSectionY, maxWorldSection); sectionY++) {
+                    snapshot.palettes[snapshot.index(sectionX, sectionY, sectionZ)] = chunk.getSection(sectionY).blockPalette().clone();
+                }
+            }
+        }
+
+        return snapshot;
+    }
+
+    @Override
+    public Block getBlock(int x, int y, int z, @NotNull Condition condition) {
+        var palette = this.palette(x, y, z);
+        var stateId = palette == null ? Block.AIR.stateId() : palette.get(x & 15, y & 15, z & 15);
+        this.reads.add(PositionQueue.pack(x, y, z), stateId);
+        var block = Block.fromStateId(stateId);
+        return block == null ? Block.AIR : block;
+    }
+
+    /**
+     * Whether every block read through this snapshot still has the state it had when it was read.
+     * Positions outside the world or in chunks that are no longer loaded are skipped. Must be called
+     * from the thread that ticks the instance.
+     */
+    boolean isCurrent(@NotNull Instance instance) {
+        for (var index = 0; index < this.reads.size(); index++) {
+            var position = this.reads.position(index);
+            var x = PositionQueue.unpackX(position);
+            var y = PositionQueue.unpackY(position);
+            var z = PositionQueue.unpackZ(position);
+
+            if (y < this.minY || y >= this.maxY || !instance.isChunkLoaded(x >> 4, z >> 4)) {
+                continue;
+            }
+
+            if (instance.getBlock(x, y, z, Condition.TYPE).stateId() != this.reads.mask(index)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Lowest block Y of the world, inclusive.
+     */
+    int minY() {
+        return this.minY;
+    }
+
+    /**
+     * Highest block Y of the world, exclusive.
+     */
+    int maxY() {
+        return this.maxY;
+    }
+
+    /**
+     * Whether the position was copied from a loaded chunk.
+     */
+    boolean isLoaded(@NotNull Point position) {
+        return this.palette(position.blockX(), position.blockY(), position.blockZ()) != null;
+    }
+
+    /**
+     * Records that the rule needs the live instance, so its result against this snapshot is discarded.
+     */
+    void requestInstance() {
+        this.needsInstance = true;
+    }
+
+    boolean needsInstance() {
+        return this.needsInstance;
+    }
+
+    /**
+     * Adds a partner block to write along with the rule's result.
+     */
+    void addPartner(@NotNull Point position, @NotNull Block block) {
+        this.partnerPositions.add(position);
+        this.partnerBlocks.add(block);
+    }
+
+    @NotNull List<Point> partnerPositions() {
+        return this.partnerPositions;
+    }
+
+    @NotNull List<Block> partnerBlocks() {
+        return this.partnerBlocks;
+    }
+
+    private @Nullable Palette palette(int x, int y, int z) {
+        var sectionX = (x >> 4) - this.minSectionX;
+        var sectionY = (y >> 4) - this.minSectionY;
+        var sectionZ = (z >> 4) - this.minSectionZ;
+
+        if (sectionX < 0 || sectionY < 0 || sectionZ < 0 || sectionX >= this.sizeX || sectionY >= this.sizeY || sectionZ >= this.sizeZ) {
+            return null;
+        }
+
+        return this.palettes[(sectionY * this.sizeZ + sectionZ) * this.sizeX + sectionX];
+    }
+
+    private int index(int sectionX, int sectionY, int sectionZ) {
+        return ((sectionY - this.minSectionY) * this.sizeZ + sectionZ - this.minSectionZ) * this.sizeX + sectionX - this.minSectionX;
+    }
+}
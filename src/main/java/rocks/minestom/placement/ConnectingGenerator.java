@@ -0,0 +1,337 @@
+package rocks.minestom.placement;
+
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.coordinate.Point;
+import net.minestom.server.coordinate.Vec;
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.instance.generator.GenerationUnit;
+import net.minestom.server.instance.generator.Generator;
+import net.minestom.server.instance.generator.UnitModifier;
+import net.minestom.server.registry.RegistryKey;
+import net.minestom.server.world.biome.Biome;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Generator decorator that connects the fences, walls, panes, bars and stairs its delegate generates.
+ * The delegate writes through a unit whose modifier mirrors every block into a buffer spanning the whole
+ * unit, all sections included, so shapes are resolved against the unit's final contents before they
+ * reach the chunk. Only blocks whose shape changed are written a second time.
+ * <p>
+ * The buffer is allocated on the unit's first write and records every write after it, so connectable
+ * blocks see the terrain and structures written before them. Units in which no connectable block was
+ * written skip the resolve pass.
+ * <p>
+ * Each unit gets its own buffer, so the decorator is safe under parallel chunk generation. Neighbors
+ * outside the unit are not generated yet and read as air. Subdivided and forked units record into the
+ * same buffer, but blocks that forks write are applied by Minestom as written, unresolved.
+ */
+public final class ConnectingGenerator implements Generator {
+    private final Generator delegate;
+
+    public ConnectingGenerator(@NotNull Generator delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public void generate(@NotNull GenerationUnit unit) {
+        var buffer = new UnitBuffer(unit);
+        this.delegate.generate(new RecordingUnit(unit, buffer));
+        buffer.resolve();
+    }
+
+    /**
+     * Blocks written into a unit, relative to its start. Positions outside the unit are ignored.
+     */
+    private static final class UnitBuffer {
+        private final UnitModifier modifier;
+        private final Point start;
+        private final int startX;
+        private final int startY;
+        private final int startZ;
+        private final int sizeX;
+        private final int sizeY;
+        private final int sizeZ;
+        private @Nullable PlacementRegion region;
+        private boolean hasConnectable;
+        private int lastCheckedId = -1;
+        private boolean lastConnectable;
+
+        UnitBuffer(@NotNull GenerationUnit unit) {
+            var size = unit.size();
+            this.modifier = unit.modifier();
+            this.start = unit.absoluteStart();
+            this.startX = this.start.blockX();
+            this.startY = this.start.blockY();
+            this.startZ = this.start.blockZ();
+            this.sizeX = size.blockX();
+            this.sizeY = size.blockY();
+            this.sizeZ = size.blockZ();
+        }
+
+        void record(int x, int y, int z, @NotNull Block block) {
+            var relativeX = x - this.startX;
+            var relativeY = y - this.startY;
+            var relativeZ = z - this.startZ;
+
+            if (relativeX < 0 || relativeY < 0 || relativeZ < 0 || relativeX >= this.sizeX || relativeY >= this.sizeY || relativeZ >= this.sizeZ) {
+                return;
+            }
+
+            this.region(block).set(relativeX, relativeY, relativeZ, block);
+        }
+
+        /**
+         * Records a box of blocks between two absolute corners, the maximum exclusive.
+         */
+        void recordBox(int minX, int minY, int minZ, int maxX, int maxY, int maxZ, @NotNull Block block) {
+            var fromX = Math.max(minX - this.startX, 0);
+            var fromY = Math.max(minY - this.startY, 0);
+            var fromZ = Math.max(minZ - this.startZ, 0);
+            var toX = Math.min(maxX - this.startX, this.sizeX);
+            var toY = Math.min(maxY - this.startY, this.sizeY);
+            var toZ = Math.min(maxZ - this.startZ, this.sizeZ);
+
+            if (fromX >= toX || fromY >= toY || fromZ >= toZ) {
+                return;
+            }
+
+            var region = this.region(block);
+
+            for (var y = fromY; y < toY; y++) {
+                for (var z = fromZ; z < toZ; z++) {
+                    for (var x = fromX; x < toX; x++) {
+                        region.set(x, y, z, block);
+                    }
+                }
+            }
+        }
+
+        /**
+         * Resolves the shape of every connectable block in the unit, top layer first, and writes back the
+         * ones that changed.
+         */
+        void resolve() {
+            var region = this.region;
+
+            if (region == null || !this.hasConnectable) {
+                return;
+            }
+
+            var blockManager = MinecraftServer.getBlockManager();
+            Block.Getter view = (x, y, z, condition) -> {
+                var relativeX = x - this.startX;
+                var relativeY = y - this.startY;
+                var relativeZ = z - this.startZ;
+
+                if (!region.contains(relativeX, relativeY, relativeZ)) {
+                    return Block.AIR;
+                }
+
+                var block = region.get(relativeX, relativeY, relativeZ);
+                return block == null ? Block.AIR : block;
+            };
+
+            var lastId = -1;
+            ShapeResolvingRule rule = null;
+
+            for (var y = this.sizeY - 1; y >= 0; y--) {
+                for (var z = 0; z < this.sizeZ; z++) {
+                    for (var x = 0; x < this.sizeX; x++) {
+                        var block = region.get(x, y, z);
+
+                        if (block == null) {
+                            continue;
+                        }
+
+                        if (block.id() != lastId) {
+                            lastId = block.id();
+                            rule = InstrumentedPlacementRule.unwrap(blockManager.getBlockPlacementRule(block)) instanceof ShapeResolvingRule resolving ? resolving : null;
+                        }
+
+                        if (rule == null) {
+                            continue;
+                        }
+
+                        var position = new Vec(this.startX + x, this.startY + y, this.startZ + z);
+                        var resolved = rule.resolveShape(view, position, block);
+
+                        if (resolved.stateId() != block.stateId()) {
+                            region.set(x, y, z, resolved);
+                            this.modifier.setBlock(position, resolved);
+                        }
+                    }
+                }
+            }
+        }
+
+        /**
+         * Returns the buffer, allocating it on the first write, and notes whether {@code block} is connectable.
+         */
+        private @NotNull PlacementRegion region(@NotNull Block block) {
+            if (!this.hasConnectable && this.isConnectable(block)) {
+                this.hasConnectable = true;
+            }
+
+            var region = this.region;
+
+            if (region == null) {
+                region = new PlacementRegion(this.start, this.sizeX, this.sizeY, this.sizeZ);
+                this.region = region;
+            }
+
+            return region;
+        }
+
+        private boolean isConnectable(@NotNull Block block) {
+            // generators write long runs of the same block, so only look the rule up when the block changes
+            if (block.id() != this.lastCheckedId) {
+                this.lastCheckedId = block.id();
+                this.lastConnectable = InstrumentedPlacementRule.unwrap(MinecraftServer.getBlockManager().getBlockPlacementRule(block)) instanceof ShapeResolvingRule;
+            }
+
+            return this.lastConnectable;
+        }
+    }
+
+    /**
+     * The unit handed to the delegate: identical to the real one, except that its modifier, and the
+     * modifiers of its subdivisions and forks, record every block they write.
+     */
+    private static final class RecordingUnit implements GenerationUnit {
+        private final GenerationUnit delegate;
+        private final UnitBuffer buffer;
+        private final RecordingModifier modifier;
+
+        RecordingUnit(@NotNull GenerationUnit delegate, @NotNull UnitBuffer buffer) {
+            this.delegate = delegate;
+            this.buffer = buffer;
+            this.modifier = new RecordingModifier(delegate.modifier(), buffer, delegate.absoluteStart(), delegate.absoluteEnd());
+        }
+
+        @Override
+        public @NotNull UnitModifier modifier() {
+            return this.modifier;
+        }
+
+        @Override
+        public @NotNull Point size() {
+            return this.delegate.size();
+        }
+
+        @Override
+        public @NotNull Point absoluteStart() {
+            return this.delegate.absoluteStart();
+        }
+
+        @Override
+        public @NotNull Point absoluteEnd() {
+            return this.delegate.absoluteEnd();
+        }
+
+        @Override
+        public @NotNull GenerationUnit fork(@NotNull Point start, @NotNull Point end) {
+            return new RecordingUnit(this.delegate.fork(start, end), this.buffer);
+        }
+
+        @Override
+        public void fork(@NotNull Consumer<Block.Setter> consumer) {
+            this.delegate.fork(setter -> consumer.accept((x, y, z, block) -> {
+                this.buffer.record(x, y, z, block);
+                setter.setBlock(x, y, z, block);
+            }));
+        }
+
+        @Override
+        public @NotNull List<GenerationUnit> subdivide() {
+            var units = this.delegate.subdivide();
+            var recording = new ArrayList<GenerationUnit>(units.size());
+
+            for (var unit : units) {
+                recording.add(new RecordingUnit(unit, this.buffer));
+            }
+
+            return recording;
+        }
+    }
+
+    private static final class RecordingModifier implements UnitModifier {
+        private final UnitModifier delegate;
+        private final UnitBuffer buffer;
+        private final Point end;
+        private final int startX;
+        private final int startY;
+        private final int startZ;
+
+        RecordingModifier(@NotNull UnitModifier delegate, @NotNull UnitBuffer buffer, @NotNull Point start, @NotNull Point end) {
+            this.delegate = delegate;
+            this.buffer = buffer;
+            this.end = end;
+            this.startX = start.blockX();
+            this.startY = start.blockY();
+            this.startZ = start.blockZ();
+        }
+
+        @Override
+        public void setBlock(int x, int y, int z, @NotNull Block block) {
+            this.buffer.record(x, y, z, block);
+            this.delegate.setBlock(x, y, z, block);
+        }
+
+        @Override
+        public void setRelative(int x, int y, int z, @NotNull Block block) {
+            this.buffer.record(this.startX + x, this.startY + y, this.startZ + z, block);
+            this.delegate.setRelative(x, y, z, block);
+        }
+
+        @Override
+        public void setAll(@NotNull Supplier supplier) {
+            this.delegate.setAll((x, y, z) -> {
+                var block = supplier.get(x, y, z);
+                this.buffer.record(x, y, z, block);
+                return block;
+            });
+        }
+
+        @Override
+        public void setAllRelative(@NotNull Supplier supplier) {
+            this.delegate.setAllRelative((x, y, z) -> {
+                var block = supplier.get(x, y, z);
+                this.buffer.record(this.startX + x, this.startY + y, this.startZ + z, block);
+                return block;
+            });
+        }
+
+        @Override
+        public void fill(@NotNull Block block) {
+            this.buffer.recordBox(this.startX, this.startY, this.startZ, this.end.blockX(), this.end.blockY(), this.end.blockZ(), block);
+            this.delegate.fill(block);
+        }
+
+        @Override
+        public void fill(@NotNull Point start, @NotNull Point end, @NotNull Block block) {
+            this.buffer.recordBox(start.blockX(), start.blockY(), start.blockZ(), end.blockX(), end.blockY(), end.blockZ(), block);
+            this.delegate.fill(start, end, block);
+        }
+
+        @Override
+        public void fillHeight(int minHeight, int maxHeight, @NotNull Block block) {
+            this.buffer.recordBox(this.startX, minHeight, this.startZ, this.end.blockX(), maxHeight, this.end.blockZ(), block);
+            this.delegate.fillHeight(minHeight, maxHeight, block);
+        }
+
+        @Override
+        public void fillBiome(@NotNull RegistryKey<Biome> biome) {
+            this.delegate.fillBiome(biome);
+        }
+
+        @Override
+        public void setBiome(int x, int y, int z, @NotNull RegistryKey<Biome> biome) {
+            this.delegate.setBiome(x, y, z, biome);
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package rocks.minestom.placement;
+
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.instance.block.BlockFace;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Shared neighbor classification for walls, fences and panes. Every block type is assigned a set of
+ * connection flags once, so a neighbor probe is one array load followed by at most a sturdiness check,
+ * rather than tag lookups and a scan over the cross-connecting blocks.
+ */
+final class ConnectionEngine {
+    private static final int WALL = 1;
+    private static final int FENCE = 1 << 1;
+    private static final int WOODEN_FENCE = 1 << 2;
+    private static final int FENCE_GATE = 1 << 3;
+    private static final int CROSS_CONNECTING = 1 << 4;
+    private static final int EXCEPTION = 1 << 5;
+
+    private static final Block[] CROSS_CONNECTING_BLOCKS = {
+            Block.IRON_BARS,
+            Block.COPPER_BARS,
+            Block.EXPOSED_COPPER_BARS,
+            Block.WEATHERED_COPPER_BARS,
+            Block.OXIDIZED_COPPER_BARS,
+            Block.WAXED_COPPER_BARS,
+            Block.WAXED_EXPOSED_COPPER_BARS,
+            Block.WAXED_WEATHERED_COPPER_BARS,
+            Block.WAXED_OXIDIZED_COPPER_BARS,
+            Block.GLASS_PANE,
+            Block.WHITE_STAINED_GLASS_PANE,
+            Block.LIGHT_GRAY_STAINED_GLASS_PANE,
+            Block.GRAY_STAINED_GLASS_PANE,
+            Block.BLACK_STAINED_GLASS_PANE,
+            Block.BROWN_STAINED_GLASS_PANE,
+            Block.RED_STAINED_GLASS_PANE,
+            Block.ORANGE_STAINED_GLASS_PANE,
+            Block.YELLOW_STAINED_GLASS_PANE,
+            Block.LIME_STAINED_GLASS_PANE,
+            Block.GREEN_STAINED_GLASS_PANE,
+            Block.CYAN_STAINED_GLASS_PANE,
+            Block.LIGHT_BLUE_STAINED_GLASS_PANE,
+            Block.BLUE_STAINED_GLASS_PANE,
+            Block.PURPLE_STAINED_GLASS_PANE,
+            Block.MAGENTA_STAINED_GLASS_PANE,
+            Block.PINK_STAINED_GLASS_PANE
+    };
+
+    /**
+     * Blocks that are sturdy but never attach to walls, fences or panes, besides leaves and shulker boxes.
+     */
+    private static final Block[] EXCEPTION_BLOCKS = {
+            Block.BARRIER,
+            Block.CARVED_PUMPKIN,
+            Block.JACK_O_LANTERN,
+            Block.MELON,
+            Block.PUMPKIN
+    };
+
+    private static volatile byte[] flags;
+
+    private ConnectionEngine() {
+
+    }
+
+    /**
+     * Classifies every registered block type. Must run after {@link BlockTag#rebuildAll()}.
+     */
+    static synchronized void buildAll() {
+        var maxId = 0;
+
+        for (var block : Block.values()) {
+            maxId = Math.max(maxId, block.id());
+        }
+
+        var flags = new byte[maxId + 1];
+
+        for (var block : Block.values()) {
+            var value = 0;
+
+            if (BlockTag.WALLS.contains(block)) {
+                value |= WALL;
+            }
+
+            if (BlockTag.FENCES.contains(block)) {
+                value |= FENCE;
+            }
+
+            if (BlockTag.WOODEN_FENCES.contains(block)) {
+                value |= WOODEN_FENCE;
+            }
+
+            if (BlockTag.FENCE_GATES.contains(block)) {
+                value |= FENCE_GATE;
+            }
+
+            if (BlockTag.LEAVES.contains(block) || BlockTag.SHULKER_BOXES.contains(block)) {
+                value |= EXCEPTION;
+            }
+
+            flags[block.id()] = (byte) value;
+        }
+
+        for (var block : CROSS_CONNECTING_BLOCKS) {
+            flags[block.id()] |= CROSS_CONNECTING;
+        }
+
+        for (var block : EXCEPTION_BLOCKS) {
+            flags[block.id()] |= EXCEPTION;
+        }
+
+        ConnectionEngine.flags = flags;
+    }
+
+    static boolean isWoodenFence(@NotNull Block block) {
+        return (flags(block) & WOODEN_FENCE) != 0;
+    }
+
+    /**
+     * Whether a wall connects to {@code neighbor}, which touches it with {@code oppositeFace}.
+     */
+    static boolean wallConnects(@NotNull Block neighbor, @NotNull BlockFace oppositeFace) {
+        var flags = flags(neighbor);
+
+        if ((flags & (WALL | CROSS_CONNECTING)) != 0) {
+            return true;
+        }
+
+        if ((flags & FENCE_GATE) != 0) {
+            return isPerpendicular(neighbor, oppositeFace);
+        }
+
+        return isSturdy(neighbor, flags, oppositeFace);
+    }
+
+    /**
+     * Whether a fence connects to {@code neighbor}; fences only join fences of the same material.
+     */
+    static boolean fenceConnects(@NotNull Block neighbor, @NotNull BlockFace oppositeFace, boolean wooden) {
+        var flags = flags(neighbor);
+
+        if ((flags & FENCE) != 0) {
+            return ((flags & WOODEN_FENCE) != 0) == wooden;
+        }
+
+        if ((flags & FENCE_GATE) != 0) {
+            return isPerpendicular(neighbor, oppositeFace);
+        }
+
+        return isSturdy(neighbor, flags, oppositeFace);
+    }
+
+    /**
+     * Whether a pane or bars block attaches to {@code neighbor}.
+     */
+    static boolean paneConnects(@NotNull Block neighbor, @NotNull BlockFace oppositeFace) {
+        var flags = flags(neighbor);
+
+        if ((flags & (WALL | CROSS_CONNECTING)) != 0) {
+            return true;
+        }
+
+        return isSturdy(neighbor, flags, oppositeFace);
+    }
+
+    private static boolean isSturdy(@NotNull Block neighbor, int flags, @NotNull BlockFace oppositeFace) {
+        return (flags & EXCEPTION) == 0 && FaceSturdiness.isFull(neighbor, oppositeFace);
+    }
+
+    private static boolean isPerpendicular(@NotNull Block gate, @NotNull BlockFace oppositeFace) {
+        var gateFacing = gate.getProperty("facing");
+
+        if (gateFacing == null) {
+            return false;
+        }
+
+        var oppositeIsZ = oppositeFace == BlockFace.NORTH || oppositeFace == BlockFace.SOUTH;
+        var gateIsZ = "north".equals(gateFacing) || "south".equals(gateFacing);
+        return oppositeIsZ != gateIsZ;
+    }
+
+    private static int flags(@NotNull Block block) {
+        var flags = ConnectionEngine.flags;
+
+        if (flags == null) {
+            buildAll();
+            flags = ConnectionEngine.flags;
+        }
+
+        var id = block.id();
+        return id < flags.length ? flags[id] : 0;
+    }
+}
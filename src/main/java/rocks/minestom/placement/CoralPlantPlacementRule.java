@@ -16,7 +16,7 @@ public final class CoralPlantPlacementRule extends BlockPlacementRule {
         var placePosition = placementState.placePosition();
         var below = instance.getBlock(placePosition.relative(BlockFace.BOTTOM));
 
-        if (!below.registry().collisionShape().isFaceFull(BlockFace.TOP)) {
+        if (!FaceSturdiness.isFull(below, BlockFace.TOP)) {
             return null;
         }
 
@@ -34,7 +34,7 @@ public final class CoralPlantPlacementRule extends BlockPlacementRule {
         }
         var below = updateState.instance().getBlock(updateState.blockPosition().relative(BlockFace.BOTTOM));
 
-        if (!below.registry().collisionShape().isFaceFull(BlockFace.TOP)) {
+        if (!FaceSturdiness.isFull(below, BlockFace.TOP)) {
             return Block.AIR;
         }
         return updateState.currentBlock();
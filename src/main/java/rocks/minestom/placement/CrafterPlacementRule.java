@@ -15,7 +15,7 @@ public final class CrafterPlacementRule extends BlockPlacementRule {
         var playerPosition = placementState.playerPosition();
         var nearestLooking = playerPosition == null
                 ? BlockFace.NORTH
-                : nearestLookingDirection(playerPosition.yaw(), playerPosition.pitch()).getOppositeFace();
+                : FaceOrdering.nearest(playerPosition.yaw(), playerPosition.pitch())[0].getOppositeFace();
         var horizontal = playerPosition == null ? BlockFace.NORTH : BlockFace.fromYaw(playerPosition.yaw());
         var verticalDirection = switch (nearestLooking) {
             case BOTTOM -> horizontal.getOppositeFace();
@@ -23,11 +23,11 @@ public final class CrafterPlacementRule extends BlockPlacementRule {
             default -> BlockFace.TOP;
         };
 
-        // TODO: vanilla sets triggered = level.hasNeighborSignal(placePosition); we don't have a signal API here.
+        var triggered = SignalIndex.hasNeighborSignal(placementState.instance(), placementState.placePosition());
         return this.block
                 .withHandler(ConsumeInteractionBlockHandler.INSTANCE)
                 .withProperty("orientation", orientationName(nearestLooking) + "_" + orientationName(verticalDirection))
-                .withProperty("triggered", "false");
+                .withProperty("triggered", String.valueOf(triggered));
     }
 
     private static String orientationName(@NotNull BlockFace face) {
@@ -37,44 +37,4 @@ public final class CrafterPlacementRule extends BlockPlacementRule {
             default -> face.name().toLowerCase();
         };
     }
-
-    private static BlockFace nearestLookingDirection(float yawDegrees, float pitchDegrees) {
-        var pitchRadians = pitchDegrees * (float) (Math.PI / 180.0D);
-        var yawRadians = -yawDegrees * (float) (Math.PI / 180.0D);
-        var pitchSin = (float) Math.sin(pitchRadians);
-        var pitchCos = (float) Math.cos(pitchRadians);
-        var yawSin = (float) Math.sin(yawRadians);
-        var yawCos = (float) Math.cos(yawRadians);
-        var xPositive = yawSin > 0.0F;
-        var yPositive = pitchSin < 0.0F;
-        var zPositive = yawCos > 0.0F;
-        var xYaw = xPositive ? yawSin : -yawSin;
-        var yMagnitude = yPositive ? -pitchSin : pitchSin;
-        var zYaw = zPositive ? yawCos : -yawCos;
-        var xMagnitude = xYaw * pitchCos;
-        var zMagnitude = zYaw * pitchCos;
-        var axisX = xPositive ? BlockFace.EAST : BlockFace.WEST;
-        var axisY = yPositive ? BlockFace.TOP : BlockFace.BOTTOM;
-        var axisZ = zPositive ? BlockFace.SOUTH : BlockFace.NORTH;
-
-        if (xYaw > zYaw) {
-            if (yMagnitude > xMagnitude) {
-                return axisY;
-            }
-
-            if (zMagnitude > yMagnitude) {
-                return axisX;
-            }
-            return axisX;
-        }
-
-        if (yMagnitude > zMagnitude) {
-            return axisY;
-        }
-
-        if (xMagnitude > yMagnitude) {
-            return axisZ;
-        }
-        return axisZ;
-    }
 }
@@ -1,7 +1,5 @@
 package rocks.minestom.placement;
 
-import net.kyori.adventure.key.Key;
-import net.minestom.server.MinecraftServer;
 import net.minestom.server.instance.block.Block;
 import net.minestom.server.instance.block.BlockFace;
 import net.minestom.server.instance.block.rule.BlockPlacementRule;
@@ -17,9 +15,7 @@ public final class CropPlacementRule extends BlockPlacementRule {
         var instance = placementState.instance();
         var supportPosition = placementState.placePosition().relative(BlockFace.BOTTOM);
         var supportBlock = instance.getBlock(supportPosition);
-        var supportsCropsTag = MinecraftServer.process().blocks().getTag(Key.key("minecraft:supports_crops"));
-
-        if (supportsCropsTag != null && supportsCropsTag.contains(supportBlock)) {
+        if (BlockTag.SUPPORTS_CROPS.contains(supportBlock)) {
             return this.block;
         }
         return null;
@@ -32,9 +28,7 @@ public final class CropPlacementRule extends BlockPlacementRule {
             return updateState.currentBlock();
         }
         var below = updateState.instance().getBlock(updateState.blockPosition().relative(BlockFace.BOTTOM));
-        var supportsCropsTag = MinecraftServer.process().blocks().getTag(Key.key("minecraft:supports_crops"));
-
-        if (supportsCropsTag != null && supportsCropsTag.contains(below)) {
+        if (BlockTag.SUPPORTS_CROPS.contains(below)) {
             return updateState.currentBlock();
         }
         return Block.AIR;
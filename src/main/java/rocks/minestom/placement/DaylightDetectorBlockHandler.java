@@ -28,6 +28,7 @@ public final class DaylightDetectorBlockHandler implements BlockHandler {
         var updatedBlock = block.withProperty("inverted", String.valueOf(!currentInverted));
 
         interaction.getInstance().setBlock(interaction.getBlockPosition(), updatedBlock);
+        SignalIndex.invalidate(interaction.getInstance(), interaction.getBlockPosition());
         return false;
     }
 }
@@ -35,8 +35,8 @@ public final class DirectionalPlacementRule extends BlockPlacementRule {
         var yaw = playerPosition == null ? 0.0F : playerPosition.yaw();
         var pitch = playerPosition == null ? 0.0F : playerPosition.pitch();
         var nearest = playerPosition == null
-                ? new BlockFace[]{BlockFace.NORTH, BlockFace.EAST, BlockFace.SOUTH, BlockFace.WEST, BlockFace.TOP, BlockFace.BOTTOM}
-                : orderedByNearest(yaw, pitch);
+                ? FaceOrdering.DEFAULT
+                : FaceOrdering.nearest(yaw, pitch);
         var facing = nearest[0];
 
         if (!this.awayFromPlayer) {
@@ -54,48 +54,4 @@ public final class DirectionalPlacementRule extends BlockPlacementRule {
             default -> face.name().toLowerCase();
         };
     }
-
-    private static BlockFace[] orderedByNearest(float yawDegrees, float pitchDegrees) {
-        var pitchRadians = pitchDegrees * (float) (Math.PI / 180.0D);
-        var yawRadians = -yawDegrees * (float) (Math.PI / 180.0D);
-        var pitchSin = (float) Math.sin(pitchRadians);
-        var pitchCos = (float) Math.cos(pitchRadians);
-        var yawSin = (float) Math.sin(yawRadians);
-        var yawCos = (float) Math.cos(yawRadians);
-        var xPositive = yawSin > 0.0F;
-        var yPositive = pitchSin < 0.0F;
-        var zPositive = yawCos > 0.0F;
-        var xYaw = xPositive ? yawSin : -yawSin;
-        var yMagnitude = yPositive ? -pitchSin : pitchSin;
-        var zYaw = zPositive ? yawCos : -yawCos;
-        var xMagnitude = xYaw * pitchCos;
-        var zMagnitude = zYaw * pitchCos;
-        var axisX = xPositive ? BlockFace.EAST : BlockFace.WEST;
-        var axisY = yPositive ? BlockFace.TOP : BlockFace.BOTTOM;
-        var axisZ = zPositive ? BlockFace.SOUTH : BlockFace.NORTH;
-
-        if (xYaw > zYaw) {
-            if (yMagnitude > xMagnitude) {
-                return makeDirectionArray(axisY, axisX, axisZ);
-            }
-
-            if (zMagnitude > yMagnitude) {
-                return makeDirectionArray(axisX, axisZ, axisY);
-            }
-            return makeDirectionArray(axisX, axisY, axisZ);
-        }
-
-        if (yMagnitude > zMagnitude) {
-            return makeDirectionArray(axisY, axisZ, axisX);
-        }
-
-        if (xMagnitude > yMagnitude) {
-            return makeDirectionArray(axisZ, axisX, axisY);
-        }
-        return makeDirectionArray(axisZ, axisY, axisX);
-    }
-
-    private static BlockFace[] makeDirectionArray(@NotNull BlockFace first, @NotNull BlockFace second, @NotNull BlockFace third) {
-        return new BlockFace[]{first, second, third, third.getOppositeFace(), second.getOppositeFace(), first.getOppositeFace()};
-    }
 }
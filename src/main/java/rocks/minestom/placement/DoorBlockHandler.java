@@ -69,7 +69,7 @@ public final class DoorBlockHandler implements BlockHandler {
             return opening ? SoundEvent.BLOCK_IRON_DOOR_OPEN : SoundEvent.BLOCK_IRON_DOOR_CLOSE;
         }
 
-        if (Utility.hasTag(block, Key.key("minecraft:copper_doors"))) {
+        if (BlockTag.COPPER_DOORS.contains(block)) {
             return opening ? SoundEvent.BLOCK_COPPER_DOOR_OPEN : SoundEvent.BLOCK_COPPER_DOOR_CLOSE;
         }
 
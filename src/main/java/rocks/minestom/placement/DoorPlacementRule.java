@@ -1,13 +1,9 @@
 package rocks.minestom.placement;
 
-import net.kyori.adventure.key.Key;
-import net.minestom.server.MinecraftServer;
 import net.minestom.server.coordinate.Point;
-import net.minestom.server.instance.Instance;
 import net.minestom.server.instance.block.Block;
 import net.minestom.server.instance.block.BlockFace;
 import net.minestom.server.instance.block.rule.BlockPlacementRule;
-import net.minestom.server.registry.RegistryTag;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -18,52 +14,38 @@ public final class DoorPlacementRule extends BlockPlacementRule {
 
     @Override
     public Block blockPlace(@NotNull PlacementState placementState) {
-        if (!(placementState.instance() instanceof Instance instance)) {
-            return null;
-        }
-
+        var blockGetter = placementState.instance();
         var placePosition = placementState.placePosition();
         var upperPosition = placePosition.relative(BlockFace.TOP);
-        var maxY = instance.getCachedDimensionType().maxY();
-
-        if (upperPosition.blockY() >= maxY) {
-            return null;
-        }
-
-        var existingUpperBlock = instance.getBlock(upperPosition);
-
-        if (!existingUpperBlock.registry().isReplaceable()) {
-            return null;
-        }
 
         var playerPosition = placementState.playerPosition();
         var yaw = playerPosition == null ? 0.0F : playerPosition.yaw();
         var facing = BlockFace.fromYaw(yaw);
-        var hinge = computeHinge(instance, placePosition, facing, placementState.cursorPosition());
+        var hinge = computeHinge(blockGetter, placePosition, facing, placementState.cursorPosition());
         var facingName = facing.name().toLowerCase();
-        // TODO: vanilla checks neighbor signal - not implemented
-
+        var powered = SignalIndex.hasNeighborSignal(blockGetter, placePosition) || SignalIndex.hasNeighborSignal(blockGetter, upperPosition);
         var lowerBlock = this.block
                 .withHandler(DoorBlockHandler.INSTANCE)
                 .withProperty("facing", facingName)
                 .withProperty("hinge", hinge)
                 .withProperty("half", "lower")
-                .withProperty("powered", "false")
-                .withProperty("open", "false");
+                .withProperty("powered", String.valueOf(powered))
+                .withProperty("open", String.valueOf(powered));
         var upperBlock = this.block
                 .withHandler(DoorBlockHandler.INSTANCE)
                 .withProperty("facing", facingName)
                 .withProperty("hinge", hinge)
                 .withProperty("half", "upper")
-                .withProperty("powered", "false")
-                .withProperty("open", "false");
+                .withProperty("powered", String.valueOf(powered))
+                .withProperty("open", String.valueOf(powered));
 
-        if (intersectsAnyEntity(instance, placePosition, lowerBlock)) {
+        if (EntityCollisionIndex.intersectsAnyEntity(blockGetter, placePosition, lowerBlock)) {
             return null;
         }
 
-        instance.setBlock(upperPosition, upperBlock, false);
-        return lowerBlock;
+        return MultiBlockPlacement.begin(blockGetter, placePosition)
+                .with(upperPosition, upperBlock)
+                .commit(lowerBlock);
     }
 
     @Override
@@ -79,7 +61,7 @@ public final class DoorPlacementRule extends BlockPlacementRule {
 
         if (fromFace == BlockFace.BOTTOM && "lower".equals(half)) {
             var belowBlock = updateState.instance().getBlock(updateState.blockPosition().relative(BlockFace.BOTTOM));
-            return belowBlock.registry().collisionShape().isFaceFull(BlockFace.TOP) ? currentBlock : Block.AIR;
+            return FaceSturdiness.isFull(belowBlock, BlockFace.TOP) ? currentBlock : Block.AIR;
         }
 
         if (fromFace == BlockFace.BOTTOM && "upper".equals(half)) {
@@ -89,27 +71,8 @@ public final class DoorPlacementRule extends BlockPlacementRule {
         return currentBlock;
     }
 
-    private static boolean intersectsAnyEntity(@NotNull Instance instance, @NotNull Point blockPosition, @NotNull Block block) {
-        var collisionShape = block.registry().collisionShape();
-
-        for (var entity : instance.getNearbyEntities(blockPosition, 3.0D)) {
-
-            if (!entity.preventBlockPlacement()) {
-                continue;
-            }
-
-            var entityPosition = entity.getPosition();
-
-            if (collisionShape.intersectBox(entityPosition.sub(blockPosition), entity.getBoundingBox())) {
-                return true;
-            }
-        }
-        return false;
-    }
-
-    private static String computeHinge(@NotNull Instance instance, @NotNull Point placePosition,
+    private static String computeHinge(@NotNull Block.Getter blockGetter, @NotNull Point placePosition,
                                        @NotNull BlockFace facing, @Nullable Point cursorPosition) {
-        var doorsTag = MinecraftServer.process().blocks().getTag(Key.key("minecraft:doors"));
         var leftDirection = counterClockwise(facing);
         var rightDirection = clockwise(facing);
         var upperPosition = placePosition.relative(BlockFace.TOP);
@@ -117,16 +80,16 @@ public final class DoorPlacementRule extends BlockPlacementRule {
         var leftUpperPosition = upperPosition.relative(leftDirection);
         var rightLowerPosition = placePosition.relative(rightDirection);
         var rightUpperPosition = upperPosition.relative(rightDirection);
-        var leftLowerBlock = instance.getBlock(leftLowerPosition);
-        var leftUpperBlock = instance.getBlock(leftUpperPosition);
-        var rightLowerBlock = instance.getBlock(rightLowerPosition);
-        var rightUpperBlock = instance.getBlock(rightUpperPosition);
+        var leftLowerBlock = blockGetter.getBlock(leftLowerPosition);
+        var leftUpperBlock = blockGetter.getBlock(leftUpperPosition);
+        var rightLowerBlock = blockGetter.getBlock(rightLowerPosition);
+        var rightUpperBlock = blockGetter.getBlock(rightUpperPosition);
         var solidBlockBalance = (isFullCube(leftLowerBlock) ? -1 : 0)
                 + (isFullCube(leftUpperBlock) ? -1 : 0)
                 + (isFullCube(rightLowerBlock) ? 1 : 0)
                 + (isFullCube(rightUpperBlock) ? 1 : 0);
-        var doorLeft = isLowerDoor(leftLowerBlock, doorsTag);
-        var doorRight = isLowerDoor(rightLowerBlock, doorsTag);
+        var doorLeft = isLowerDoor(leftLowerBlock);
+        var doorRight = isLowerDoor(rightLowerBlock);
 
         if ((!doorLeft || doorRight) && solidBlockBalance <= 0) {
             if ((!doorRight || doorLeft) && solidBlockBalance >= 0) {
@@ -149,11 +112,11 @@ public final class DoorPlacementRule extends BlockPlacementRule {
     }
 
     private static boolean isFullCube(@NotNull Block block) {
-        return block.registry().collisionShape().isFaceFull(BlockFace.TOP);
+        return FaceSturdiness.isFull(block, BlockFace.TOP);
     }
 
-    private static boolean isLowerDoor(@NotNull Block block, @Nullable RegistryTag<Block> doorsTag) {
-        return doorsTag != null && doorsTag.contains(block) && "lower".equals(block.getProperty("half"));
+    private static boolean isLowerDoor(@NotNull Block block) {
+        return BlockTag.DOORS.contains(block) && "lower".equals(block.getProperty("half"));
     }
 
     private static BlockFace counterClockwise(@NotNull BlockFace face) {
@@ -0,0 +1,181 @@
+package rocks.minestom.placement;
+
+import net.minestom.server.coordinate.Point;
+import net.minestom.server.coordinate.Vec;
+import net.minestom.server.instance.Instance;
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.instance.block.BlockFace;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+
+/**
+ * Column-wide reshaping of pointed dripstone, following vanilla's {@code calculateDripstoneThickness}.
+ * A segment's thickness only depends on the segment ahead of it (towards the tip) and on whether there is
+ * one behind it, so a whole column is resolved in one walk from its root to its tip and one pass back,
+ * instead of every segment updating its neighbor in turn.
+ */
+final class DripstoneColumn {
+    private static final String TIP_MERGE = "tip_merge";
+    private static final String TIP = "tip";
+    private static final String FRUSTUM = "frustum";
+    private static final String MIDDLE = "middle";
+    private static final String BASE = "base";
+    private static final int INITIAL_CAPACITY = 16;
+    private static final BlockFace[] FACES = BlockFace.values();
+
+    private DripstoneColumn() {
+
+    }
+
+    /**
+     * Thickness of a single segment at {@code position}, from the blocks currently ahead of and behind it.
+     */
+    static @NotNull String thickness(@NotNull Block.Getter blockGetter, @NotNull Point position, @NotNull BlockFace tipDirection, boolean mergeOpposingTips) {
+        var opposite = tipDirection.getOppositeFace();
+        var ahead = blockGetter.getBlock(position.relative(tipDirection));
+
+        if (isDripstone(ahead, opposite)) {
+            return mergeOpposingTips || TIP_MERGE.equals(ahead.getProperty("thickness")) ? TIP_MERGE : TIP;
+        }
+
+        if (!isDripstone(ahead, tipDirection)) {
+            return TIP;
+        }
+
+        var aheadThickness = ahead.getProperty("thickness");
+
+        if (TIP.equals(aheadThickness) || TIP_MERGE.equals(aheadThickness)) {
+            return FRUSTUM;
+        }
+
+        return isDripstone(blockGetter.getBlock(position.relative(opposite)), tipDirection) ? MIDDLE : BASE;
+    }
+
+    /**
+     * Recomputes every segment of the column {@code position} belongs to. Segments other than the one at
+     * {@code position} are written to {@code instance} without neighbor updates when they change; the new
+     * state of {@code position} is returned. A column whose root lost its support is removed as a whole,
+     * and the neighbors of every removed segment, including the block past the tip, are queued for an
+     * update on the next tick.
+     */
+    static @NotNull Block reshape(@NotNull Block.Getter blockGetter, @Nullable Instance instance, @NotNull Point position, @NotNull Block current) {
+        var tipDirection = tipDirection(current);
+
+        if (tipDirection == null) {
+            return current;
+        }
+
+        var rootDirection = tipDirection.getOppositeFace();
+        var step = tipDirection == BlockFace.TOP ? 1 : -1;
+        var x = position.blockX();
+        var z = position.blockZ();
+        var rootY = position.blockY();
+
+        while (isDripstone(blockGetter.getBlock(x, rootY - step, z), tipDirection)) {
+            rootY -= step;
+        }
+
+        var segments = new Block[INITIAL_CAPACITY];
+        var length = 0;
+
+        for (var y = rootY; ; y += step) {
+            var block = y == position.blockY() ? current : blockGetter.getBlock(x, y, z);
+
+            if (!isDripstone(block, tipDirection)) {
+                break;
+            }
+
+            if (length == segments.length) {
+                segments = Arrays.copyOf(segments, length * 2);
+            }
+
+            segments[length++] = block;
+        }
+
+        var support = blockGetter.getBlock(x, rootY - step, z);
+        var supported = FaceSturdiness.isFull(support, tipDirection);
+        var tipY = rootY + (length - 1) * step;
+        var updated = new Block[length];
+
+        for (var index = length - 1; index >= 0; index--) {
+            var segment = segments[index];
+
+            if (!supported) {
+                updated[index] = "true".equals(segment.getProperty("waterlogged")) ? Block.WATER : Block.AIR;
+                continue;
+            }
+
+            String thickness;
+
+            if (index == length - 1) {
+                var ahead = blockGetter.getBlock(x, tipY + step, z);
+                var merge = TIP_MERGE.equals(segment.getProperty("thickness"));
+                thickness = isDripstone(ahead, rootDirection) && (merge || TIP_MERGE.equals(ahead.getProperty("thickness")))
+                        ? TIP_MERGE
+                        : TIP;
+            } else {
+                var aheadThickness = updated[index + 1].getProperty("thickness");
+                thickness = TIP.equals(aheadThickness) || TIP_MERGE.equals(aheadThickness)
+                        ? FRUSTUM
+                        : index > 0 ? MIDDLE : BASE;
+            }
+
+            updated[index] = segment.withProperty("thickness", thickness);
+        }
+
+        var result = current;
+
+        for (var index = 0; index < length; index++) {
+            var y = rootY + index * step;
+
+            if (y == position.blockY()) {
+                result = updated[index];
+            } else if (instance != null && updated[index].stateId() != segments[index].stateId()) {
+                instance.setBlock(x, y, z, updated[index], false);
+                SignalIndex.invalidate(instance, x, y, z);
+            }
+        }
+
+        if (!supported && instance != null) {
+            notifyRemoved(instance, x, rootY, tipY, z);
+        }
+
+        return result;
+    }
+
+    /**
+     * Queues an update of every neighbor of a removed column, from the segment it touches. The removed
+     * positions are queued too but, holding air or water, are skipped by the queue.
+     */
+    private static void notifyRemoved(@NotNull Instance instance, int x, int rootY, int tipY, int z) {
+        var queue = NeighborUpdateQueue.of(instance);
+
+        for (var y = Math.min(rootY, tipY); y <= Math.max(rootY, tipY); y++) {
+            var segment = new Vec(x, y, z);
+
+            for (var face : FACES) {
+                queue.enqueue(segment.relative(face), face.getOppositeFace());
+            }
+        }
+    }
+
+    static @NotNull String verticalName(@NotNull BlockFace face) {
+        return face == BlockFace.TOP ? "up" : "down";
+    }
+
+    private static @Nullable BlockFace tipDirection(@NotNull Block block) {
+        var direction = block.getProperty("vertical_direction");
+
+        if (direction == null) {
+            return null;
+        }
+
+        return "up".equals(direction) ? BlockFace.TOP : BlockFace.BOTTOM;
+    }
+
+    private static boolean isDripstone(@NotNull Block block, @NotNull BlockFace tipDirection) {
+        return block.compare(Block.POINTED_DRIPSTONE) && verticalName(tipDirection).equals(block.getProperty("vertical_direction"));
+    }
+}
@@ -0,0 +1,133 @@
+package rocks.minestom.placement;
+
+import net.minestom.server.coordinate.Point;
+import net.minestom.server.entity.Entity;
+import net.minestom.server.instance.Instance;
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.tag.Tag;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Per-instance spatial hash of the entities that block placement ({@link Entity#preventBlockPlacement()}),
+ * keyed by every block cell their bounding box overlaps. A query visits every cell the placed block's
+ * collision shape overlaps. The hash is rebuilt at most once per tick, on the
+ * first collision query of that tick, so a tick with many placements scans the entity list once instead
+ * of once per placement. Entities moving later in the same tick are seen at their earlier position.
+ */
+final class EntityCollisionIndex {
+    private static final Tag<EntityCollisionIndex> TAG = Tag.Transient("placement:entity_collision_index");
+
+    private final Instance instance;
+    private final Map<Long, List<Entity>> cells = new HashMap<>();
+    private long builtAge = -1L;
+
+    private EntityCollisionIndex(@NotNull Instance instance) {
+        this.instance = instance;
+    }
+
+    static @NotNull EntityCollisionIndex of(@NotNull Instance instance) {
+        var index = instance.getTag(TAG);
+
+        if (index != null) {
+            return index;
+        }
+
+        synchronized (instance) {
+            index = instance.getTag(TAG);
+
+            if (index == null) {
+                index = new EntityCollisionIndex(instance);
+                instance.setTag(TAG, index);
+            }
+
+            return index;
+        }
+    }
+
+    /**
+     * Whether placing {@code block} at {@code blockPosition} would collide with an entity that prevents
+     * block placement. Always false when the getter is not backed by an instance; placements evaluated
+     * against an {@link AsyncPlacement} snapshot are checked on the tick thread before they are written.
+     */
+    static boolean intersectsAnyEntity(@NotNull Block.Getter blockGetter, @NotNull Point blockPosition, @NotNull Block block) {
+        var instance = VanillaPlacementUtils.instance(blockGetter);
+
+        if (instance == null) {
+            return false;
+        }
+
+        return of(instance).intersects(blockPosition, block);
+    }
+
+    synchronized boolean intersects(@NotNull Point blockPosition, @NotNull Block block) {
+        var worldAge = this.instance.getWorldAge();
+
+        if (worldAge != this.builtAge) {
+            this.rebuild();
+            this.builtAge = worldAge;
+        }
+
+        // shapes may reach past their own cell, e.g. fences and walls are 1.5 blocks high
+        var collisionShape = block.registry().collisionShape();
+        var start = collisionShape.relativeStart();
+        var end = collisionShape.relativeEnd();
+        var minX = blockPosition.blockX() + (int) Math.floor(start.x());
+        var minY = blockPosition.blockY() + (int) Math.floor(start.y());
+        var minZ = blockPosition.blockZ() + (int) Math.floor(start.z());
+        var maxX = blockPosition.blockX() + (int) Math.ceil(end.x()) - 1;
+        var maxY = blockPosition.blockY() + (int) Math.ceil(end.y()) - 1;
+        var maxZ = blockPosition.blockZ() + (int) Math.ceil(end.z()) - 1;
+
+        for (var x = minX; x <= maxX; x++) {
+            for (var y = minY; y <= maxY; y++) {
+                for (var z = minZ; z <= maxZ; z++) {
+                    var entities = this.cells.get(PositionQueue.pack(x, y, z));
+
+                    if (entities == null) {
+                        continue;
+                    }
+
+                    for (var entity : entities) {
+                        if (collisionShape.intersectBox(entity.getPosition().sub(blockPosition), entity.getBoundingBox())) {
+                            return true;
+                        }
+                    }
+                }
+            }
+        }
+
+        return false;
+    }
+
+    private void rebuild() {
+        this.cells.clear();
+
+        for (var entity : this.instance.getEntities()) {
+            if (!entity.preventBlockPlacement()) {
+                continue;
+            }
+
+            var position = entity.getPosition();
+            var boundingBox = entity.getBoundingBox();
+            var minX = (int) Math.floor(position.x() + boundingBox.minX());
+            var minY = (int) Math.floor(position.y() + boundingBox.minY());
+            var minZ = (int) Math.floor(position.z() + boundingBox.minZ());
+            var maxX = (int) Math.floor(position.x() + boundingBox.maxX());
+            var maxY = (int) Math.floor(position.y() + boundingBox.maxY());
+            var maxZ = (int) Math.floor(position.z() + boundingBox.maxZ());
+
+            for (var x = minX; x <= maxX; x++) {
+                for (var y = minY; y <= maxY; y++) {
+                    for (var z = minZ; z <= maxZ; z++) {
+                        this.cells.computeIfAbsent(PositionQueue.pack(x, y, z), ignored -> new ArrayList<>(2)).add(entity);
+                    }
+                }
+            }
+        }
+    }
+}
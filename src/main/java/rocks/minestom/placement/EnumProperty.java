@@ -0,0 +1,111 @@
+package rocks.minestom.placement;
+
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.instance.block.BlockFace;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Handle on a block state property whose values map onto an enum, decoded once into a table indexed by
+ * state id like {@link IntProperty}. Values the enum has no constant for read as absent.
+ */
+final class EnumProperty<E extends Enum<E>> {
+    private static final Map<String, EnumProperty<?>> HANDLES = new ConcurrentHashMap<>();
+
+    private final String name;
+    private final E[] constants;
+    private final byte[] ordinalByState;
+    private final String[] valueNames;
+
+    private EnumProperty(@NotNull String name, @NotNull Class<E> type, @NotNull Function<String, E> decoder) {
+        var maxStateId = 0;
+
+        for (var block : Block.values()) {
+            for (var state : block.possibleStates()) {
+                maxStateId = Math.max(maxStateId, state.stateId());
+            }
+        }
+
+        this.name = name;
+        this.constants = type.getEnumConstants();
+        this.ordinalByState = new byte[maxStateId + 1];
+        this.valueNames = new String[this.constants.length];
+        Arrays.fill(this.ordinalByState, (byte) -1);
+
+        for (var block : Block.values()) {
+            if (!block.properties().containsKey(name)) {
+                continue;
+            }
+
+            for (var state : block.possibleStates()) {
+                var constant = decoder.apply(state.getProperty(name));
+
+                if (constant != null) {
+                    this.ordinalByState[state.stateId()] = (byte) constant.ordinal();
+                    this.valueNames[constant.ordinal()] = state.getProperty(name);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the handle of the named property, matching values to constants by name.
+     */
+    @SuppressWarnings("unchecked")
+    static <E extends Enum<E>> @NotNull EnumProperty<E> of(@NotNull String name, @NotNull Class<E> type) {
+        return (EnumProperty<E>) HANDLES.computeIfAbsent(name + "/" + type.getName(), ignored -> new EnumProperty<>(name, type, value -> {
+            for (var constant : type.getEnumConstants()) {
+                if (constant.name().equalsIgnoreCase(value)) {
+                    return constant;
+                }
+            }
+
+            return null;
+        }));
+    }
+
+    /**
+     * Returns the handle of the {@code facing} property, with {@code up} and {@code down} read as
+     * {@link BlockFace#TOP} and {@link BlockFace#BOTTOM}.
+     */
+    @SuppressWarnings("unchecked")
+    static @NotNull EnumProperty<BlockFace> facing() {
+        return (EnumProperty<BlockFace>) HANDLES.computeIfAbsent("facing/" + BlockFace.class.getName(), ignored -> new EnumProperty<>("facing", BlockFace.class, value -> switch (value) {
+            case "up" -> BlockFace.TOP;
+            case "down" -> BlockFace.BOTTOM;
+            default -> BlockFace.valueOf(value.toUpperCase(Locale.ROOT));
+        }));
+    }
+
+    @NotNull String name() {
+        return this.name;
+    }
+
+    /**
+     * Returns the constant the block holds, or {@code fallback} if it does not have the property.
+     */
+    E get(@NotNull Block block, E fallback) {
+        var stateId = block.stateId();
+
+        if (stateId < 0 || stateId >= this.ordinalByState.length) {
+            return fallback;
+        }
+
+        var ordinal = this.ordinalByState[stateId];
+        return ordinal < 0 ? fallback : this.constants[ordinal];
+    }
+
+    /**
+     * Returns the block with the property set to {@code value}, reusing the value name decoded from the
+     * registry.
+     */
+    @NotNull Block with(@NotNull Block block, @NotNull E value) {
+        var name = this.valueNames[value.ordinal()];
+        return block.withProperty(this.name, name != null ? name : value.name().toLowerCase(Locale.ROOT));
+    }
+}
@@ -55,46 +55,14 @@ public final class FaceAttachedPlacementRule extends BlockPlacementRule {
     private static boolean canAttach(@NotNull Block.Getter blockGetter, @NotNull Point position, @NotNull BlockFace connectedDirection) {
         var supportPosition = position.relative(connectedDirection);
         var supportBlock = blockGetter.getBlock(supportPosition);
-        return supportBlock.registry().collisionShape().isFaceFull(connectedDirection.getOppositeFace());
+        return FaceSturdiness.isFull(supportBlock, connectedDirection.getOppositeFace());
     }
 
     private static BlockFace[] nearestLookingDirections(@Nullable Pos playerPosition) {
         if (playerPosition == null) {
-            return new BlockFace[]{BlockFace.NORTH, BlockFace.EAST, BlockFace.SOUTH, BlockFace.WEST, BlockFace.TOP, BlockFace.BOTTOM};
+            return FaceOrdering.DEFAULT;
         }
 
-        var pitch = playerPosition.pitch() * (float) (Math.PI / 180.0D);
-        var yaw = -playerPosition.yaw() * (float) (Math.PI / 180.0D);
-        var pitchSin = (float) Math.sin(pitch);
-        var pitchCos = (float) Math.cos(pitch);
-        var yawSin = (float) Math.sin(yaw);
-        var yawCos = (float) Math.cos(yaw);
-        var xPositive = yawSin > 0.0F;
-        var yPositive = pitchSin < 0.0F;
-        var zPositive = yawCos > 0.0F;
-        var xYaw = xPositive ? yawSin : -yawSin;
-        var yMagnitude = yPositive ? -pitchSin : pitchSin;
-        var zYaw = zPositive ? yawCos : -yawCos;
-        var xMagnitude = xYaw * pitchCos;
-        var zMagnitude = zYaw * pitchCos;
-        var axisX = xPositive ? BlockFace.EAST : BlockFace.WEST;
-        var axisY = yPositive ? BlockFace.TOP : BlockFace.BOTTOM;
-        var axisZ = zPositive ? BlockFace.SOUTH : BlockFace.NORTH;
-
-        if (xYaw > zYaw) {
-            if (yMagnitude > xMagnitude) {
-                return makeDirectionArray(axisY, axisX, axisZ);
-            }
-            return zMagnitude > yMagnitude ? makeDirectionArray(axisX, axisZ, axisY) : makeDirectionArray(axisX, axisY, axisZ);
-        }
-
-        if (yMagnitude > zMagnitude) {
-            return makeDirectionArray(axisY, axisZ, axisX);
-        }
-        return xMagnitude > yMagnitude ? makeDirectionArray(axisZ, axisX, axisY) : makeDirectionArray(axisZ, axisY, axisX);
-    }
-
-    private static BlockFace[] makeDirectionArray(@NotNull BlockFace first, @NotNull BlockFace second, @NotNull BlockFace third) {
-        return new BlockFace[]{first, second, third, third.getOppositeFace(), second.getOppositeFace(), first.getOppositeFace()};
+        return FaceOrdering.nearest(playerPosition.yaw(), playerPosition.pitch());
     }
 }
@@ -0,0 +1,109 @@
+package rocks.minestom.placement;
+
+import net.minestom.server.instance.block.BlockFace;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Port of vanilla's {@code Direction.orderedByNearest}. The three axis directions a player looks along
+ * can only be ordered in 48 ways (8 sign combinations times 6 axis permutations), so every ordering is
+ * built once and shared, and the trigonometry goes through vanilla's 65536-entry sine table.
+ * <p>
+ * The returned arrays are shared and must not be modified.
+ */
+final class FaceOrdering {
+    /**
+     * Fallback ordering used when there is no player to look from.
+     */
+    static final BlockFace[] DEFAULT = {
+            BlockFace.NORTH,
+            BlockFace.EAST,
+            BlockFace.SOUTH,
+            BlockFace.WEST,
+            BlockFace.TOP,
+            BlockFace.BOTTOM
+    };
+
+    private static final int X_FIRST_Y_SECOND = 0;
+    private static final int X_FIRST_Z_SECOND = 1;
+    private static final int Y_FIRST_X_SECOND = 2;
+    private static final int Y_FIRST_Z_SECOND = 3;
+    private static final int Z_FIRST_X_SECOND = 4;
+    private static final int Z_FIRST_Y_SECOND = 5;
+
+    private static final float[] SIN = new float[65536];
+    private static final BlockFace[][] ORDERINGS = new BlockFace[48][];
+
+    static {
+        for (var index = 0; index < SIN.length; index++) {
+            SIN[index] = (float) Math.sin(index * Math.PI * 2.0D / 65536.0D);
+        }
+
+        for (var signs = 0; signs < 8; signs++) {
+            var axisX = (signs & 1) != 0 ? BlockFace.EAST : BlockFace.WEST;
+            var axisY = (signs & 2) != 0 ? BlockFace.TOP : BlockFace.BOTTOM;
+            var axisZ = (signs & 4) != 0 ? BlockFace.SOUTH : BlockFace.NORTH;
+            ORDERINGS[signs * 6 + X_FIRST_Y_SECOND] = ordering(axisX, axisY, axisZ);
+            ORDERINGS[signs * 6 + X_FIRST_Z_SECOND] = ordering(axisX, axisZ, axisY);
+            ORDERINGS[signs * 6 + Y_FIRST_X_SECOND] = ordering(axisY, axisX, axisZ);
+            ORDERINGS[signs * 6 + Y_FIRST_Z_SECOND] = ordering(axisY, axisZ, axisX);
+            ORDERINGS[signs * 6 + Z_FIRST_X_SECOND] = ordering(axisZ, axisX, axisY);
+            ORDERINGS[signs * 6 + Z_FIRST_Y_SECOND] = ordering(axisZ, axisY, axisX);
+        }
+    }
+
+    private FaceOrdering() {
+
+    }
+
+    /**
+     * Returns all six faces ordered from the one the player looks at most directly to the one behind them.
+     */
+    static @NotNull BlockFace @NotNull [] nearest(float yawDegrees, float pitchDegrees) {
+        var pitchRadians = pitchDegrees * (float) (Math.PI / 180.0D);
+        var yawRadians = -yawDegrees * (float) (Math.PI / 180.0D);
+        var pitchSin = sin(pitchRadians);
+        var pitchCos = cos(pitchRadians);
+        var yawSin = sin(yawRadians);
+        var yawCos = cos(yawRadians);
+        var xPositive = yawSin > 0.0F;
+        var yPositive = pitchSin < 0.0F;
+        var zPositive = yawCos > 0.0F;
+        var xYaw = xPositive ? yawSin : -yawSin;
+        var yMagnitude = yPositive ? -pitchSin : pitchSin;
+        var zYaw = zPositive ? yawCos : -yawCos;
+        var xMagnitude = xYaw * pitchCos;
+        var zMagnitude = zYaw * pitchCos;
+        var signs = (xPositive ? 1 : 0) | (yPositive ? 2 : 0) | (zPositive ? 4 : 0);
+        int permutation;
+
+        if (xYaw > zYaw) {
+            if (yMagnitude > xMagnitude) {
+                permutation = Y_FIRST_X_SECOND;
+            } else if (zMagnitude > yMagnitude) {
+                permutation = X_FIRST_Z_SECOND;
+            } else {
+                permutation = X_FIRST_Y_SECOND;
+            }
+        } else if (yMagnitude > zMagnitude) {
+            permutation = Y_FIRST_Z_SECOND;
+        } else if (xMagnitude > yMagnitude) {
+            permutation = Z_FIRST_X_SECOND;
+        } else {
+            permutation = Z_FIRST_Y_SECOND;
+        }
+
+        return ORDERINGS[signs * 6 + permutation];
+    }
+
+    private static float sin(float radians) {
+        return SIN[(int) (radians * 10430.378F) & 65535];
+    }
+
+    private static float cos(float radians) {
+        return SIN[(int) (radians * 10430.378F + 16384.0F) & 65535];
+    }
+
+    private static BlockFace[] ordering(@NotNull BlockFace first, @NotNull BlockFace second, @NotNull BlockFace third) {
+        return new BlockFace[]{first, second, third, third.getOppositeFace(), second.getOppositeFace(), first.getOppositeFace()};
+    }
+}
@@ -0,0 +1,91 @@
+package rocks.minestom.placement;
+
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.instance.block.BlockFace;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Precomputed full-face collision checks. Every block state gets six bits, one per {@link BlockFace},
+ * so support and connection probes are a single bit test instead of walking the collision shape.
+ */
+final class FaceSturdiness {
+    private static final int ALL_FACES = (1 << BlockFace.values().length) - 1;
+
+    private static volatile byte[] faces;
+
+    private FaceSturdiness() {
+
+    }
+
+    /**
+     * Computes the full faces of every registered block state.
+     */
+    static synchronized byte[] buildAll() {
+        var existing = FaceSturdiness.faces;
+
+        if (existing != null) {
+            return existing;
+        }
+
+        var maxStateId = 0;
+
+        for (var block : Block.values()) {
+            for (var state : block.possibleStates()) {
+                maxStateId = Math.max(maxStateId, state.stateId());
+            }
+        }
+
+        var faces = new byte[maxStateId + 1];
+
+        for (var block : Block.values()) {
+            for (var state : block.possibleStates()) {
+                var shape = state.registry().collisionShape();
+                var bits = 0;
+
+                for (var face : BlockFace.values()) {
+                    if (shape.isFaceFull(face)) {
+                        bits |= 1 << face.ordinal();
+                    }
+                }
+
+                faces[state.stateId()] = (byte) bits;
+            }
+        }
+
+        FaceSturdiness.faces = faces;
+        return faces;
+    }
+
+    /**
+     * Whether every face of {@code block} is full, which is how redstone decides a block conducts power.
+     */
+    static boolean isFullCube(@NotNull Block block) {
+        var faces = FaceSturdiness.faces;
+
+        if (faces == null) {
+            faces = buildAll();
+        }
+
+        var stateId = block.stateId();
+        return stateId < faces.length && faces[stateId] == ALL_FACES;
+    }
+
+    /**
+     * Whether the collision shape of {@code block} fully covers the given face.
+     */
+    static boolean isFull(@NotNull Block block, @NotNull BlockFace face) {
+        var faces = FaceSturdiness.faces;
+
+        if (faces == null) {
+            faces = buildAll();
+        }
+
+        var stateId = block.stateId();
+
+        if (stateId >= faces.length) {
+            return block.registry().collisionShape().isFaceFull(face);
+        }
+
+        return (faces[stateId] & 1 << face.ordinal()) != 0;
+    }
+}
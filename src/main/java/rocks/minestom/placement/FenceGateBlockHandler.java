@@ -13,6 +13,7 @@ import java.util.concurrent.ThreadLocalRandom;
 public final class FenceGateBlockHandler implements BlockHandler {
     public static final FenceGateBlockHandler INSTANCE = new FenceGateBlockHandler();
     private static final Key KEY = Key.key("placement:fence_gate");
+    private static final EnumProperty<BlockFace> FACING = EnumProperty.facing();
 
     private FenceGateBlockHandler() {
 
@@ -36,8 +37,7 @@ public final class FenceGateBlockHandler implements BlockHandler {
         if (currentOpen) {
             updatedBlock = updatedBlock.withProperty("open", "false");
         } else {
-            var facingName = block.getProperty("facing");
-            var currentFacing = facingName == null ? BlockFace.NORTH : BlockFace.valueOf(facingName.toUpperCase());
+            var currentFacing = FACING.get(block, BlockFace.NORTH);
             var playerYaw = interaction.getPlayer().getPosition().yaw();
             var playerFacing = BlockFace.fromYaw(playerYaw);
 
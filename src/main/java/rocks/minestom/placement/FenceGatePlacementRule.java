@@ -1,14 +1,10 @@
 package rocks.minestom.placement;
 
-import net.kyori.adventure.key.Key;
-import net.minestom.server.MinecraftServer;
 import net.minestom.server.coordinate.Point;
 import net.minestom.server.instance.block.Block;
 import net.minestom.server.instance.block.BlockFace;
 import net.minestom.server.instance.block.rule.BlockPlacementRule;
-import net.minestom.server.registry.RegistryTag;
 import org.jetbrains.annotations.NotNull;
-import org.jetbrains.annotations.Nullable;
 
 public final class FenceGatePlacementRule extends BlockPlacementRule {
     public FenceGatePlacementRule(@NotNull Block block) {
@@ -17,36 +13,34 @@ public final class FenceGatePlacementRule extends BlockPlacementRule {
 
     @Override
     public Block blockPlace(@NotNull PlacementState placementState) {
-        // TODO: vanilla checks hasNeighborSignal(pos) and sets open=powered=true; not implemented
         var playerPosition = placementState.playerPosition();
         var yaw = playerPosition == null ? 0.0F : playerPosition.yaw();
         var facing = BlockFace.fromYaw(yaw);
         var blockGetter = placementState.instance();
         var placePosition = placementState.placePosition();
         var inWall = isInWall(blockGetter, placePosition, facing);
+        var powered = SignalIndex.hasNeighborSignal(blockGetter, placePosition);
 
         return this.block
                 .withHandler(FenceGateBlockHandler.INSTANCE)
                 .withProperty("facing", facing.name().toLowerCase())
                 .withProperty("in_wall", String.valueOf(inWall))
-                .withProperty("open", "false")
-                .withProperty("powered", "false");
+                .withProperty("open", String.valueOf(powered))
+                .withProperty("powered", String.valueOf(powered));
     }
 
     private static boolean isInWall(@NotNull Block.Getter blockGetter, @NotNull Point placePosition, @NotNull BlockFace facing) {
-        var wallsTag = MinecraftServer.process().blocks().getTag(Key.key("minecraft:walls"));
-
         if (facing == BlockFace.NORTH || facing == BlockFace.SOUTH) {
-            return isWall(blockGetter, placePosition.relative(BlockFace.WEST), wallsTag)
-                    || isWall(blockGetter, placePosition.relative(BlockFace.EAST), wallsTag);
+            return isWall(blockGetter, placePosition.relative(BlockFace.WEST))
+                    || isWall(blockGetter, placePosition.relative(BlockFace.EAST));
         }
 
-        return isWall(blockGetter, placePosition.relative(BlockFace.NORTH), wallsTag)
-                || isWall(blockGetter, placePosition.relative(BlockFace.SOUTH), wallsTag);
+        return isWall(blockGetter, placePosition.relative(BlockFace.NORTH))
+                || isWall(blockGetter, placePosition.relative(BlockFace.SOUTH));
     }
 
-    private static boolean isWall(@NotNull Block.Getter blockGetter, @NotNull Point neighborPosition, @Nullable RegistryTag<Block> wallsTag) {
+    private static boolean isWall(@NotNull Block.Getter blockGetter, @NotNull Point neighborPosition) {
         var neighbor = blockGetter.getBlock(neighborPosition);
-        return wallsTag != null && wallsTag.contains(neighbor);
+        return BlockTag.WALLS.contains(neighbor);
     }
 }
@@ -1,16 +1,12 @@
 package rocks.minestom.placement;
 
-import net.kyori.adventure.key.Key;
-import net.minestom.server.MinecraftServer;
 import net.minestom.server.coordinate.Point;
 import net.minestom.server.instance.block.Block;
 import net.minestom.server.instance.block.BlockFace;
 import net.minestom.server.instance.block.rule.BlockPlacementRule;
-import net.minestom.server.registry.RegistryTag;
 import org.jetbrains.annotations.NotNull;
-import org.jetbrains.annotations.Nullable;
 
-public final class FencePlacementRule extends BlockPlacementRule {
+public final class FencePlacementRule extends BlockPlacementRule implements ShapeResolvingRule {
     private static final BlockFace[] HORIZONTAL_FACES = {
             BlockFace.NORTH,
             BlockFace.EAST,
@@ -19,37 +15,32 @@ public final class FencePlacementRule extends BlockPlacementRule {
     };
 
     private final boolean wooden;
+    private final BlockStateTable states;
+    private final int[] sideProperties;
+    private final int waterloggedProperty;
 
     public FencePlacementRule(@NotNull Block block) {
         super(block);
-        var woodenFencesTag = MinecraftServer.process().blocks().getTag(Key.key("minecraft:wooden_fences"));
-        this.wooden = woodenFencesTag != null && woodenFencesTag.contains(block);
+        this.wooden = ConnectionEngine.isWoodenFence(block);
+        this.states = BlockStateTable.of(block);
+        this.sideProperties = new int[BlockFace.values().length];
+        this.waterloggedProperty = this.states.property("waterlogged");
+
+        for (var face : BlockFace.values()) {
+            this.sideProperties[face.ordinal()] = this.states.property(face.name().toLowerCase());
+        }
     }
 
     @Override
     public Block blockPlace(@NotNull PlacementState placementState) {
         var blockGetter = placementState.instance();
         var placePosition = placementState.placePosition();
-        var blockRegistry = MinecraftServer.process().blocks();
-        var fencesTag = blockRegistry.getTag(Key.key("minecraft:fences"));
-        var woodenFencesTag = blockRegistry.getTag(Key.key("minecraft:wooden_fences"));
-        var fenceGatesTag = blockRegistry.getTag(Key.key("minecraft:fence_gates"));
-        var leavesTag = blockRegistry.getTag(Key.key("minecraft:leaves"));
-        var shulkerBoxesTag = blockRegistry.getTag(Key.key("minecraft:shulker_boxes"));
         var replaced = blockGetter.getBlock(placePosition);
         var waterlogged = replaced.compare(Block.WATER) && "0".equals(replaced.getProperty("level"));
-        var result = this.block.withProperty("waterlogged", String.valueOf(waterlogged));
-
-        for (var face : HORIZONTAL_FACES) {
-            var neighborPosition = placePosition.relative(face);
-            var neighbor = blockGetter.getBlock(neighborPosition);
-            var oppositeFace = face.getOppositeFace();
-            var sturdy = neighbor.registry().collisionShape().isFaceFull(oppositeFace);
-            var connects = connectsTo(neighbor, sturdy, oppositeFace, this.wooden, fencesTag, woodenFencesTag, fenceGatesTag, leavesTag, shulkerBoxesTag);
-            result = result.withProperty(face.name().toLowerCase(), String.valueOf(connects));
-        }
+        var state = this.states.withBoolean(this.block.stateId(), this.waterloggedProperty, waterlogged);
 
-        return result;
+        state = this.withSides(blockGetter, placePosition, state);
+        return BlockStateTable.block(this.block, state);
     }
 
     @Override
@@ -61,73 +52,27 @@ public final class FencePlacementRule extends BlockPlacementRule {
             return updateState.currentBlock();
         }
 
-        var blockGetter = updateState.instance();
-        var blockPosition = updateState.blockPosition();
-        var neighborPosition = blockPosition.relative(fromFace);
-        var neighbor = blockGetter.getBlock(neighborPosition);
-        var oppositeFace = fromFace.getOppositeFace();
-        var sturdy = neighbor.registry().collisionShape().isFaceFull(oppositeFace);
-        var blockRegistry = MinecraftServer.process().blocks();
-        var fencesTag = blockRegistry.getTag(Key.key("minecraft:fences"));
-        var woodenFencesTag = blockRegistry.getTag(Key.key("minecraft:wooden_fences"));
-        var fenceGatesTag = blockRegistry.getTag(Key.key("minecraft:fence_gates"));
-        var leavesTag = blockRegistry.getTag(Key.key("minecraft:leaves"));
-        var shulkerBoxesTag = blockRegistry.getTag(Key.key("minecraft:shulker_boxes"));
-        var connects = connectsTo(neighbor, sturdy, oppositeFace, this.wooden, fencesTag, woodenFencesTag, fenceGatesTag, leavesTag, shulkerBoxesTag);
-        return updateState.currentBlock().withProperty(fromFace.name().toLowerCase(), String.valueOf(connects));
+        var connects = this.connects(updateState.instance(), updateState.blockPosition(), fromFace);
+        var current = updateState.currentBlock();
+        var state = this.states.withBoolean(current.stateId(), this.sideProperties[fromFace.ordinal()], connects);
+        return BlockStateTable.block(current, state);
     }
 
-    private static boolean connectsTo(
-            @NotNull Block neighbor,
-            boolean sturdy,
-            @NotNull BlockFace oppositeFace,
-            boolean selfWooden,
-            @Nullable RegistryTag<Block> fencesTag,
-            @Nullable RegistryTag<Block> woodenFencesTag,
-            @Nullable RegistryTag<Block> fenceGatesTag,
-            @Nullable RegistryTag<Block> leavesTag,
-            @Nullable RegistryTag<Block> shulkerBoxesTag
-    ) {
-
-        if (fencesTag != null && fencesTag.contains(neighbor)) {
-            var neighborWooden = woodenFencesTag != null && woodenFencesTag.contains(neighbor);
-            return neighborWooden == selfWooden;
-        }
-
-        if (fenceGatesTag != null && fenceGatesTag.contains(neighbor)) {
-            var gateFacing = neighbor.getProperty("facing");
-            return isPerpendicular(gateFacing, oppositeFace);
-        }
-
-        return sturdy && !isExceptionForConnection(neighbor, leavesTag, shulkerBoxesTag);
+    @Override
+    public @NotNull Block resolveShape(@NotNull Block.Getter blockGetter, @NotNull Point position, @NotNull Block current) {
+        return BlockStateTable.block(current, this.withSides(blockGetter, position, current.stateId()));
     }
 
-    private static boolean isPerpendicular(@Nullable String gateFacing, @NotNull BlockFace oppositeFace) {
-        if (gateFacing == null) {
-            return false;
+    private int withSides(@NotNull Block.Getter blockGetter, @NotNull Point position, int state) {
+        for (var face : HORIZONTAL_FACES) {
+            state = this.states.withBoolean(state, this.sideProperties[face.ordinal()], this.connects(blockGetter, position, face));
         }
 
-        var oppositeIsZ = oppositeFace == BlockFace.NORTH || oppositeFace == BlockFace.SOUTH;
-        var gateIsZ = "north".equals(gateFacing) || "south".equals(gateFacing);
-        return oppositeIsZ != gateIsZ;
+        return state;
     }
 
-    private static boolean isExceptionForConnection(
-            @NotNull Block neighbor,
-            @Nullable RegistryTag<Block> leavesTag,
-            @Nullable RegistryTag<Block> shulkerBoxesTag
-    ) {
-        if (leavesTag != null && leavesTag.contains(neighbor)) {
-            return true;
-        }
-
-        if (shulkerBoxesTag != null && shulkerBoxesTag.contains(neighbor)) {
-            return true;
-        }
-        return neighbor.compare(Block.BARRIER)
-                || neighbor.compare(Block.CARVED_PUMPKIN)
-                || neighbor.compare(Block.JACK_O_LANTERN)
-                || neighbor.compare(Block.MELON)
-                || neighbor.compare(Block.PUMPKIN);
+    private boolean connects(@NotNull Block.Getter blockGetter, @NotNull Point position, @NotNull BlockFace face) {
+        var neighbor = blockGetter.getBlock(position.relative(face));
+        return ConnectionEngine.fenceConnects(neighbor, face.getOppositeFace(), this.wooden);
     }
 }
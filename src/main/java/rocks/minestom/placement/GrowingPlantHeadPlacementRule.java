@@ -49,7 +49,7 @@ public final class GrowingPlantHeadPlacementRule extends BlockPlacementRule {
         if (supportBlock.compare(bodyBlock(this.block))) {
             return true;
         }
-        return supportBlock.registry().collisionShape().isFaceFull(this.growthDirection);
+        return FaceSturdiness.isFull(supportBlock, this.growthDirection);
     }
 
     private static BlockFace growthDirection(@NotNull Block block) {
@@ -16,7 +16,7 @@ public final class HangingRootsPlacementRule extends BlockPlacementRule {
         var placePosition = placementState.placePosition();
         var aboveBlock = instance.getBlock(placePosition.relative(BlockFace.TOP));
 
-        if (!aboveBlock.registry().collisionShape().isFaceFull(BlockFace.BOTTOM)) {
+        if (!FaceSturdiness.isFull(aboveBlock, BlockFace.BOTTOM)) {
             return null;
         }
 
@@ -33,7 +33,7 @@ public final class HangingRootsPlacementRule extends BlockPlacementRule {
         }
         var above = updateState.instance().getBlock(updateState.blockPosition().relative(BlockFace.TOP));
 
-        if (!above.registry().collisionShape().isFaceFull(BlockFace.BOTTOM)) {
+        if (!FaceSturdiness.isFull(above, BlockFace.BOTTOM)) {
             return Block.AIR;
         }
         return updateState.currentBlock();
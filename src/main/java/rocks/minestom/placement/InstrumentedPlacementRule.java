@@ -0,0 +1,92 @@
+package rocks.minestom.placement;
+
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.instance.block.rule.BlockPlacementRule;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Times and counts every call to the wrapped rule, and counts the blocks it reads through its getter.
+ * While a {@link PlacementTrace} recording is active, every call's inputs are also recorded.
+ */
+final class InstrumentedPlacementRule extends BlockPlacementRule {
+    private final BlockPlacementRule delegate;
+    private final PlacementMetrics.RuleMetrics metrics;
+
+    InstrumentedPlacementRule(@NotNull BlockPlacementRule delegate, @NotNull PlacementMetrics.RuleMetrics metrics) {
+        super(delegate.getBlock());
+        this.delegate = delegate;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Returns the rule behind an instrumented wrapper, or {@code rule} itself.
+     */
+    static BlockPlacementRule unwrap(BlockPlacementRule rule) {
+        return rule instanceof InstrumentedPlacementRule instrumented ? instrumented.delegate : rule;
+    }
+
+    @Override
+    public Block blockPlace(@NotNull PlacementState placementState) {
+        var recorder = PlacementTrace.recorder();
+
+        if (recorder != null) {
+            recorder.recordPlace(placementState);
+        }
+
+        var getter = new CountingGetter(placementState.instance(), this.metrics);
+        var counted = new PlacementState(
+                getter,
+                placementState.block(),
+                placementState.blockFace(),
+                placementState.placePosition(),
+                placementState.cursorPosition(),
+                placementState.playerPosition(),
+                placementState.usedItemStack(),
+                placementState.isPlayerShifting()
+        );
+
+        var start = System.nanoTime();
+        var result = this.delegate.blockPlace(counted);
+        this.metrics.recordPlace(System.nanoTime() - start, result == null);
+        return result;
+    }
+
+    @Override
+    public Block blockUpdate(@NotNull UpdateState updateState) {
+        var recorder = PlacementTrace.recorder();
+
+        if (recorder != null) {
+            recorder.recordUpdate(updateState);
+        }
+
+        var getter = new CountingGetter(updateState.instance(), this.metrics);
+        var counted = new UpdateState(getter, updateState.blockPosition(), updateState.currentBlock(), updateState.fromFace());
+
+        var start = System.nanoTime();
+        var result = this.delegate.blockUpdate(counted);
+        this.metrics.recordUpdate(System.nanoTime() - start);
+        return result;
+    }
+
+    @Override
+    public boolean isSelfReplaceable(@NotNull Replacement replacement) {
+        return this.delegate.isSelfReplaceable(replacement);
+    }
+
+    @Override
+    public int maxUpdateDistance() {
+        return this.delegate.maxUpdateDistance();
+    }
+
+    /**
+     * Getter handed to instrumented rules. Rules that need the live instance unwrap it through
+     * {@link VanillaPlacementUtils#instance(Block.Getter)}.
+     */
+    record CountingGetter(@NotNull Block.Getter delegate, @NotNull PlacementMetrics.RuleMetrics metrics) implements Block.Getter {
+        @Override
+        public Block getBlock(int x, int y, int z, @NotNull Condition condition) {
+            this.metrics.recordNeighborRead();
+            return this.delegate.getBlock(x, y, z, condition);
+        }
+    }
+}
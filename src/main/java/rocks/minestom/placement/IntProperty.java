@@ -0,0 +1,94 @@
+package rocks.minestom.placement;
+
+import net.minestom.server.instance.block.Block;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Handle on a numeric block state property such as {@code age}, {@code layers} or {@code power}. The
+ * value every state holds is decoded once into a table indexed by state id, so reads are a single array
+ * load instead of a property lookup and a string parse. Handles are shared per property name.
+ */
+final class IntProperty {
+    private static final Map<String, IntProperty> HANDLES = new ConcurrentHashMap<>();
+
+    private final String name;
+    private final byte[] valueByState;
+    private final String[] valueNames;
+
+    private IntProperty(@NotNull String name) {
+        var maxStateId = 0;
+        var maxValue = 0;
+
+        for (var block : Block.values()) {
+            for (var state : block.possibleStates()) {
+                maxStateId = Math.max(maxStateId, state.stateId());
+            }
+        }
+
+        this.name = name;
+        this.valueByState = new byte[maxStateId + 1];
+        Arrays.fill(this.valueByState, (byte) -1);
+
+        for (var block : Block.values()) {
+            if (!block.properties().containsKey(name)) {
+                continue;
+            }
+
+            for (var state : block.possibleStates()) {
+                int value;
+
+                try {
+                    value = Integer.parseInt(state.getProperty(name));
+                } catch (NumberFormatException exception) {
+                    continue;
+                }
+
+                this.valueByState[state.stateId()] = (byte) value;
+                maxValue = Math.max(maxValue, value);
+            }
+        }
+
+        this.valueNames = new String[maxValue + 1];
+
+        for (var value = 0; value <= maxValue; value++) {
+            this.valueNames[value] = Integer.toString(value);
+        }
+    }
+
+    /**
+     * Returns the handle of the named property, decoding it on first use.
+     */
+    static @NotNull IntProperty of(@NotNull String name) {
+        return HANDLES.computeIfAbsent(name, IntProperty::new);
+    }
+
+    @NotNull String name() {
+        return this.name;
+    }
+
+    /**
+     * Returns the value the block holds, or {@code fallback} if it does not have the property.
+     */
+    int get(@NotNull Block block, int fallback) {
+        var stateId = block.stateId();
+
+        if (stateId < 0 || stateId >= this.valueByState.length) {
+            return fallback;
+        }
+
+        var value = this.valueByState[stateId];
+        return value < 0 ? fallback : value;
+    }
+
+    /**
+     * Returns the block with the property set to {@code value}, without formatting the number.
+     */
+    @NotNull Block with(@NotNull Block block, int value) {
+        var name = value >= 0 && value < this.valueNames.length ? this.valueNames[value] : Integer.toString(value);
+        return block.withProperty(this.name, name);
+    }
+}
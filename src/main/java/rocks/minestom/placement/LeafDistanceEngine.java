@@ -0,0 +1,191 @@
+package rocks.minestom.placement;
+
+import net.minestom.server.coordinate.Point;
+import net.minestom.server.coordinate.Vec;
+import net.minestom.server.instance.Instance;
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.instance.block.BlockFace;
+import net.minestom.server.tag.Tag;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Incremental leaf distance propagation, mirroring vanilla's {@code LeavesBlock.updateDistance}. Leaves
+ * whose neighborhood changed are marked dirty; every tick at most {@link #MAX_UPDATES_PER_TICK} of them
+ * recompute their distance from their six neighbors. A changed distance dirties the neighbors in turn,
+ * so felling a tree spreads its work over several ticks instead of running one large search.
+ * <p>
+ * Non-persistent leaves that reach {@link #MAX_DISTANCE} decay straight away, as there are no random
+ * ticks to remove them later.
+ */
+final class LeafDistanceEngine {
+    static final int MAX_DISTANCE = 7;
+    static final int MAX_UPDATES_PER_TICK = 4096;
+
+    private static final Tag<LeafDistanceEngine> TAG = Tag.Transient("placement:leaf_distance_engine");
+    private static final BlockFace[] FACES = BlockFace.values();
+    private static final int INITIAL_CAPACITY = 256;
+    private static final IntProperty DISTANCE = IntProperty.of("distance");
+
+    private final Instance instance;
+    private PositionQueue dirty = new PositionQueue(INITIAL_CAPACITY);
+    private PositionQueue processing = new PositionQueue(INITIAL_CAPACITY);
+    private boolean scheduled;
+
+    private LeafDistanceEngine(@NotNull Instance instance) {
+        this.instance = instance;
+    }
+
+    static @NotNull LeafDistanceEngine of(@NotNull Instance instance) {
+        var engine = instance.getTag(TAG);
+
+        if (engine != null) {
+            return engine;
+        }
+
+        synchronized (instance) {
+            engine = instance.getTag(TAG);
+
+            if (engine == null) {
+                engine = new LeafDistanceEngine(instance);
+                instance.setTag(TAG, engine);
+            }
+
+            return engine;
+        }
+    }
+
+    /**
+     * Returns the distance leaves at {@code position} would have, from the current state of its neighbors.
+     */
+    static int computeDistance(@NotNull Block.Getter blockGetter, @NotNull Point position) {
+        var distance = MAX_DISTANCE;
+
+        for (var face : FACES) {
+            var neighbor = blockGetter.getBlock(position.relative(face));
+            distance = Math.min(distance, distanceAt(neighbor) + 1);
+
+            if (distance == 1) {
+                break;
+            }
+        }
+
+        return distance;
+    }
+
+    void markDirty(@NotNull Point position) {
+        this.markDirty(position.blockX(), position.blockY(), position.blockZ());
+    }
+
+    synchronized int pendingUpdates() {
+        return this.dirty.size();
+    }
+
+    private void markDirty(int x, int y, int z) {
+        synchronized (this) {
+            this.dirty.add(PositionQueue.pack(x, y, z), 0);
+
+            if (this.scheduled) {
+                return;
+            }
+
+            this.scheduled = true;
+        }
+
+        this.instance.scheduleNextTick(ignored -> this.process());
+    }
+
+    private void process() {
+        PositionQueue batch;
+
+        synchronized (this) {
+            batch = this.dirty;
+            this.dirty = this.processing;
+            this.processing = batch;
+            this.scheduled = false;
+        }
+
+        var budget = Math.min(batch.size(), MAX_UPDATES_PER_TICK);
+
+        try {
+            for (var index = 0; index < budget; index++) {
+                this.update(batch.position(index));
+            }
+        } finally {
+            for (var index = budget; index < batch.size(); index++) {
+                var packed = batch.position(index);
+                this.markDirty(PositionQueue.unpackX(packed), PositionQueue.unpackY(packed), PositionQueue.unpackZ(packed));
+            }
+
+            batch.clear();
+        }
+    }
+
+    private void update(long packed) {
+        var x = PositionQueue.unpackX(packed);
+        var y = PositionQueue.unpackY(packed);
+        var z = PositionQueue.unpackZ(packed);
+
+        if (!this.isLoaded(x, z)) {
+            // the chunk or one next to it unloaded while the position was dirty
+            return;
+        }
+
+        var block = this.instance.getBlock(x, y, z);
+
+        if (!isLeaves(block)) {
+            return;
+        }
+
+        var position = new Vec(x, y, z);
+        var distance = computeDistance(this.instance, position);
+        var current = distanceAt(block);
+
+        if (distance == current) {
+            return;
+        }
+
+        if (distance == MAX_DISTANCE && "false".equals(block.getProperty("persistent"))) {
+            var waterlogged = "true".equals(block.getProperty("waterlogged"));
+            this.instance.setBlock(position, waterlogged ? Block.WATER : Block.AIR, false);
+        } else {
+            this.instance.setBlock(position, DISTANCE.with(block, distance), false);
+        }
+
+        SignalIndex.invalidate(this.instance, x, y, z);
+
+        for (var face : FACES) {
+            var direction = face.toDirection();
+            var neighborX = x + direction.normalX();
+            var neighborY = y + direction.normalY();
+            var neighborZ = z + direction.normalZ();
+
+            if (isLeaves(this.instance.getBlock(neighborX, neighborY, neighborZ))) {
+                this.markDirty(neighborX, neighborY, neighborZ);
+            }
+        }
+    }
+
+    /**
+     * Whether the chunks holding the position and its horizontal neighbors are all loaded.
+     */
+    private boolean isLoaded(int x, int z) {
+        return this.instance.isChunkLoaded((x - 1) >> 4, z >> 4) && this.instance.isChunkLoaded((x + 1) >> 4, z >> 4)
+                && this.instance.isChunkLoaded(x >> 4, (z - 1) >> 4) && this.instance.isChunkLoaded(x >> 4, (z + 1) >> 4);
+    }
+
+    private static boolean isLeaves(@NotNull Block block) {
+        return BlockTag.LEAVES.contains(block) && block.getProperty("distance") != null;
+    }
+
+    private static int distanceAt(@NotNull Block block) {
+        if (BlockTag.LOGS.contains(block)) {
+            return 0;
+        }
+
+        if (!BlockTag.LEAVES.contains(block)) {
+            return MAX_DISTANCE;
+        }
+
+        return DISTANCE.get(block, MAX_DISTANCE);
+    }
+}
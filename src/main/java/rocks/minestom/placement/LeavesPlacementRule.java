@@ -5,6 +5,8 @@ import net.minestom.server.instance.block.rule.BlockPlacementRule;
 import org.jetbrains.annotations.NotNull;
 
 public final class LeavesPlacementRule extends BlockPlacementRule {
+    private static final IntProperty DISTANCE = IntProperty.of("distance");
+
     public LeavesPlacementRule(@NotNull Block block) {
         super(block);
     }
@@ -14,11 +16,22 @@ public final class LeavesPlacementRule extends BlockPlacementRule {
         var placePosition = placementState.placePosition();
         var replaced = placementState.instance().getBlock(placePosition);
         var waterlogged = replaced.compare(Block.WATER) && "0".equals(replaced.getProperty("level"));
+        var distance = LeafDistanceEngine.computeDistance(placementState.instance(), placePosition);
 
-        // TODO: vanilla computes distance via BFS over neighbouring logs (LeavesBlock.updateDistance); not implemented
-        return this.block
+        return DISTANCE.with(this.block, distance)
                 .withProperty("persistent", "true")
-                .withProperty("waterlogged", String.valueOf(waterlogged))
-                .withProperty("distance", "7");
+                .withProperty("waterlogged", String.valueOf(waterlogged));
+    }
+
+    @Override
+    public Block blockUpdate(@NotNull UpdateState updateState) {
+        // vanilla defers the distance update to a scheduled tick; the engine batches and caps them per tick
+        var instance = VanillaPlacementUtils.writableInstance(updateState.instance());
+
+        if (instance != null) {
+            LeafDistanceEngine.of(instance).markDirty(updateState.blockPosition());
+        }
+
+        return updateState.currentBlock();
     }
 }
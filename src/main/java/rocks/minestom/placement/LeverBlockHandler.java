@@ -19,6 +19,11 @@ public final class LeverBlockHandler implements BlockHandler {
         return KEY;
     }
 
+    @Override
+    public void onDestroy(@NotNull Destroy destroy) {
+        RedstoneEngine.of(destroy.getInstance()).markSource(destroy.getBlockPosition());
+    }
+
     @Override
     public boolean onInteract(@NotNull Interaction interaction) {
         if (Utility.shouldSkipInteract(interaction)) {
@@ -33,12 +38,11 @@ public final class LeverBlockHandler implements BlockHandler {
         var blockPosition = interaction.getBlockPosition();
 
         instance.setBlock(blockPosition, updatedBlock);
+        RedstoneEngine.of(instance).markSource(blockPosition);
 
         var pitch = newPowered ? 0.6F : 0.5F;
         var sound = Sound.sound(SoundEvent.BLOCK_LEVER_CLICK, Sound.Source.BLOCK, 0.3F, pitch);
         instance.playSound(sound, blockPosition.add(0.5D, 0.5D, 0.5D));
-
-        // TODO: vanilla emits a redstone signal on the connected face; redstone is not simulated here
         return false;
     }
 }
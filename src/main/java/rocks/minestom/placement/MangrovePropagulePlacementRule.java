@@ -1,7 +1,5 @@
 package rocks.minestom.placement;
 
-import net.kyori.adventure.key.Key;
-import net.minestom.server.MinecraftServer;
 import net.minestom.server.instance.block.Block;
 import net.minestom.server.instance.block.BlockFace;
 import net.minestom.server.instance.block.rule.BlockPlacementRule;
@@ -19,9 +17,7 @@ public final class MangrovePropagulePlacementRule extends BlockPlacementRule {
         var replaced = instance.getBlock(placePosition);
         var waterlogged = replaced.compare(Block.WATER) && "0".equals(replaced.getProperty("level"));
         var aboveBlock = instance.getBlock(placePosition.relative(BlockFace.TOP));
-        var registry = MinecraftServer.process().blocks();
-        var hangingSupportTag = registry.getTag(Key.key("minecraft:supports_hanging_mangrove_propagule"));
-        var hanging = hangingSupportTag != null && hangingSupportTag.contains(aboveBlock);
+        var hanging = BlockTag.SUPPORTS_HANGING_MANGROVE_PROPAGULE.contains(aboveBlock);
 
         if (hanging) {
             return this.block
@@ -32,9 +28,7 @@ public final class MangrovePropagulePlacementRule extends BlockPlacementRule {
         }
 
         var belowBlock = instance.getBlock(placePosition.relative(BlockFace.BOTTOM));
-        var supportTag = registry.getTag(Key.key("minecraft:supports_mangrove_propagule"));
-
-        if (supportTag == null || !supportTag.contains(belowBlock)) {
+        if (!BlockTag.SUPPORTS_MANGROVE_PROPAGULE.contains(belowBlock)) {
             return null;
         }
         return this.block
@@ -57,9 +51,7 @@ public final class MangrovePropagulePlacementRule extends BlockPlacementRule {
             return currentBlock;
         }
         var above = updateState.instance().getBlock(updateState.blockPosition().relative(BlockFace.TOP));
-        var hangingSupportTag = MinecraftServer.process().blocks().getTag(Key.key("minecraft:supports_hanging_mangrove_propagule"));
-
-        if (hangingSupportTag != null && hangingSupportTag.contains(above)) {
+        if (BlockTag.SUPPORTS_HANGING_MANGROVE_PROPAGULE.contains(above)) {
             return currentBlock;
         }
         return Block.AIR;
@@ -33,7 +33,7 @@ public final class MossyCarpetPlacementRule extends BlockPlacementRule {
         }
         var below = updateState.instance().getBlock(updateState.blockPosition().relative(BlockFace.BOTTOM));
 
-        if (!below.registry().collisionShape().isFaceFull(BlockFace.TOP)) {
+        if (!FaceSturdiness.isFull(below, BlockFace.TOP)) {
             return Block.AIR;
         }
         return updateState.currentBlock();
@@ -42,7 +42,7 @@ public final class MossyCarpetPlacementRule extends BlockPlacementRule {
     private static String side(@NotNull Block.Getter blockGetter, @NotNull Point placePosition, @NotNull BlockFace face) {
         var neighbor = blockGetter.getBlock(placePosition.relative(face));
 
-        if (neighbor.registry().collisionShape().isFaceFull(face.getOppositeFace())) {
+        if (FaceSturdiness.isFull(neighbor, face.getOppositeFace())) {
             return "low";
         }
         return "none";
@@ -50,6 +50,6 @@ public final class MossyCarpetPlacementRule extends BlockPlacementRule {
 
     private static boolean isSturdyAbove(@NotNull Block.Getter blockGetter, @NotNull Point belowPosition) {
         var below = blockGetter.getBlock(belowPosition);
-        return below.registry().collisionShape().isFaceFull(BlockFace.TOP);
+        return FaceSturdiness.isFull(below, BlockFace.TOP);
     }
 }
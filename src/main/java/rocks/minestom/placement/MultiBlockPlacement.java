@@ -0,0 +1,111 @@
+package rocks.minestom.placement;
+
+import net.minestom.server.coordinate.Point;
+import net.minestom.server.instance.Instance;
+import net.minestom.server.instance.block.Block;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Placement of a block together with the partner blocks it spans (the upper half of a door, the head of a
+ * bed). Every partner is validated before anything is written; if one of them cannot be placed, nothing
+ * is. Once the main block's state is known, the partners are written without updates and the main block
+ * is handed back to Minestom, whose single write of it sends the neighbor updates, which then already see
+ * the partners. The rule never writes its own position.
+ * <p>
+ * Against an {@link AsyncPlacement} snapshot, partners are validated against the snapshot and handed to
+ * it instead; they are written with the main block, and checked for entity collisions, on the tick thread.
+ * Against any other getter the placement fails.
+ */
+final class MultiBlockPlacement {
+    private final Block.Getter blockGetter;
+    private final @Nullable Instance instance;
+    private final @Nullable ChunkSnapshot snapshot;
+    private final Point origin;
+    private final List<Point> positions = new ArrayList<>(1);
+    private final List<Block> blocks = new ArrayList<>(1);
+    private boolean valid;
+
+    private MultiBlockPlacement(@NotNull Block.Getter blockGetter, @NotNull Point origin) {
+        this.blockGetter = blockGetter;
+        this.snapshot = VanillaPlacementUtils.snapshot(blockGetter);
+        this.instance = this.snapshot == null ? VanillaPlacementUtils.instance(blockGetter) : null;
+        this.origin = origin;
+        this.valid = this.snapshot != null || this.instance != null;
+    }
+
+    static @NotNull MultiBlockPlacement begin(@NotNull Block.Getter blockGetter, @NotNull Point origin) {
+        return new MultiBlockPlacement(blockGetter, origin);
+    }
+
+    /**
+     * Adds a partner block. The placement fails if the position is outside the world, in an unloaded
+     * chunk, holds a block that cannot be replaced or the partner would collide with an entity.
+     */
+    @NotNull MultiBlockPlacement with(@NotNull Point position, @NotNull Block block) {
+        if (!this.valid) {
+            return this;
+        }
+
+        if (!this.isInWorld(position)) {
+            this.valid = false;
+            return this;
+        }
+
+        var existing = this.blockGetter.getBlock(position);
+
+        if (!existing.registry().isReplaceable()
+                || this.instance != null && EntityCollisionIndex.of(this.instance).intersects(position, block)) {
+            this.valid = false;
+            return this;
+        }
+
+        this.positions.add(position);
+        this.blocks.add(block);
+        return this;
+    }
+
+    /**
+     * Writes the partners and returns {@code originBlock} for the placement rule to hand back, or
+     * {@code null} without writing anything if a partner failed validation or the main block would collide
+     * with an entity. The main block itself is left to Minestom.
+     */
+    @Nullable Block commit(@NotNull Block originBlock) {
+        if (!this.valid) {
+            return null;
+        }
+
+        if (this.snapshot != null) {
+            for (var index = 0; index < this.positions.size(); index++) {
+                this.snapshot.addPartner(this.positions.get(index), this.blocks.get(index));
+            }
+
+            return originBlock;
+        }
+
+        var instance = this.instance;
+
+        if (EntityCollisionIndex.of(instance).intersects(this.origin, originBlock)) {
+            return null;
+        }
+
+        for (var index = 0; index < this.positions.size(); index++) {
+            instance.setBlock(this.positions.get(index), this.blocks.get(index), false);
+            SignalIndex.invalidate(instance, this.positions.get(index));
+        }
+
+        return originBlock;
+    }
+
+    private boolean isInWorld(@NotNull Point position) {
+        if (this.snapshot != null) {
+            return position.blockY() >= this.snapshot.minY() && position.blockY() < this.snapshot.maxY() && this.snapshot.isLoaded(position);
+        }
+
+        var dimensionType = this.instance.getCachedDimensionType();
+        return position.blockY() >= dimensionType.minY() && position.blockY() < dimensionType.maxY() && this.instance.isChunkLoaded(position);
+    }
+}
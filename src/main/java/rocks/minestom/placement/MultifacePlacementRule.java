@@ -6,15 +6,6 @@ import net.minestom.server.instance.block.rule.BlockPlacementRule;
 import org.jetbrains.annotations.NotNull;
 
 public final class MultifacePlacementRule extends BlockPlacementRule {
-    private static final BlockFace[] DEFAULT_ORDER = {
-            BlockFace.NORTH,
-            BlockFace.EAST,
-            BlockFace.SOUTH,
-            BlockFace.WEST,
-            BlockFace.TOP,
-            BlockFace.BOTTOM
-    };
-
     private final boolean waterloggable;
 
     public MultifacePlacementRule(@NotNull Block block) {
@@ -33,14 +24,14 @@ public final class MultifacePlacementRule extends BlockPlacementRule {
         var existingBlock = instance.getBlock(placePosition);
         var playerPosition = placementState.playerPosition();
         var nearest = playerPosition == null
-                ? DEFAULT_ORDER
-                : orderedByNearest(playerPosition.yaw(), playerPosition.pitch());
+                ? FaceOrdering.DEFAULT
+                : FaceOrdering.nearest(playerPosition.yaw(), playerPosition.pitch());
 
         for (var direction : nearest) {
             var supportPosition = placePosition.relative(direction);
             var supportBlock = instance.getBlock(supportPosition);
 
-            if (!supportBlock.registry().collisionShape().isFaceFull(direction.getOppositeFace())) {
+            if (!FaceSturdiness.isFull(supportBlock, direction.getOppositeFace())) {
                 continue;
             }
 
@@ -73,7 +64,7 @@ public final class MultifacePlacementRule extends BlockPlacementRule {
         var result = currentBlock;
         var anyFace = false;
 
-        for (var direction : DEFAULT_ORDER) {
+        for (var direction : FaceOrdering.DEFAULT) {
             var faceName = faceProperty(direction);
             var faceValue = currentBlock.getProperty(faceName);
 
@@ -82,7 +73,7 @@ public final class MultifacePlacementRule extends BlockPlacementRule {
             }
             var supportBlock = instance.getBlock(blockPosition.relative(direction));
 
-            if (supportBlock.registry().collisionShape().isFaceFull(direction.getOppositeFace())) {
+            if (FaceSturdiness.isFull(supportBlock, direction.getOppositeFace())) {
                 anyFace = true;
                 continue;
             }
@@ -131,48 +122,4 @@ public final class MultifacePlacementRule extends BlockPlacementRule {
             case EAST -> "east";
         };
     }
-
-    private static BlockFace[] orderedByNearest(float yawDegrees, float pitchDegrees) {
-        var pitchRadians = pitchDegrees * (float) (Math.PI / 180.0D);
-        var yawRadians = -yawDegrees * (float) (Math.PI / 180.0D);
-        var pitchSin = (float) Math.sin(pitchRadians);
-        var pitchCos = (float) Math.cos(pitchRadians);
-        var yawSin = (float) Math.sin(yawRadians);
-        var yawCos = (float) Math.cos(yawRadians);
-        var xPositive = yawSin > 0.0F;
-        var yPositive = pitchSin < 0.0F;
-        var zPositive = yawCos > 0.0F;
-        var xYaw = xPositive ? yawSin : -yawSin;
-        var yMagnitude = yPositive ? -pitchSin : pitchSin;
-        var zYaw = zPositive ? yawCos : -yawCos;
-        var xMagnitude = xYaw * pitchCos;
-        var zMagnitude = zYaw * pitchCos;
-        var axisX = xPositive ? BlockFace.EAST : BlockFace.WEST;
-        var axisY = yPositive ? BlockFace.TOP : BlockFace.BOTTOM;
-        var axisZ = zPositive ? BlockFace.SOUTH : BlockFace.NORTH;
-
-        if (xYaw > zYaw) {
-            if (yMagnitude > xMagnitude) {
-                return makeDirectionArray(axisY, axisX, axisZ);
-            }
-
-            if (zMagnitude > yMagnitude) {
-                return makeDirectionArray(axisX, axisZ, axisY);
-            }
-            return makeDirectionArray(axisX, axisY, axisZ);
-        }
-
-        if (yMagnitude > zMagnitude) {
-            return makeDirectionArray(axisY, axisZ, axisX);
-        }
-
-        if (xMagnitude > yMagnitude) {
-            return makeDirectionArray(axisZ, axisX, axisY);
-        }
-        return makeDirectionArray(axisZ, axisY, axisX);
-    }
-
-    private static BlockFace[] makeDirectionArray(@NotNull BlockFace first, @NotNull BlockFace second, @NotNull BlockFace third) {
-        return new BlockFace[]{first, second, third, third.getOppositeFace(), second.getOppositeFace(), first.getOppositeFace()};
-    }
 }
@@ -1,7 +1,5 @@
 package rocks.minestom.placement;
 
-import net.kyori.adventure.key.Key;
-import net.minestom.server.MinecraftServer;
 import net.minestom.server.instance.block.Block;
 import net.minestom.server.instance.block.BlockFace;
 import net.minestom.server.instance.block.rule.BlockPlacementRule;
@@ -17,13 +15,11 @@ public final class MushroomPlacementRule extends BlockPlacementRule {
         var instance = placementState.instance();
         var supportPosition = placementState.placePosition().relative(BlockFace.BOTTOM);
         var supportBlock = instance.getBlock(supportPosition);
-        var growTag = MinecraftServer.process().blocks().getTag(Key.key("minecraft:mushroom_grow_block"));
-
-        if (growTag != null && growTag.contains(supportBlock)) {
+        if (BlockTag.MUSHROOM_GROW_BLOCK.contains(supportBlock)) {
             return this.block;
         }
 
-        if (supportBlock.registry().collisionShape().isFaceFull(BlockFace.TOP)) {
+        if (FaceSturdiness.isFull(supportBlock, BlockFace.TOP)) {
             return this.block;
         }
         // TODO: vanilla also checks light level (< 13); not implemented
@@ -38,7 +34,7 @@ public final class MushroomPlacementRule extends BlockPlacementRule {
         }
         var below = updateState.instance().getBlock(updateState.blockPosition().relative(BlockFace.BOTTOM));
 
-        if (!below.registry().collisionShape().isFaceFull(BlockFace.TOP)) {
+        if (!FaceSturdiness.isFull(below, BlockFace.TOP)) {
             return Block.AIR;
         }
         return updateState.currentBlock();
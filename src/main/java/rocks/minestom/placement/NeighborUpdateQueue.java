@@ -0,0 +1,182 @@
+package rocks.minestom.placement;
+
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.coordinate.Point;
+import net.minestom.server.coordinate.Vec;
+import net.minestom.server.instance.Instance;
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.instance.block.BlockFace;
+import net.minestom.server.instance.block.rule.BlockPlacementRule;
+import net.minestom.server.tag.Tag;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Per-instance queue of pending neighbor rule updates. Positions are deduplicated and every face an
+ * update arrived from is coalesced into a single entry, so a neighbor shared by many placements in the
+ * same tick is only read, updated and written once. The queue flushes once per tick.
+ * <p>
+ * Updates enqueued while a flush is running are deferred to the next tick.
+ */
+public final class NeighborUpdateQueue {
+    private static final Tag<NeighborUpdateQueue> TAG = Tag.Transient("placement:neighbor_update_queue");
+    private static final BlockFace[] FACES = BlockFace.values();
+    private static final BlockFace[] HORIZONTAL_FACES = {
+            BlockFace.NORTH,
+            BlockFace.EAST,
+            BlockFace.SOUTH,
+            BlockFace.WEST
+    };
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final Instance instance;
+    private PositionQueue pending = new PositionQueue(INITIAL_CAPACITY);
+    private PositionQueue flushing = new PositionQueue(INITIAL_CAPACITY);
+    private boolean scheduled;
+
+    private volatile long lastFlushNanos;
+    private volatile int lastFlushSize;
+    private volatile long totalFlushed;
+
+    private NeighborUpdateQueue(@NotNull Instance instance) {
+        this.instance = instance;
+    }
+
+    /**
+     * Returns the queue of the given instance, creating it on first use.
+     */
+    public static @NotNull NeighborUpdateQueue of(@NotNull Instance instance) {
+        var queue = instance.getTag(TAG);
+
+        if (queue != null) {
+            return queue;
+        }
+
+        synchronized (instance) {
+            queue = instance.getTag(TAG);
+
+            if (queue == null) {
+                queue = new NeighborUpdateQueue(instance);
+                instance.setTag(TAG, queue);
+            }
+
+            return queue;
+        }
+    }
+
+    /**
+     * Queues a rule update of the block at {@code position}, coming from the neighbor on {@code fromFace}.
+     */
+    public void enqueue(@NotNull Point position, @NotNull BlockFace fromFace) {
+        this.enqueue(position.blockX(), position.blockY(), position.blockZ(), fromFace);
+    }
+
+    /**
+     * Queues a rule update of the four horizontal neighbors of {@code centerPosition}.
+     */
+    public void enqueueHorizontalNeighbors(@NotNull Point centerPosition) {
+        var x = centerPosition.blockX();
+        var y = centerPosition.blockY();
+        var z = centerPosition.blockZ();
+
+        for (var face : HORIZONTAL_FACES) {
+            var direction = face.toDirection();
+            this.enqueue(x + direction.normalX(), y + direction.normalY(), z + direction.normalZ(), face.getOppositeFace());
+        }
+    }
+
+    private void enqueue(int x, int y, int z, @NotNull BlockFace fromFace) {
+        synchronized (this) {
+            this.pending.add(PositionQueue.pack(x, y, z), 1 << fromFace.ordinal());
+
+            if (this.scheduled) {
+                return;
+            }
+
+            this.scheduled = true;
+        }
+
+        this.instance.scheduleNextTick(ignored -> this.flush());
+    }
+
+    /**
+     * Number of positions currently waiting for the next flush.
+     */
+    public synchronized int pendingUpdates() {
+        return this.pending.size();
+    }
+
+    /**
+     * Wall-clock duration of the most recent flush, in nanoseconds.
+     */
+    public long lastFlushNanos() {
+        return this.lastFlushNanos;
+    }
+
+    /**
+     * Number of positions processed by the most recent flush.
+     */
+    public int lastFlushSize() {
+        return this.lastFlushSize;
+    }
+
+    /**
+     * Number of positions processed by every flush of this queue.
+     */
+    public long totalFlushed() {
+        return this.totalFlushed;
+    }
+
+    private void flush() {
+        PositionQueue batch;
+
+        synchronized (this) {
+            batch = this.pending;
+            this.pending = this.flushing;
+            this.flushing = batch;
+            this.scheduled = false;
+        }
+
+        var start = System.nanoTime();
+        var blockManager = MinecraftServer.getBlockManager();
+
+        try {
+            for (var index = 0; index < batch.size(); index++) {
+                var packed = batch.position(index);
+                var x = PositionQueue.unpackX(packed);
+                var z = PositionQueue.unpackZ(packed);
+
+                if (!this.instance.isChunkLoaded(x >> 4, z >> 4)) {
+                    // the chunk unloaded while the update was queued
+                    continue;
+                }
+
+                var position = new Vec(x, PositionQueue.unpackY(packed), z);
+                var original = this.instance.getBlock(position);
+                var block = original;
+                var rule = blockManager.getBlockPlacementRule(block);
+
+                for (var faces = batch.mask(index); faces != 0 && rule != null; faces &= faces - 1) {
+                    var fromFace = FACES[Integer.numberOfTrailingZeros(faces)];
+                    var updated = rule.blockUpdate(new BlockPlacementRule.UpdateState(this.instance, position, block, fromFace));
+
+                    if (updated.id() != block.id()) {
+                        rule = blockManager.getBlockPlacementRule(updated);
+                    }
+
+                    block = updated;
+                }
+
+                if (block != original) {
+                    this.instance.setBlock(position, block, false);
+                    SignalIndex.invalidate(this.instance, position);
+                }
+            }
+        } finally {
+            // a failing update only loses the rest of this batch, never the updates queued behind it
+            this.lastFlushNanos = System.nanoTime() - start;
+            this.lastFlushSize = batch.size();
+            this.totalFlushed += batch.size();
+            batch.clear();
+        }
+    }
+}
@@ -9,6 +9,7 @@ import org.jetbrains.annotations.NotNull;
 public final class NoteBlockHandler implements BlockHandler {
     public static final NoteBlockHandler INSTANCE = new NoteBlockHandler();
     private static final Key KEY = Key.key("placement:note_block");
+    private static final IntProperty NOTE = IntProperty.of("note");
 
     private NoteBlockHandler() {
 
@@ -26,10 +27,9 @@ public final class NoteBlockHandler implements BlockHandler {
         }
 
         var block = interaction.getBlock();
-        var noteProperty = block.getProperty("note");
-        var note = noteProperty == null ? 0 : Integer.parseInt(noteProperty);
+        var note = NOTE.get(block, 0);
         var nextNote = (note + 1) % 25;
-        var updatedBlock = block.withProperty("note", Integer.toString(nextNote));
+        var updatedBlock = NOTE.with(block, nextNote);
         var instance = interaction.getInstance();
         var blockPosition = interaction.getBlockPosition();
 
@@ -0,0 +1,251 @@
+package rocks.minestom.placement;
+
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.coordinate.Point;
+import net.minestom.server.coordinate.Vec;
+import net.minestom.server.instance.Instance;
+import net.minestom.server.instance.batch.AbsoluteBlockBatch;
+import net.minestom.server.instance.block.Block;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Bulk placement entry points that resolve the connection shapes of many blocks at once, instead of
+ * placing them one by one and letting neighbor updates cascade through the world.
+ */
+public final class PlacementEngine {
+    private static final int CHUNK_SIZE = 16;
+
+    private PlacementEngine() {
+
+    }
+
+    /**
+     * Recomputes the shape of every wall, fence, pane, bar and stair inside the region, reading
+     * neighbors from the region itself and falling back to {@code world} for unset positions and
+     * positions outside of it. Shapes are resolved in place, top layer first so that walls see the
+     * final posts above them, and the region is returned ready to be {@linkplain PlacementRegion#apply applied}.
+     * <p>
+     * Blocks outside the region are not updated; neighbors along the border still need a regular
+     * update if they should connect to the pasted blocks.
+     */
+    public static @NotNull PlacementRegion resolveRegion(@NotNull Block.Getter world, @NotNull PlacementRegion region) {
+        var overlay = new Overlay(world, region);
+        var blockManager = MinecraftServer.getBlockManager();
+        var originX = region.origin().blockX();
+        var originY = region.origin().blockY();
+        var originZ = region.origin().blockZ();
+
+        for (var y = region.sizeY() - 1; y >= 0; y--) {
+            for (var z = 0; z < region.sizeZ(); z++) {
+                for (var x = 0; x < region.sizeX(); x++) {
+                    var block = region.get(x, y, z);
+
+                    if (block == null) {
+                        continue;
+                    }
+
+                    if (!(InstrumentedPlacementRule.unwrap(blockManager.getBlockPlacementRule(block)) instanceof ShapeResolvingRule rule)) {
+                        continue;
+                    }
+
+                    var position = new Vec(originX + x, originY + y, originZ + z);
+                    region.set(x, y, z, rule.resolveShape(overlay, position, block));
+                }
+            }
+        }
+
+        return region;
+    }
+
+    /**
+     * Parallel variant of {@link #resolveRegion(Block.Getter, PlacementRegion)} for large imports. The
+     * region is split into chunk-aligned columns that are resolved independently on {@code pool}, each
+     * returning one batch holding the resolved blocks of that chunk. The region itself is left untouched.
+     * <p>
+     * Within a column, neighbors are read from the blocks already resolved in that column (top layer
+     * first, as in the sequential variant). Across a column border they are read from the unresolved
+     * region, which only differs from the resolved one in connection properties.
+     * <p>
+     * The workers never read {@code world}: the one-block ring around the region and its unset positions
+     * are captured on the calling thread before forking, so this must be called
+     * from a thread that may read {@code world}, such as the instance's tick thread.
+     */
+    public static @NotNull List<AbsoluteBlockBatch> resolveRegionParallel(@NotNull Block.Getter world, @NotNull PlacementRegion region, @NotNull ForkJoinPool pool) {
+        return resolveCaptured(captureHalo(world, region), region, pool);
+    }
+
+    /**
+     * Copies the blocks of {@code world} that resolving {@code region} can read: the one-block ring around
+     * it and the positions it leaves unset. The returned region is one block larger than {@code region} on
+     * every side. Positions in unloaded chunks or outside the world read as air.
+     */
+    static @NotNull PlacementRegion captureHalo(@NotNull Block.Getter world, @NotNull PlacementRegion region) {
+        var origin = region.origin();
+        var halo = new PlacementRegion(origin.sub(1, 1, 1), region.sizeX() + 2, region.sizeY() + 2, region.sizeZ() + 2);
+        var instance = world instanceof Instance worldInstance ? worldInstance : null;
+        var minY = instance == null ? Integer.MIN_VALUE : instance.getCachedDimensionType().minY();
+        var maxY = instance == null ? Integer.MAX_VALUE : instance.getCachedDimensionType().maxY();
+
+        for (var y = 0; y < halo.sizeY(); y++) {
+            for (var z = 0; z < halo.sizeZ(); z++) {
+                for (var x = 0; x < halo.sizeX(); x++) {
+                    if (region.contains(x - 1, y - 1, z - 1) && region.get(x - 1, y - 1, z - 1) != null) {
+                        continue;
+                    }
+
+                    var worldX = origin.blockX() + x - 1;
+                    var worldY = origin.blockY() + y - 1;
+                    var worldZ = origin.blockZ() + z - 1;
+
+                    if (instance != null && (worldY < minY || worldY >= maxY || !instance.isChunkLoaded(worldX >> 4, worldZ >> 4))) {
+                        halo.set(x, y, z, Block.AIR);
+                        continue;
+                    }
+
+                    halo.set(x, y, z, world.getBlock(worldX, worldY, worldZ, Block.Getter.Condition.TYPE));
+                }
+            }
+        }
+
+        return halo;
+    }
+
+    /**
+     * Resolves {@code region} in parallel against a halo {@linkplain #captureHalo captured} beforehand.
+     */
+    static @NotNull List<AbsoluteBlockBatch> resolveCaptured(@NotNull PlacementRegion halo, @NotNull PlacementRegion region, @NotNull ForkJoinPool pool) {
+        var resolved = new PlacementRegion(region.origin(), region.sizeX(), region.sizeY(), region.sizeZ());
+        var originX = region.origin().blockX();
+        var originZ = region.origin().blockZ();
+        var minChunkX = Math.floorDiv(originX, CHUNK_SIZE);
+        var maxChunkX = Math.floorDiv(originX + region.sizeX() - 1, CHUNK_SIZE);
+        var minChunkZ = Math.floorDiv(originZ, CHUNK_SIZE);
+        var maxChunkZ = Math.floorDiv(originZ + region.sizeZ() - 1, CHUNK_SIZE);
+        var tasks = new ArrayList<ForkJoinTask<AbsoluteBlockBatch>>();
+
+        for (var chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
+            for (var chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++) {
+                var minX = Math.max(chunkX * CHUNK_SIZE - originX, 0);
+                var maxX = Math.min((chunkX + 1) * CHUNK_SIZE - originX, region.sizeX());
+                var minZ = Math.max(chunkZ * CHUNK_SIZE - originZ, 0);
+                var maxZ = Math.min((chunkZ + 1) * CHUNK_SIZE - originZ, region.sizeZ());
+                var tile = new Tile(halo, region, resolved, minX, maxX, minZ, maxZ);
+                tasks.add(ForkJoinTask.adapt(tile::resolve));
+            }
+        }
+
+        pool.invoke(ForkJoinTask.adapt(() -> ForkJoinTask.invokeAll(tasks)));
+        var batches = new ArrayList<AbsoluteBlockBatch>(tasks.size());
+
+        for (var task : tasks) {
+            batches.add(task.join());
+        }
+
+        return batches;
+    }
+
+    /**
+     * Resolves the shape of every stair horizontally connected to {@code origin} in one pass, writing
+     * the stairs whose shape changed without triggering neighbor updates. Meant for roofs and staircases
+     * written with block updates disabled, e.g. after {@linkplain PlacementRegion#apply applying} a region
+     * whose border stairs should join the existing ones. Returns the number of stairs rewritten.
+     */
+    public static int resolveStairCluster(@NotNull Instance instance, @NotNull Point origin) {
+        return StairShapeSolver.resolveCluster(instance, origin);
+    }
+
+    /**
+     * One chunk-aligned column of a region, in region-relative coordinates ({@code max} exclusive).
+     */
+    private record Tile(@NotNull PlacementRegion halo, @NotNull PlacementRegion source, @NotNull PlacementRegion resolved,
+                        int minX, int maxX, int minZ, int maxZ) implements Block.Getter {
+        AbsoluteBlockBatch resolve() {
+            var blockManager = MinecraftServer.getBlockManager();
+            var batch = new AbsoluteBlockBatch();
+            var originX = this.source.origin().blockX();
+            var originY = this.source.origin().blockY();
+            var originZ = this.source.origin().blockZ();
+
+            for (var y = this.source.sizeY() - 1; y >= 0; y--) {
+                for (var z = this.minZ; z < this.maxZ; z++) {
+                    for (var x = this.minX; x < this.maxX; x++) {
+                        var block = this.source.get(x, y, z);
+
+                        if (block == null) {
+                            continue;
+                        }
+
+                        if (InstrumentedPlacementRule.unwrap(blockManager.getBlockPlacementRule(block)) instanceof ShapeResolvingRule rule) {
+                            block = rule.resolveShape(this, new Vec(originX + x, originY + y, originZ + z), block);
+                        }
+
+                        this.resolved.set(x, y, z, block);
+                        batch.setBlock(originX + x, originY + y, originZ + z, block);
+                    }
+                }
+            }
+
+            return batch;
+        }
+
+        @Override
+        public Block getBlock(int x, int y, int z, @NotNull Condition condition) {
+            var origin = this.source.origin();
+            var relativeX = x - origin.blockX();
+            var relativeY = y - origin.blockY();
+            var relativeZ = z - origin.blockZ();
+
+            if (!this.source.contains(relativeX, relativeY, relativeZ)) {
+                return this.haloBlock(relativeX, relativeY, relativeZ);
+            }
+
+            if (relativeX >= this.minX && relativeX < this.maxX && relativeZ >= this.minZ && relativeZ < this.maxZ) {
+                var block = this.resolved.get(relativeX, relativeY, relativeZ);
+
+                if (block != null) {
+                    return block;
+                }
+            }
+
+            var block = this.source.get(relativeX, relativeY, relativeZ);
+            return block != null ? block : this.haloBlock(relativeX, relativeY, relativeZ);
+        }
+
+        /**
+         * Reads the captured world at a position relative to the source region; beyond the halo is air.
+         */
+        private @NotNull Block haloBlock(int relativeX, int relativeY, int relativeZ) {
+            if (!this.halo.contains(relativeX + 1, relativeY + 1, relativeZ + 1)) {
+                return Block.AIR;
+            }
+
+            var block = this.halo.get(relativeX + 1, relativeY + 1, relativeZ + 1);
+            return block != null ? block : Block.AIR;
+        }
+    }
+
+    private record Overlay(@NotNull Block.Getter world, @NotNull PlacementRegion region) implements Block.Getter {
+        @Override
+        public Block getBlock(int x, int y, int z, @NotNull Condition condition) {
+            var origin = this.region.origin();
+            var relativeX = x - origin.blockX();
+            var relativeY = y - origin.blockY();
+            var relativeZ = z - origin.blockZ();
+
+            if (this.region.contains(relativeX, relativeY, relativeZ)) {
+                var block = this.region.get(relativeX, relativeY, relativeZ);
+
+                if (block != null) {
+                    return block;
+                }
+            }
+
+            return this.world.getBlock(x, y, z, condition);
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package rocks.minestom.placement;
+
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.instance.block.BlockManager;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Pull-based metrics for placement rules, keyed by rule class name. Only populated when rules were
+ * registered with {@link Registrations#registerAllVanilla(BlockManager, boolean) instrumentation
+ * enabled}; otherwise the plain rules are registered and nothing is recorded.
+ */
+public final class PlacementMetrics {
+    private static final Map<String, RuleMetrics> RULES = new ConcurrentHashMap<>();
+    private static volatile boolean enabled;
+
+    private PlacementMetrics() {
+
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Returns a live, read-only view of the metrics of every instrumented rule.
+     */
+    public static @NotNull Map<String, RuleMetrics> rules() {
+        return Collections.unmodifiableMap(RULES);
+    }
+
+    /**
+     * Clears every counter and histogram, e.g. after an exporter scraped them.
+     */
+    public static void reset() {
+        for (var metrics : RULES.values()) {
+            metrics.reset();
+        }
+    }
+
+    /**
+     * Replaces every registered rule by an instrumented wrapper around it.
+     */
+    static void instrument(@NotNull BlockManager blockManager) {
+        for (var block : Block.values()) {
+            var rule = blockManager.getBlockPlacementRule(block);
+
+            if (rule == null || rule instanceof InstrumentedPlacementRule) {
+                continue;
+            }
+
+            var metrics = RULES.computeIfAbsent(rule.getClass().getSimpleName(), ignored -> new RuleMetrics());
+            blockManager.registerBlockPlacementRule(new InstrumentedPlacementRule(rule, metrics));
+        }
+
+        enabled = true;
+    }
+
+    /**
+     * Counters of a single rule class. Latency histograms use power-of-two buckets: bucket {@code i}
+     * counts calls that took less than {@code 2^i} nanoseconds and at least {@code 2^(i-1)}.
+     */
+    public static final class RuleMetrics {
+        public static final int BUCKETS = 64;
+
+        private final LongAdder placeCalls = new LongAdder();
+        private final LongAdder updateCalls = new LongAdder();
+        private final LongAdder rejectedPlacements = new LongAdder();
+        private final LongAdder neighborReads = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final AtomicLongArray placeLatency = new AtomicLongArray(BUCKETS);
+        private final AtomicLongArray updateLatency = new AtomicLongArray(BUCKETS);
+
+        private RuleMetrics() {
+
+        }
+
+        public long placeCalls() {
+            return this.placeCalls.sum();
+        }
+
+        public long updateCalls() {
+            return this.updateCalls.sum();
+        }
+
+        /**
+         * Number of {@code blockPlace} calls that returned {@code null}, i.e. cancelled the placement.
+         */
+        public long rejectedPlacements() {
+            return this.rejectedPlacements.sum();
+        }
+
+        /**
+         * Number of blocks read through the getter passed to the rule, over all calls.
+         */
+        public long neighborReads() {
+            return this.neighborReads.sum();
+        }
+
+        /**
+         * Time spent in {@code blockPlace} and {@code blockUpdate}, over all calls.
+         */
+        public long totalNanos() {
+            return this.totalNanos.sum();
+        }
+
+        public long @NotNull [] placeLatencyHistogram() {
+            return snapshot(this.placeLatency);
+        }
+
+        public long @NotNull [] updateLatencyHistogram() {
+            return snapshot(this.updateLatency);
+        }
+
+        void recordPlace(long nanos, boolean rejected) {
+            this.placeCalls.increment();
+            this.totalNanos.add(nanos);
+            this.placeLatency.incrementAndGet(bucket(nanos));
+
+            if (rejected) {
+                this.rejectedPlacements.increment();
+            }
+        }
+
+        void recordUpdate(long nanos) {
+            this.updateCalls.increment();
+            this.totalNanos.add(nanos);
+            this.updateLatency.incrementAndGet(bucket(nanos));
+        }
+
+        void recordNeighborRead() {
+            this.neighborReads.increment();
+        }
+
+        private void reset() {
+            this.placeCalls.reset();
+            this.updateCalls.reset();
+            this.rejectedPlacements.reset();
+            this.neighborReads.reset();
+            this.totalNanos.reset();
+
+            for (var index = 0; index < BUCKETS; index++) {
+                this.placeLatency.set(index, 0L);
+                this.updateLatency.set(index, 0L);
+            }
+        }
+
+        private static int bucket(long nanos) {
+            return Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(Math.max(0L, nanos)));
+        }
+
+        private static long[] snapshot(@NotNull AtomicLongArray histogram) {
+            var values = new long[histogram.length()];
+
+            for (var index = 0; index < values.length; index++) {
+                values[index] = histogram.get(index);
+            }
+
+            return values;
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package rocks.minestom.placement;
+
+import net.minestom.server.coordinate.Point;
+import net.minestom.server.instance.Instance;
+import net.minestom.server.instance.block.Block;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A dense box of blocks about to be written into a world, e.g. a pasted prefab. Positions are relative
+ * to {@link #origin()}; unset positions are left untouched when the region is applied.
+ *
+ * @see PlacementEngine#resolveRegion(Block.Getter, PlacementRegion)
+ */
+public final class PlacementRegion {
+    private final Point origin;
+    private final int sizeX;
+    private final int sizeY;
+    private final int sizeZ;
+    private final Block[] blocks;
+
+    public PlacementRegion(@NotNull Point origin, int sizeX, int sizeY, int sizeZ) {
+        if (sizeX <= 0 || sizeY <= 0 || sizeZ <= 0) {
+            throw new IllegalArgumentException("Region size must be positive: " + sizeX + "x" + sizeY + "x" + sizeZ);
+        }
+
+        this.origin = origin;
+        this.sizeX = sizeX;
+        this.sizeY = sizeY;
+        this.sizeZ = sizeZ;
+        this.blocks = new Block[Math.multiplyExact(Math.multiplyExact(sizeX, sizeY), sizeZ)];
+    }
+
+    public @NotNull Point origin() {
+        return this.origin;
+    }
+
+    public int sizeX() {
+        return this.sizeX;
+    }
+
+    public int sizeY() {
+        return this.sizeY;
+    }
+
+    public int sizeZ() {
+        return this.sizeZ;
+    }
+
+    public @Nullable Block get(int x, int y, int z) {
+        return this.blocks[this.index(x, y, z)];
+    }
+
+    public @NotNull PlacementRegion set(int x, int y, int z, @Nullable Block block) {
+        this.blocks[this.index(x, y, z)] = block;
+        return this;
+    }
+
+    /**
+     * Returns whether the relative position lies inside the region.
+     */
+    public boolean contains(int x, int y, int z) {
+        return x >= 0 && y >= 0 && z >= 0 && x < this.sizeX && y < this.sizeY && z < this.sizeZ;
+    }
+
+    /**
+     * Writes every set block through the given setter, which may be an instance or a block batch.
+     */
+    public void apply(@NotNull Block.Setter setter) {
+        var originX = this.origin.blockX();
+        var originY = this.origin.blockY();
+        var originZ = this.origin.blockZ();
+
+        for (var y = 0; y < this.sizeY; y++) {
+            for (var z = 0; z < this.sizeZ; z++) {
+                for (var x = 0; x < this.sizeX; x++) {
+                    var block = this.blocks[this.index(x, y, z)];
+
+                    if (block != null) {
+                        setter.setBlock(originX + x, originY + y, originZ + z, block);
+                    }
+                }
+            }
+        }
+
+        if (setter instanceof Instance instance) {
+            SignalIndex.invalidateArea(instance, originX, originZ, originX + this.sizeX - 1, originZ + this.sizeZ - 1);
+        }
+    }
+
+    private int index(int x, int y, int z) {
+        if (!this.contains(x, y, z)) {
+            throw new IndexOutOfBoundsException("Position " + x + ", " + y + ", " + z + " is outside of the region");
+        }
+
+        return (y * this.sizeZ + z) * this.sizeX + x;
+    }
+}
@@ -0,0 +1,383 @@
+package rocks.minestom.placement;
+
+import net.minestom.server.coordinate.Point;
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.coordinate.Vec;
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.instance.block.BlockFace;
+import net.minestom.server.instance.block.BlockManager;
+import net.minestom.server.instance.block.rule.BlockPlacementRule;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Binary traces of the inputs placement rules receive, for replaying a real mix of placements offline.
+ * Each event stores the placed or current block state, the face, cursor, player rotation and the 3x3x3
+ * neighborhood around the position as state ids, so a trace is only meaningful for the Minecraft
+ * version it was recorded on.
+ * <p>
+ * Recording hooks into the instrumented rules, so rules must be registered with
+ * {@link Registrations#registerAllVanilla(BlockManager, boolean) instrumentation enabled}.
+ */
+public final class PlacementTrace {
+    private static final int MAGIC = 0x50545243;
+    private static final int VERSION = 1;
+    private static final int PLACE = 0;
+    private static final int UPDATE = 1;
+    private static final int HAS_CURSOR = 1;
+    private static final int HAS_PLAYER = 1 << 1;
+    private static final int SHIFTING = 1 << 2;
+    private static final int NEIGHBORHOOD = 27;
+    private static final BlockFace[] FACES = BlockFace.values();
+
+    private static volatile @Nullable Recorder recorder;
+
+    private PlacementTrace() {
+
+    }
+
+    /**
+     * Starts recording every placement and update of instrumented rules into {@code output}, replacing
+     * any recording in progress.
+     */
+    public static @NotNull Recorder start(@NotNull OutputStream output) throws IOException {
+        var started = new Recorder(output);
+        var previous = recorder;
+        recorder = started;
+
+        if (previous != null) {
+            previous.close();
+        }
+
+        return started;
+    }
+
+    static @Nullable Recorder recorder() {
+        return recorder;
+    }
+
+    /**
+     * Reads every event of a trace.
+     */
+    public static @NotNull List<Event> read(@NotNull InputStream input) throws IOException {
+        var data = new DataInputStream(new BufferedInputStream(input));
+
+        if (data.readInt() != MAGIC) {
+            throw new IOException("Not a placement trace");
+        }
+
+        var version = data.readUnsignedByte();
+
+        if (version != VERSION) {
+            throw new IOException("Unsupported placement trace version " + version);
+        }
+
+        var events = new ArrayList<Event>();
+
+        while (true) {
+            int kind;
+
+            try {
+                kind = data.readUnsignedByte();
+            } catch (EOFException exception) {
+                return events;
+            }
+
+            var block = state(readVarInt(data));
+            var faceOrdinal = data.readByte();
+            var face = faceOrdinal < 0 ? null : FACES[faceOrdinal];
+            Point cursor = null;
+            var yaw = 0.0F;
+            var pitch = 0.0F;
+            var flags = 0;
+
+            if (kind == PLACE) {
+                flags = data.readUnsignedByte();
+
+                if ((flags & HAS_CURSOR) != 0) {
+                    cursor = new Vec(data.readFloat(), data.readFloat(), data.readFloat());
+                }
+
+                if ((flags & HAS_PLAYER) != 0) {
+                    yaw = data.readFloat();
+                    pitch = data.readFloat();
+                }
+            }
+
+            var neighborhood = new Block[NEIGHBORHOOD];
+
+            for (var index = 0; index < NEIGHBORHOOD; index++) {
+                neighborhood[index] = state(readVarInt(data));
+            }
+
+            events.add(new Event(kind == PLACE, block, face, cursor, (flags & HAS_PLAYER) != 0, yaw, pitch, (flags & SHIFTING) != 0, neighborhood));
+        }
+    }
+
+    private static @NotNull Block state(int stateId) throws IOException {
+        var block = Block.fromStateId(stateId);
+
+        if (block == null) {
+            throw new IOException("Unknown block state id " + stateId);
+        }
+
+        return block;
+    }
+
+    private static int readVarInt(@NotNull DataInputStream data) throws IOException {
+        var value = 0;
+        var shift = 0;
+        int current;
+
+        do {
+            current = data.readUnsignedByte();
+            value |= (current & 0x7F) << shift;
+            shift += 7;
+        } while ((current & 0x80) != 0);
+
+        return value;
+    }
+
+    /**
+     * One recorded rule call. The neighborhood is stored in {@code (y, z, x)} order, each from -1 to 1
+     * around the position.
+     */
+    public record Event(boolean placement, @NotNull Block block, @Nullable BlockFace face, @Nullable Point cursorPosition,
+                        boolean hasPlayer, float yaw, float pitch, boolean shifting, @NotNull Block[] neighborhood) {
+        /**
+         * Returns a getter over the recorded neighborhood, centered on {@code center}. Positions outside
+         * of it read as air.
+         */
+        public @NotNull Block.Getter getter(@NotNull Point center) {
+            var centerX = center.blockX();
+            var centerY = center.blockY();
+            var centerZ = center.blockZ();
+            return (x, y, z, condition) -> {
+                var relativeX = x - centerX + 1;
+                var relativeY = y - centerY + 1;
+                var relativeZ = z - centerZ + 1;
+
+                if (relativeX < 0 || relativeY < 0 || relativeZ < 0 || relativeX > 2 || relativeY > 2 || relativeZ > 2) {
+                    return Block.AIR;
+                }
+
+                return this.neighborhood[(relativeY * 3 + relativeZ) * 3 + relativeX];
+            };
+        }
+
+        public @NotNull BlockPlacementRule.PlacementState placementState(@NotNull Point center) {
+            var playerPosition = this.hasPlayer ? new Pos(center.x() + 0.5D, center.y(), center.z() + 0.5D, this.yaw, this.pitch) : null;
+            return new BlockPlacementRule.PlacementState(this.getter(center), this.block, this.face, center, this.cursorPosition, playerPosition, null, this.shifting);
+        }
+
+        public @NotNull BlockPlacementRule.UpdateState updateState(@NotNull Point center) {
+            return new BlockPlacementRule.UpdateState(this.getter(center), center, this.block, this.face == null ? BlockFace.TOP : this.face);
+        }
+    }
+
+    /**
+     * An active recording. Rule calls only encode their event and hand it to a bounded queue; a background
+     * thread writes the queue to the stream, so recording never waits on I/O. Events arriving while the
+     * queue is full are dropped and counted. Closing the recorder writes what is queued, then closes the
+     * underlying stream.
+     */
+    public static final class Recorder implements Closeable {
+        private static final int QUEUE_CAPACITY = 8192;
+        private static final int MAX_EVENT_SIZE = 1 + 5 + 1 + 1 + 3 * 4 + 2 * 4 + NEIGHBORHOOD * 5;
+        private static final byte[] END = new byte[0];
+
+        private final DataOutputStream output;
+        private final BlockingQueue<byte[]> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+        private final AtomicLong dropped = new AtomicLong();
+        private final Thread writer;
+        private volatile boolean closed;
+        private volatile @Nullable IOException failure;
+
+        private Recorder(@NotNull OutputStream output) throws IOException {
+            this.output = new DataOutputStream(new BufferedOutputStream(output));
+            this.output.writeInt(MAGIC);
+            this.output.writeByte(VERSION);
+            this.writer = Thread.ofVirtual().name("placement-trace-writer").start(this::drain);
+        }
+
+        /**
+         * Number of events dropped because the writer fell behind.
+         */
+        public long droppedEvents() {
+            return this.dropped.get();
+        }
+
+        void recordPlace(@NotNull BlockPlacementRule.PlacementState placementState) {
+            if (this.closed) {
+                return;
+            }
+
+            var cursor = placementState.cursorPosition();
+            var player = placementState.playerPosition();
+            var flags = (cursor != null ? HAS_CURSOR : 0) | (player != null ? HAS_PLAYER : 0) | (placementState.isPlayerShifting() ? SHIFTING : 0);
+            var event = new EventBuffer();
+            event.writeByte(PLACE);
+            event.writeVarInt(placementState.block().stateId());
+            event.writeByte(placementState.blockFace() == null ? -1 : placementState.blockFace().ordinal());
+            event.writeByte(flags);
+
+            if (cursor != null) {
+                event.writeFloat((float) cursor.x());
+                event.writeFloat((float) cursor.y());
+                event.writeFloat((float) cursor.z());
+            }
+
+            if (player != null) {
+                event.writeFloat(player.yaw());
+                event.writeFloat(player.pitch());
+            }
+
+            event.writeNeighborhood(placementState.instance(), placementState.placePosition());
+            this.submit(event.toByteArray());
+        }
+
+        void recordUpdate(@NotNull BlockPlacementRule.UpdateState updateState) {
+            if (this.closed) {
+                return;
+            }
+
+            var event = new EventBuffer();
+            event.writeByte(UPDATE);
+            event.writeVarInt(updateState.currentBlock().stateId());
+            event.writeByte(updateState.fromFace().ordinal());
+            event.writeNeighborhood(updateState.instance(), updateState.blockPosition());
+            this.submit(event.toByteArray());
+        }
+
+        /**
+         * Stops recording, waits for the queued events to be written and closes the underlying stream.
+         */
+        @Override
+        public void close() throws IOException {
+            synchronized (this) {
+                if (this.closed) {
+                    return;
+                }
+
+                this.closed = true;
+            }
+
+            if (recorder == this) {
+                recorder = null;
+            }
+
+            try {
+                this.queue.put(END);
+                this.writer.join();
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while closing the placement trace");
+            }
+
+            var failure = this.failure;
+
+            if (failure != null) {
+                throw failure;
+            }
+        }
+
+        private void submit(byte @NotNull [] event) {
+            if (!this.queue.offer(event)) {
+                this.dropped.incrementAndGet();
+            }
+        }
+
+        private void drain() {
+            try {
+                while (true) {
+                    var event = this.queue.take();
+
+                    if (event == END) {
+                        break;
+                    }
+
+                    if (this.failure == null) {
+                        try {
+                            this.output.write(event);
+                        } catch (IOException exception) {
+                            // keep taking events so that producers and close never block on a dead stream
+                            this.failure = exception;
+                        }
+                    }
+                }
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            } finally {
+                try {
+                    this.output.close();
+                } catch (IOException exception) {
+                    if (this.failure == null) {
+                        this.failure = exception;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Encodes one event on the calling thread, sized for the largest event.
+     */
+    private static final class EventBuffer {
+        private final byte[] bytes = new byte[Recorder.MAX_EVENT_SIZE];
+        private int length;
+
+        void writeByte(int value) {
+            this.bytes[this.length++] = (byte) value;
+        }
+
+        void writeVarInt(int value) {
+            while ((value & ~0x7F) != 0) {
+                this.writeByte((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+
+            this.writeByte(value);
+        }
+
+        void writeFloat(float value) {
+            var bits = Float.floatToIntBits(value);
+            this.writeByte(bits >>> 24);
+            this.writeByte(bits >>> 16);
+            this.writeByte(bits >>> 8);
+            this.writeByte(bits);
+        }
+
+        void writeNeighborhood(@NotNull Block.Getter blockGetter, @NotNull Point position) {
+            for (var y = -1; y <= 1; y++) {
+                for (var z = -1; z <= 1; z++) {
+                    for (var x = -1; x <= 1; x++) {
+                        // only the state id is stored, so skip resolving handlers and nbt
+                        var block = blockGetter.getBlock(position.blockX() + x, position.blockY() + y, position.blockZ() + z, Block.Getter.Condition.TYPE);
+                        this.writeVarInt(block.stateId());
+                    }
+                }
+            }
+        }
+
+        byte @NotNull [] toByteArray() {
+            return Arrays.copyOf(this.bytes, this.length);
+        }
+    }
+}
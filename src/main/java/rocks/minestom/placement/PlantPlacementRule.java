@@ -1,24 +1,25 @@
 package rocks.minestom.placement;
 
 import net.kyori.adventure.key.Key;
-import net.minestom.server.MinecraftServer;
 import net.minestom.server.instance.block.Block;
 import net.minestom.server.instance.block.BlockFace;
 import net.minestom.server.instance.block.rule.BlockPlacementRule;
 import org.jetbrains.annotations.NotNull;
 
 public final class PlantPlacementRule extends BlockPlacementRule {
-    private static final Key SUPPORTS_VEGETATION_TAG = Key.key("minecraft:supports_vegetation");
-
-    private final Key supportTagKey;
+    private final BlockTag supportTag;
 
     public PlantPlacementRule(@NotNull Block block) {
-        this(block, SUPPORTS_VEGETATION_TAG);
+        this(block, BlockTag.SUPPORTS_VEGETATION);
     }
 
     public PlantPlacementRule(@NotNull Block block, @NotNull Key supportTagKey) {
+        this(block, BlockTag.of(supportTagKey));
+    }
+
+    private PlantPlacementRule(@NotNull Block block, @NotNull BlockTag supportTag) {
         super(block);
-        this.supportTagKey = supportTagKey;
+        this.supportTag = supportTag;
     }
 
     @Override
@@ -38,7 +39,6 @@ public final class PlantPlacementRule extends BlockPlacementRule {
     }
 
     private boolean supports(@NotNull Block block) {
-        var tag = MinecraftServer.process().blocks().getTag(this.supportTagKey);
-        return tag != null && tag.contains(block);
+        return this.supportTag.contains(block);
     }
 }
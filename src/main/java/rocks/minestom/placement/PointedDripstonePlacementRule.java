@@ -26,16 +26,28 @@ public final class PointedDripstonePlacementRule extends BlockPlacementRule {
         }
 
         var mergeOpposingTips = !placementState.isPlayerShifting();
-        var thickness = this.calculateThickness(blockGetter, placePosition, tipDirection, mergeOpposingTips);
+        var thickness = DripstoneColumn.thickness(blockGetter, placePosition, tipDirection, mergeOpposingTips);
         var replaced = blockGetter.getBlock(placePosition);
         var waterlogged = replaced.compare(Block.WATER) && "0".equals(replaced.getProperty("level"));
 
         return this.block
-                .withProperty("vertical_direction", verticalName(tipDirection))
+                .withProperty("vertical_direction", DripstoneColumn.verticalName(tipDirection))
                 .withProperty("thickness", thickness)
                 .withProperty("waterlogged", waterlogged ? "true" : "false");
     }
 
+    @Override
+    public Block blockUpdate(@NotNull UpdateState updateState) {
+        var fromFace = updateState.fromFace();
+
+        if (fromFace != BlockFace.TOP && fromFace != BlockFace.BOTTOM) {
+            return updateState.currentBlock();
+        }
+
+        var instance = VanillaPlacementUtils.writableInstance(updateState.instance());
+        return DripstoneColumn.reshape(updateState.instance(), instance, updateState.blockPosition(), updateState.currentBlock());
+    }
+
     private @Nullable BlockFace calculateTipDirection(@NotNull Block.Getter blockGetter, @NotNull Point placePosition, @NotNull BlockFace defaultTipDirection) {
         if (this.isValidPlacement(blockGetter, placePosition, defaultTipDirection)) {
             return defaultTipDirection;
@@ -54,46 +66,13 @@ public final class PointedDripstonePlacementRule extends BlockPlacementRule {
         var attachmentPosition = placePosition.relative(attachmentFace);
         var attachmentBlock = blockGetter.getBlock(attachmentPosition);
 
-        if (attachmentBlock.registry().collisionShape().isFaceFull(tipDirection)) {
+        if (FaceSturdiness.isFull(attachmentBlock, tipDirection)) {
             return true;
         }
         return attachmentBlock.compare(this.block) && isMatchingDirection(attachmentBlock, tipDirection);
     }
 
-    private String calculateThickness(@NotNull Block.Getter blockGetter, @NotNull Point placePosition, @NotNull BlockFace tipDirection, boolean mergeOpposingTips) {
-        var aheadPosition = placePosition.relative(tipDirection);
-        var aheadBlock = blockGetter.getBlock(aheadPosition);
-        var oppositeDirection = tipDirection.getOppositeFace();
-        var behindPosition = placePosition.relative(oppositeDirection);
-        var behindBlock = blockGetter.getBlock(behindPosition);
-
-        if (!isPointedDripstone(aheadBlock, this.block)) {
-            return mergeOpposingTips && isPointedDripstone(behindBlock, this.block) && isMatchingDirection(behindBlock, oppositeDirection)
-                    ? "tip_merge"
-                    : "tip";
-        }
-
-        if (!isMatchingDirection(aheadBlock, tipDirection)) {
-            return "tip";
-        }
-
-        if (!isPointedDripstone(behindBlock, this.block) || !isMatchingDirection(behindBlock, tipDirection)) {
-            return "frustum";
-        }
-        return aheadBlock.getProperty("thickness") != null && "tip".equals(aheadBlock.getProperty("thickness"))
-                ? "middle"
-                : "base";
-    }
-
-    private static boolean isPointedDripstone(@NotNull Block candidate, @NotNull Block dripstoneBlock) {
-        return candidate.compare(dripstoneBlock);
-    }
-
     private static boolean isMatchingDirection(@NotNull Block dripstoneBlock, @NotNull BlockFace expected) {
-        return verticalName(expected).equals(dripstoneBlock.getProperty("vertical_direction"));
-    }
-
-    private static String verticalName(@NotNull BlockFace face) {
-        return face == BlockFace.TOP ? "up" : "down";
+        return DripstoneColumn.verticalName(expected).equals(dripstoneBlock.getProperty("vertical_direction"));
     }
 }
@@ -0,0 +1,137 @@
+package rocks.minestom.placement;
+
+import net.minestom.server.instance.block.BlockFace;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+
+/**
+ * Insertion-ordered set of block positions packed into longs, each carrying an int bitmask (e.g. the
+ * faces an update arrived from). Adding a position that is already queued merges the masks, and
+ * lookups go through an open-addressing index so duplicates are found in constant time.
+ */
+final class PositionQueue {
+    private long[] positions;
+    private int[] masks;
+    private int[] slots;
+    private int size;
+
+    PositionQueue(int capacity) {
+        this.positions = new long[capacity];
+        this.masks = new int[capacity];
+        this.slots = new int[capacity * 2];
+        Arrays.fill(this.slots, -1);
+    }
+
+    static long pack(int x, int y, int z) {
+        return ((long) x & 0x3FFFFFFL) << 38 | ((long) z & 0x3FFFFFFL) << 12 | (long) y & 0xFFFL;
+    }
+
+    static long offset(long packed, @NotNull BlockFace face) {
+        var direction = face.toDirection();
+        return pack(unpackX(packed) + direction.normalX(), unpackY(packed) + direction.normalY(), unpackZ(packed) + direction.normalZ());
+    }
+
+    static int unpackX(long packed) {
+        return (int) (packed >> 38);
+    }
+
+    static int unpackY(long packed) {
+        return (int) (packed << 52 >> 52);
+    }
+
+    static int unpackZ(long packed) {
+        return (int) (packed << 26 >> 38);
+    }
+
+    int size() {
+        return this.size;
+    }
+
+    boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    long position(int index) {
+        return this.positions[index];
+    }
+
+    int mask(int index) {
+        return this.masks[index];
+    }
+
+    /**
+     * Returns the insertion index of the position, or {@code -1} if it is not queued.
+     */
+    int indexOf(long position) {
+        var slotMask = this.slots.length - 1;
+        var slot = hash(position) & slotMask;
+
+        while (this.slots[slot] != -1) {
+            var index = this.slots[slot];
+
+            if (this.positions[index] == position) {
+                return index;
+            }
+
+            slot = (slot + 1) & slotMask;
+        }
+
+        return -1;
+    }
+
+    void add(long position, int mask) {
+        var slotMask = this.slots.length - 1;
+        var slot = hash(position) & slotMask;
+
+        while (this.slots[slot] != -1) {
+            var index = this.slots[slot];
+
+            if (this.positions[index] == position) {
+                this.masks[index] |= mask;
+                return;
+            }
+
+            slot = (slot + 1) & slotMask;
+        }
+
+        if (this.size == this.positions.length) {
+            this.grow();
+            this.add(position, mask);
+            return;
+        }
+
+        this.positions[this.size] = position;
+        this.masks[this.size] = mask;
+        this.slots[slot] = this.size++;
+    }
+
+    void clear() {
+        Arrays.fill(this.slots, -1);
+        this.size = 0;
+    }
+
+    private void grow() {
+        var capacity = this.positions.length * 2;
+        this.positions = Arrays.copyOf(this.positions, capacity);
+        this.masks = Arrays.copyOf(this.masks, capacity);
+        this.slots = new int[capacity * 2];
+        Arrays.fill(this.slots, -1);
+        var slotMask = this.slots.length - 1;
+
+        for (var index = 0; index < this.size; index++) {
+            var slot = hash(this.positions[index]) & slotMask;
+
+            while (this.slots[slot] != -1) {
+                slot = (slot + 1) & slotMask;
+            }
+
+            this.slots[slot] = index;
+        }
+    }
+
+    private static int hash(long position) {
+        var hash = position * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ hash >>> 32);
+    }
+}
@@ -15,7 +15,7 @@ public final class PressurePlatePlacementRule extends BlockPlacementRule {
         var instance = placementState.instance();
         var below = instance.getBlock(placementState.placePosition().relative(BlockFace.BOTTOM));
 
-        if (!below.registry().collisionShape().isFaceFull(BlockFace.TOP)) {
+        if (!FaceSturdiness.isFull(below, BlockFace.TOP)) {
             return null;
         }
         return this.block;
@@ -28,6 +28,6 @@ public final class PressurePlatePlacementRule extends BlockPlacementRule {
             return updateState.currentBlock();
         }
         var below = updateState.instance().getBlock(updateState.blockPosition().relative(BlockFace.BOTTOM));
-        return below.registry().collisionShape().isFaceFull(BlockFace.TOP) ? updateState.currentBlock() : Block.AIR;
+        return FaceSturdiness.isFull(below, BlockFace.TOP) ? updateState.currentBlock() : Block.AIR;
     }
 }
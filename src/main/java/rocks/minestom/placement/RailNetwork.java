@@ -0,0 +1,372 @@
+package rocks.minestom.placement;
+
+import net.minestom.server.coordinate.Point;
+import net.minestom.server.instance.Instance;
+import net.minestom.server.instance.block.Block;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Port of vanilla's {@code RailState}. A rail's connections are fully determined by its shape, so each
+ * shape maps to a precomputed 4-bit horizontal connection mask (plus a mask of the connections that
+ * rise one block). Placing a rail only looks at its four neighbors and reshapes at most the two rails it
+ * ends up connected to, so the cost stays constant however long the track is.
+ */
+final class RailNetwork {
+    private static final int NORTH = 1;
+    private static final int SOUTH = 1 << 1;
+    private static final int WEST = 1 << 2;
+    private static final int EAST = 1 << 3;
+
+    private static final int NORTH_SOUTH = 0;
+    private static final int EAST_WEST = 1;
+    private static final int ASCENDING_EAST = 2;
+    private static final int ASCENDING_WEST = 3;
+    private static final int ASCENDING_NORTH = 4;
+    private static final int ASCENDING_SOUTH = 5;
+    private static final int SOUTH_EAST = 6;
+    private static final int SOUTH_WEST = 7;
+    private static final int NORTH_WEST = 8;
+    private static final int NORTH_EAST = 9;
+
+    private static final String[] SHAPE_NAMES = {
+            "north_south",
+            "east_west",
+            "ascending_east",
+            "ascending_west",
+            "ascending_north",
+            "ascending_south",
+            "south_east",
+            "south_west",
+            "north_west",
+            "north_east"
+    };
+
+    private static final int[] CONNECTIONS = {
+            NORTH | SOUTH,
+            WEST | EAST,
+            WEST | EAST,
+            WEST | EAST,
+            NORTH | SOUTH,
+            NORTH | SOUTH,
+            EAST | SOUTH,
+            WEST | SOUTH,
+            WEST | NORTH,
+            EAST | NORTH
+    };
+
+    private static final int[] RISING = {
+            0,
+            0,
+            EAST,
+            WEST,
+            NORTH,
+            SOUTH,
+            0,
+            0,
+            0,
+            0
+    };
+
+    /**
+     * A neighboring rail may sit level, one block up or one block down.
+     */
+    private static final int[] VERTICAL_OFFSETS = {0, 1, -1};
+
+    private RailNetwork() {
+
+    }
+
+    /**
+     * Resolves the shape of a rail being placed at {@code position}, where {@code blockGetter} already
+     * returns {@code placed} for that position. Mirrors {@code RailState.place}.
+     */
+    static @NotNull String place(@NotNull Block.Getter blockGetter, @NotNull Point position, @NotNull Block placed, boolean powered) {
+        var rail = new Rail(position.blockX(), position.blockY(), position.blockZ(), placed);
+        var connectsNorth = rail.hasNeighborRail(blockGetter, NORTH);
+        var connectsSouth = rail.hasNeighborRail(blockGetter, SOUTH);
+        var connectsWest = rail.hasNeighborRail(blockGetter, WEST);
+        var connectsEast = rail.hasNeighborRail(blockGetter, EAST);
+        var northSouth = connectsNorth || connectsSouth;
+        var eastWest = connectsWest || connectsEast;
+        var shape = -1;
+
+        if (northSouth && !eastWest) {
+            shape = NORTH_SOUTH;
+        }
+
+        if (eastWest && !northSouth) {
+            shape = EAST_WEST;
+        }
+
+        var southEast = connectsSouth && connectsEast;
+        var southWest = connectsSouth && connectsWest;
+        var northEast = connectsNorth && connectsEast;
+        var northWest = connectsNorth && connectsWest;
+
+        if (!rail.straight) {
+            if (southEast && !connectsNorth && !connectsWest) {
+                shape = SOUTH_EAST;
+            }
+
+            if (southWest && !connectsNorth && !connectsEast) {
+                shape = SOUTH_WEST;
+            }
+
+            if (northWest && !connectsSouth && !connectsEast) {
+                shape = NORTH_WEST;
+            }
+
+            if (northEast && !connectsSouth && !connectsWest) {
+                shape = NORTH_EAST;
+            }
+        }
+
+        if (shape == -1) {
+            if (northSouth && eastWest) {
+                shape = rail.shape;
+            } else if (northSouth) {
+                shape = NORTH_SOUTH;
+            } else if (eastWest) {
+                shape = EAST_WEST;
+            }
+
+            if (!rail.straight) {
+                if (powered) {
+                    shape = southEast ? SOUTH_EAST : shape;
+                    shape = southWest ? SOUTH_WEST : shape;
+                    shape = northEast ? NORTH_EAST : shape;
+                    shape = northWest ? NORTH_WEST : shape;
+                } else {
+                    shape = northWest ? NORTH_WEST : shape;
+                    shape = northEast ? NORTH_EAST : shape;
+                    shape = southWest ? SOUTH_WEST : shape;
+                    shape = southEast ? SOUTH_EAST : shape;
+                }
+            }
+        }
+
+        shape = rail.ascend(blockGetter, shape);
+        return SHAPE_NAMES[shape == -1 ? rail.shape : shape];
+    }
+
+    /**
+     * Reshapes the rails the rail at {@code position} connects to, so that they connect back to it.
+     * Must run once the rail is in the instance.
+     */
+    static void connectNeighbors(@NotNull Instance instance, @NotNull Point position) {
+        var block = instance.getBlock(position);
+
+        if (!BlockTag.RAILS.contains(block)) {
+            return;
+        }
+
+        var rail = new Rail(position.blockX(), position.blockY(), position.blockZ(), block);
+
+        for (var direction = NORTH; direction <= EAST; direction <<= 1) {
+            if ((rail.connections & direction) == 0) {
+                continue;
+            }
+
+            var rise = (rail.rising & direction) != 0 ? 1 : 0;
+            var neighbor = rail(instance, rail.x + offsetX(direction), rail.y + rise, rail.z + offsetZ(direction));
+
+            if (neighbor == null) {
+                continue;
+            }
+
+            neighbor.removeSoftConnections(instance);
+
+            if (neighbor.canConnectTo(rail)) {
+                var shape = neighbor.connectTo(instance, rail);
+                var updated = neighbor.block.withProperty("shape", SHAPE_NAMES[shape]);
+
+                if (updated != neighbor.block) {
+                    instance.setBlock(neighbor.x, neighbor.y, neighbor.z, updated, false);
+                    SignalIndex.invalidate(instance, neighbor.x, neighbor.y, neighbor.z);
+                }
+            }
+        }
+    }
+
+    private static @Nullable Rail rail(@NotNull Block.Getter blockGetter, int x, int y, int z) {
+        for (var offset : VERTICAL_OFFSETS) {
+            var block = blockGetter.getBlock(x, y + offset, z);
+
+            if (BlockTag.RAILS.contains(block)) {
+                return new Rail(x, y + offset, z, block);
+            }
+        }
+
+        return null;
+    }
+
+    private static boolean isRail(@NotNull Block.Getter blockGetter, int x, int y, int z) {
+        return BlockTag.RAILS.contains(blockGetter.getBlock(x, y, z));
+    }
+
+    private static int offsetX(int direction) {
+        return direction == WEST ? -1 : direction == EAST ? 1 : 0;
+    }
+
+    private static int offsetZ(int direction) {
+        return direction == NORTH ? -1 : direction == SOUTH ? 1 : 0;
+    }
+
+    private static int shapeIndex(@Nullable String name) {
+        for (var index = 0; index < SHAPE_NAMES.length; index++) {
+            if (SHAPE_NAMES[index].equals(name)) {
+                return index;
+            }
+        }
+
+        return NORTH_SOUTH;
+    }
+
+    private static final class Rail {
+        private final int x;
+        private final int y;
+        private final int z;
+        private final Block block;
+        private final boolean straight;
+        private final int shape;
+        private final int rising;
+        private int connections;
+
+        private Rail(int x, int y, int z, @NotNull Block block) {
+            this.x = x;
+            this.y = y;
+            this.z = z;
+            this.block = block;
+            var states = BlockStateTable.of(block);
+            // powered, detector and activator rails have no curved shapes
+            this.straight = states.value(states.property("shape"), "south_east") < 0;
+            this.shape = shapeIndex(block.getProperty("shape"));
+            this.connections = CONNECTIONS[this.shape];
+            this.rising = RISING[this.shape];
+        }
+
+        private int directionTo(@NotNull Rail other) {
+            var deltaX = other.x - this.x;
+            var deltaZ = other.z - this.z;
+
+            if (deltaX == 0 && deltaZ == -1) {
+                return NORTH;
+            }
+
+            if (deltaX == 0 && deltaZ == 1) {
+                return SOUTH;
+            }
+
+            if (deltaX == -1 && deltaZ == 0) {
+                return WEST;
+            }
+
+            if (deltaX == 1 && deltaZ == 0) {
+                return EAST;
+            }
+
+            return 0;
+        }
+
+        private boolean connectsTo(@NotNull Rail other) {
+            var direction = this.directionTo(other);
+            return direction != 0 && (this.connections & direction) != 0;
+        }
+
+        private boolean canConnectTo(@NotNull Rail other) {
+            return this.connectsTo(other) || Integer.bitCount(this.connections) != 2;
+        }
+
+        private void removeSoftConnections(@NotNull Block.Getter blockGetter) {
+            for (var direction = NORTH; direction <= EAST; direction <<= 1) {
+                if ((this.connections & direction) == 0) {
+                    continue;
+                }
+
+                var rise = (this.rising & direction) != 0 ? 1 : 0;
+                var neighbor = rail(blockGetter, this.x + offsetX(direction), this.y + rise, this.z + offsetZ(direction));
+
+                if (neighbor == null || !neighbor.connectsTo(this)) {
+                    this.connections &= ~direction;
+                }
+            }
+        }
+
+        private boolean hasNeighborRail(@NotNull Block.Getter blockGetter, int direction) {
+            var neighbor = rail(blockGetter, this.x + offsetX(direction), this.y, this.z + offsetZ(direction));
+
+            if (neighbor == null) {
+                return false;
+            }
+
+            neighbor.removeSoftConnections(blockGetter);
+            return neighbor.canConnectTo(this);
+        }
+
+        private int connectTo(@NotNull Block.Getter blockGetter, @NotNull Rail other) {
+            this.connections |= this.directionTo(other);
+            var connectsNorth = (this.connections & NORTH) != 0;
+            var connectsSouth = (this.connections & SOUTH) != 0;
+            var connectsWest = (this.connections & WEST) != 0;
+            var connectsEast = (this.connections & EAST) != 0;
+            var shape = -1;
+
+            if (connectsNorth || connectsSouth) {
+                shape = NORTH_SOUTH;
+            }
+
+            if (connectsWest || connectsEast) {
+                shape = EAST_WEST;
+            }
+
+            if (!this.straight) {
+                if (connectsSouth && connectsEast && !connectsNorth && !connectsWest) {
+                    shape = SOUTH_EAST;
+                }
+
+                if (connectsSouth && connectsWest && !connectsNorth && !connectsEast) {
+                    shape = SOUTH_WEST;
+                }
+
+                if (connectsNorth && connectsWest && !connectsSouth && !connectsEast) {
+                    shape = NORTH_WEST;
+                }
+
+                if (connectsNorth && connectsEast && !connectsSouth && !connectsWest) {
+                    shape = NORTH_EAST;
+                }
+            }
+
+            shape = this.ascend(blockGetter, shape);
+            return shape == -1 ? this.shape : shape;
+        }
+
+        /**
+         * Turns a straight shape into a slope when a rail sits one block up at either end.
+         */
+        private int ascend(@NotNull Block.Getter blockGetter, int shape) {
+            if (shape == NORTH_SOUTH) {
+                if (isRail(blockGetter, this.x, this.y + 1, this.z - 1)) {
+                    shape = ASCENDING_NORTH;
+                }
+
+                if (isRail(blockGetter, this.x, this.y + 1, this.z + 1)) {
+                    shape = ASCENDING_SOUTH;
+                }
+            }
+
+            if (shape == EAST_WEST) {
+                if (isRail(blockGetter, this.x + 1, this.y + 1, this.z)) {
+                    shape = ASCENDING_EAST;
+                }
+
+                if (isRail(blockGetter, this.x - 1, this.y + 1, this.z)) {
+                    shape = ASCENDING_WEST;
+                }
+            }
+
+            return shape;
+        }
+    }
+}
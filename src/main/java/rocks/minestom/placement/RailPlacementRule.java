@@ -20,9 +20,21 @@ public final class RailPlacementRule extends BlockPlacementRule {
         var placePosition = placementState.placePosition();
         var replaced = instance.getBlock(placePosition);
         var waterlogged = replaced.compare(Block.WATER) && "0".equals(replaced.getProperty("level"));
-        // TODO: vanilla calls new RailState(level, pos, state).place(...) to reshape rails based on neighbors (S/E corners, ascending slopes, etc.); not implemented
-        return this.block
+        var initial = this.block
                 .withProperty("shape", shape)
                 .withProperty("waterlogged", String.valueOf(waterlogged));
+
+        // vanilla resolves the shape once the rail is in the world, so read it back at the placed position
+        Block.Getter withPlaced = (x, y, z, condition) -> x == placePosition.blockX() && y == placePosition.blockY() && z == placePosition.blockZ()
+                ? initial
+                : instance.getBlock(x, y, z, condition);
+        var placed = initial.withProperty("shape", RailNetwork.place(withPlaced, placePosition, initial, false));
+        var liveInstance = VanillaPlacementUtils.writableInstance(instance);
+
+        if (liveInstance != null) {
+            liveInstance.scheduleNextTick(ignored -> RailNetwork.connectNeighbors(liveInstance, placePosition));
+        }
+
+        return placed;
     }
 }
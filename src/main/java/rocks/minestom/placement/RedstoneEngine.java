@@ -0,0 +1,445 @@
+package rocks.minestom.placement;
+
+import net.minestom.server.coordinate.Point;
+import net.minestom.server.instance.Instance;
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.instance.block.BlockFace;
+import net.minestom.server.tag.Tag;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+
+/**
+ * Per-instance redstone dust simulation. Wires whose neighborhood changed are marked dirty; once per tick
+ * the engine compiles the dust networks reachable from them into a wire graph, reads the power fed into
+ * each wire by adjacent sources, and spreads it along the graph in descending power order. Only networks
+ * touching a dirty wire are visited, and every resulting power change is written in a single pass.
+ * <p>
+ * Unlike vanilla, dust never triggers neighbor updates while it settles, so a network costs one walk
+ * over its wires instead of a recursive flood of block updates.
+ */
+final class RedstoneEngine {
+    static final int MAX_POWER = 15;
+
+    private static final Tag<RedstoneEngine> TAG = Tag.Transient("placement:redstone_engine");
+    private static final BlockFace[] FACES = BlockFace.values();
+    private static final BlockFace[] HORIZONTAL_FACES = {
+            BlockFace.NORTH,
+            BlockFace.EAST,
+            BlockFace.SOUTH,
+            BlockFace.WEST
+    };
+    // a wire links to at most one wire per side: level with it, one step up or one step down
+    private static final int MAX_LINKS = HORIZONTAL_FACES.length;
+    private static final int INITIAL_CAPACITY = 64;
+    private static final IntProperty POWER = IntProperty.of("power");
+    private static final EnumProperty<BlockFace> FACING = EnumProperty.facing();
+
+    private static volatile int[] powerValues;
+
+    private final Instance instance;
+    private PositionQueue dirty = new PositionQueue(INITIAL_CAPACITY);
+    private PositionQueue processing = new PositionQueue(INITIAL_CAPACITY);
+    private boolean scheduled;
+
+    private RedstoneEngine(@NotNull Instance instance) {
+        this.instance = instance;
+    }
+
+    static @NotNull RedstoneEngine of(@NotNull Instance instance) {
+        var engine = instance.getTag(TAG);
+
+        if (engine != null) {
+            return engine;
+        }
+
+        synchronized (instance) {
+            engine = instance.getTag(TAG);
+
+            if (engine == null) {
+                engine = new RedstoneEngine(instance);
+                instance.setTag(TAG, engine);
+            }
+
+            return engine;
+        }
+    }
+
+    /**
+     * Marks the wire at {@code position} for recomputation on the next tick.
+     */
+    void markWire(@NotNull Point position) {
+        this.mark(PositionQueue.pack(position.blockX(), position.blockY(), position.blockZ()));
+    }
+
+    /**
+     * Marks every wire a signal source at {@code position} can reach, either directly or through a
+     * conducting neighbor it may strongly power, and drops the cached neighbor signals around it.
+     */
+    void markSource(@NotNull Point position) {
+        SignalIndex.of(this.instance).invalidate(position);
+        var source = PositionQueue.pack(position.blockX(), position.blockY(), position.blockZ());
+
+        for (var face : FACES) {
+            var neighbor = PositionQueue.offset(source, face);
+            var neighborBlock = getBlock(this.instance, neighbor);
+
+            if (isWire(neighborBlock)) {
+                this.mark(neighbor);
+                continue;
+            }
+
+            if (!FaceSturdiness.isFullCube(neighborBlock)) {
+                continue;
+            }
+
+            for (var secondFace : FACES) {
+                this.markIfWire(PositionQueue.offset(neighbor, secondFace));
+            }
+        }
+    }
+
+    synchronized int pendingUpdates() {
+        return this.dirty.size();
+    }
+
+    private void markIfWire(long packed) {
+        if (isWire(getBlock(this.instance, packed))) {
+            this.mark(packed);
+        }
+    }
+
+    private void mark(long packed) {
+        synchronized (this) {
+            this.dirty.add(packed, 0);
+
+            if (this.scheduled) {
+                return;
+            }
+
+            this.scheduled = true;
+        }
+
+        this.instance.scheduleNextTick(ignored -> this.process());
+    }
+
+    private void process() {
+        PositionQueue seeds;
+
+        synchronized (this) {
+            seeds = this.dirty;
+            this.dirty = this.processing;
+            this.processing = seeds;
+            this.scheduled = false;
+        }
+
+        var wires = new PositionQueue(Math.max(INITIAL_CAPACITY, Integer.highestOneBit(seeds.size()) << 2));
+
+        for (var index = 0; index < seeds.size(); index++) {
+            var packed = seeds.position(index);
+
+            if (isWire(getBlock(this.instance, packed))) {
+                wires.add(packed, 0);
+            }
+        }
+
+        seeds.clear();
+
+        if (wires.isEmpty()) {
+            return;
+        }
+
+        this.apply(wires, solve(this.instance, wires));
+    }
+
+    /**
+     * Compiles every network touching the queued wires, adding their other wires to {@code wires}, and
+     * returns the power of each wire by queue index.
+     */
+    static int @NotNull [] solve(@NotNull Block.Getter blockGetter, @NotNull PositionQueue wires) {
+        // the queue grows while it is walked
+        var links = new int[INITIAL_CAPACITY * MAX_LINKS];
+        var linkCounts = new int[INITIAL_CAPACITY];
+
+        for (var index = 0; index < wires.size(); index++) {
+            if (index == linkCounts.length) {
+                linkCounts = Arrays.copyOf(linkCounts, index * 2);
+                links = Arrays.copyOf(links, index * 2 * MAX_LINKS);
+            }
+
+            linkCounts[index] = link(blockGetter, wires, index, links);
+        }
+
+        var count = wires.size();
+        var power = new int[count];
+        var buckets = new int[MAX_POWER + 1][];
+        var bucketSizes = new int[MAX_POWER + 1];
+
+        for (var index = 0; index < count; index++) {
+            power[index] = sourcePower(blockGetter, wires.position(index));
+            push(buckets, bucketSizes, power[index], index);
+        }
+
+        // bucket queue from strongest to weakest: every wire is final once its level is drained
+        for (var level = MAX_POWER; level > 1; level--) {
+            for (var entry = 0; entry < bucketSizes[level]; entry++) {
+                var index = buckets[level][entry];
+
+                if (power[index] != level) {
+                    continue;
+                }
+
+                for (var link = 0; link < linkCounts[index]; link++) {
+                    var neighbor = links[index * MAX_LINKS + link];
+
+                    if (power[neighbor] < level - 1) {
+                        power[neighbor] = level - 1;
+                        push(buckets, bucketSizes, level - 1, neighbor);
+                    }
+                }
+            }
+        }
+
+        return power;
+    }
+
+    /**
+     * Records the wires a wire exchanges power with, following vanilla's dust rules: level neighbors,
+     * neighbors one step down unless the side block conducts, and one step up unless the block above does.
+     */
+    private static int link(@NotNull Block.Getter blockGetter, @NotNull PositionQueue wires, int index, int @NotNull [] links) {
+        var packed = wires.position(index);
+        var aboveConducts = FaceSturdiness.isFullCube(getBlock(blockGetter, PositionQueue.offset(packed, BlockFace.TOP)));
+        var count = 0;
+
+        for (var face : HORIZONTAL_FACES) {
+            var side = PositionQueue.offset(packed, face);
+            var sideBlock = getBlock(blockGetter, side);
+
+            if (isWire(sideBlock)) {
+                count = addLink(wires, side, links, index, count);
+                continue;
+            }
+
+            if (FaceSturdiness.isFullCube(sideBlock)) {
+                var up = PositionQueue.offset(side, BlockFace.TOP);
+
+                if (!aboveConducts && isWire(getBlock(blockGetter, up))) {
+                    count = addLink(wires, up, links, index, count);
+                }
+            } else {
+                var down = PositionQueue.offset(side, BlockFace.BOTTOM);
+
+                if (isWire(getBlock(blockGetter, down))) {
+                    count = addLink(wires, down, links, index, count);
+                }
+            }
+        }
+
+        return count;
+    }
+
+    private static int addLink(@NotNull PositionQueue wires, long neighbor, int @NotNull [] links, int index, int count) {
+        var neighborIndex = wires.indexOf(neighbor);
+
+        if (neighborIndex < 0) {
+            wires.add(neighbor, 0);
+            neighborIndex = wires.size() - 1;
+        }
+
+        links[index * MAX_LINKS + count] = neighborIndex;
+        return count + 1;
+    }
+
+    private static void push(int @NotNull [] @NotNull [] buckets, int @NotNull [] bucketSizes, int level, int index) {
+        if (level <= 0) {
+            return;
+        }
+
+        var bucket = buckets[level];
+
+        if (bucket == null) {
+            bucket = buckets[level] = new int[INITIAL_CAPACITY];
+        } else if (bucketSizes[level] == bucket.length) {
+            bucket = buckets[level] = Arrays.copyOf(bucket, bucket.length * 2);
+        }
+
+        bucket[bucketSizes[level]++] = index;
+    }
+
+    private void apply(@NotNull PositionQueue wires, int @NotNull [] power) {
+        var values = powerValues();
+        var states = BlockStateTable.of(Block.REDSTONE_WIRE);
+        var powerProperty = states.property("power");
+        var signals = SignalIndex.of(this.instance);
+
+        for (var index = 0; index < power.length; index++) {
+            var packed = wires.position(index);
+            var block = getBlock(this.instance, packed);
+            var state = states.with(block.stateId(), powerProperty, values[power[index]]);
+
+            if (state != block.stateId()) {
+                this.instance.setBlock(
+                        PositionQueue.unpackX(packed),
+                        PositionQueue.unpackY(packed),
+                        PositionQueue.unpackZ(packed),
+                        BlockStateTable.block(block, state),
+                        false
+                );
+                signals.invalidate(PositionQueue.unpackX(packed), PositionQueue.unpackY(packed), PositionQueue.unpackZ(packed));
+            }
+        }
+    }
+
+    /**
+     * Strongest signal fed into the wire by anything but other dust.
+     */
+    private static int sourcePower(@NotNull Block.Getter blockGetter, long wire) {
+        var power = 0;
+
+        for (var face : FACES) {
+            var neighbor = PositionQueue.offset(wire, face);
+            var block = getBlock(blockGetter, neighbor);
+            power = Math.max(power, signal(block, face));
+
+            if (FaceSturdiness.isFullCube(block)) {
+                power = Math.max(power, strongPower(blockGetter, neighbor));
+            }
+
+            if (power == MAX_POWER) {
+                break;
+            }
+        }
+
+        return power;
+    }
+
+    /**
+     * Strongest direct signal a source puts into the conducting block at {@code packed}.
+     */
+    private static int strongPower(@NotNull Block.Getter blockGetter, long packed) {
+        var power = 0;
+
+        for (var face : FACES) {
+            power = Math.max(power, directSignal(getBlock(blockGetter, PositionQueue.offset(packed, face)), face));
+        }
+
+        return power;
+    }
+
+    /**
+     * Weak signal emitted by {@code source} towards the block it is queried from; {@code direction}
+     * points from that block to the source.
+     */
+    static int signal(@NotNull Block source, @NotNull BlockFace direction) {
+        if (source.compare(Block.REDSTONE_BLOCK)) {
+            return MAX_POWER;
+        }
+
+        if (source.compare(Block.LEVER) || BlockTag.BUTTONS.contains(source)) {
+            return isTrue(source, "powered") ? MAX_POWER : 0;
+        }
+
+        if (source.compare(Block.REDSTONE_TORCH)) {
+            return isTrue(source, "lit") && direction != BlockFace.TOP ? MAX_POWER : 0;
+        }
+
+        if (source.compare(Block.REDSTONE_WALL_TORCH)) {
+            return isTrue(source, "lit") && FACING.get(source, null) != direction ? MAX_POWER : 0;
+        }
+
+        if (BlockTag.PRESSURE_PLATES.contains(source) || source.compare(Block.DAYLIGHT_DETECTOR)) {
+            return plateSignal(source);
+        }
+
+        if (source.compare(Block.REPEATER) || source.compare(Block.OBSERVER)) {
+            return isTrue(source, "powered") && FACING.get(source, null) == direction ? MAX_POWER : 0;
+        }
+
+        return 0;
+    }
+
+    /**
+     * Strong signal {@code source} puts into the block it is queried from, which can then power dust
+     * next to it.
+     */
+    static int directSignal(@NotNull Block source, @NotNull BlockFace direction) {
+        if (source.compare(Block.LEVER) || BlockTag.BUTTONS.contains(source)) {
+            var attached = attachedFace(source);
+            return isTrue(source, "powered") && attached == direction.getOppositeFace() ? MAX_POWER : 0;
+        }
+
+        if (source.compare(Block.REDSTONE_TORCH) || source.compare(Block.REDSTONE_WALL_TORCH)) {
+            return direction == BlockFace.BOTTOM ? signal(source, direction) : 0;
+        }
+
+        if (BlockTag.PRESSURE_PLATES.contains(source)) {
+            return direction == BlockFace.TOP ? plateSignal(source) : 0;
+        }
+
+        if (source.compare(Block.REPEATER) || source.compare(Block.OBSERVER)) {
+            return signal(source, direction);
+        }
+
+        return 0;
+    }
+
+    /**
+     * Direction from a lever or button towards the block it is attached to.
+     */
+    static @Nullable BlockFace attachedFace(@NotNull Block source) {
+        var attachFace = source.getProperty("face");
+
+        if ("floor".equals(attachFace)) {
+            return BlockFace.BOTTOM;
+        }
+
+        if ("ceiling".equals(attachFace)) {
+            return BlockFace.TOP;
+        }
+
+        var facing = FACING.get(source, null);
+        return facing == null ? null : facing.getOppositeFace();
+    }
+
+    private static int plateSignal(@NotNull Block source) {
+        var power = POWER.get(source, -1);
+
+        if (power >= 0) {
+            return power;
+        }
+
+        return isTrue(source, "powered") ? MAX_POWER : 0;
+    }
+
+    private static boolean isTrue(@NotNull Block block, @NotNull String property) {
+        return "true".equals(block.getProperty(property));
+    }
+
+    private static boolean isWire(@NotNull Block block) {
+        return block.compare(Block.REDSTONE_WIRE);
+    }
+
+    private static @NotNull Block getBlock(@NotNull Block.Getter blockGetter, long packed) {
+        return blockGetter.getBlock(PositionQueue.unpackX(packed), PositionQueue.unpackY(packed), PositionQueue.unpackZ(packed));
+    }
+
+    private static int[] powerValues() {
+        var values = powerValues;
+
+        if (values == null) {
+            var states = BlockStateTable.of(Block.REDSTONE_WIRE);
+            var powerProperty = states.property("power");
+            values = new int[MAX_POWER + 1];
+
+            for (var power = 0; power <= MAX_POWER; power++) {
+                values[power] = states.value(powerProperty, String.valueOf(power));
+            }
+
+            powerValues = values;
+        }
+
+        return values;
+    }
+}
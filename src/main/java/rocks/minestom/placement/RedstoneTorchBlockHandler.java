@@ -0,0 +1,29 @@
+package rocks.minestom.placement;
+
+import net.kyori.adventure.key.Key;
+import net.minestom.server.instance.block.BlockHandler;
+import org.jetbrains.annotations.NotNull;
+
+public final class RedstoneTorchBlockHandler implements BlockHandler {
+    public static final RedstoneTorchBlockHandler INSTANCE = new RedstoneTorchBlockHandler();
+    private static final Key KEY = Key.key("placement:redstone_torch");
+
+    private RedstoneTorchBlockHandler() {
+
+    }
+
+    @Override
+    public @NotNull Key getKey() {
+        return KEY;
+    }
+
+    @Override
+    public void onPlace(@NotNull Placement placement) {
+        RedstoneEngine.of(placement.getInstance()).markSource(placement.getBlockPosition());
+    }
+
+    @Override
+    public void onDestroy(@NotNull Destroy destroy) {
+        RedstoneEngine.of(destroy.getInstance()).markSource(destroy.getBlockPosition());
+    }
+}
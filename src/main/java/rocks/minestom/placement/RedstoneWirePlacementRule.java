@@ -7,8 +7,29 @@ import net.minestom.server.instance.block.rule.BlockPlacementRule;
 import org.jetbrains.annotations.NotNull;
 
 public final class RedstoneWirePlacementRule extends BlockPlacementRule {
+    private final BlockStateTable states;
+    private final int northProperty;
+    private final int eastProperty;
+    private final int southProperty;
+    private final int westProperty;
+    private final int powerProperty;
+    private final int noneValue;
+    private final int sideValue;
+    private final int upValue;
+    private final int zeroPower;
+
     public RedstoneWirePlacementRule(@NotNull Block block) {
         super(block);
+        this.states = BlockStateTable.of(block);
+        this.northProperty = this.states.property("north");
+        this.eastProperty = this.states.property("east");
+        this.southProperty = this.states.property("south");
+        this.westProperty = this.states.property("west");
+        this.powerProperty = this.states.property("power");
+        this.noneValue = this.states.value(this.northProperty, "none");
+        this.sideValue = this.states.value(this.northProperty, "side");
+        this.upValue = this.states.value(this.northProperty, "up");
+        this.zeroPower = this.states.value(this.powerProperty, "0");
     }
 
     @Override
@@ -19,50 +40,66 @@ public final class RedstoneWirePlacementRule extends BlockPlacementRule {
         var east = computeSide(blockGetter, placePosition, BlockFace.EAST);
         var south = computeSide(blockGetter, placePosition, BlockFace.SOUTH);
         var west = computeSide(blockGetter, placePosition, BlockFace.WEST);
-        var northConnected = !"none".equals(north);
-        var southConnected = !"none".equals(south);
-        var eastConnected = !"none".equals(east);
-        var westConnected = !"none".equals(west);
+        var northConnected = north != this.noneValue;
+        var southConnected = south != this.noneValue;
+        var eastConnected = east != this.noneValue;
+        var westConnected = west != this.noneValue;
         var northSouthEmpty = !northConnected && !southConnected;
         var eastWestEmpty = !eastConnected && !westConnected;
-        var resolvedNorth = !northConnected && eastWestEmpty ? "side" : north;
-        var resolvedSouth = !southConnected && eastWestEmpty ? "side" : south;
-        var resolvedEast = !eastConnected && northSouthEmpty ? "side" : east;
-        var resolvedWest = !westConnected && northSouthEmpty ? "side" : west;
+        var resolvedNorth = !northConnected && eastWestEmpty ? this.sideValue : north;
+        var resolvedSouth = !southConnected && eastWestEmpty ? this.sideValue : south;
+        var resolvedEast = !eastConnected && northSouthEmpty ? this.sideValue : east;
+        var resolvedWest = !westConnected && northSouthEmpty ? this.sideValue : west;
+        var state = this.block.stateId();
+        state = this.states.with(state, this.northProperty, resolvedNorth);
+        state = this.states.with(state, this.eastProperty, resolvedEast);
+        state = this.states.with(state, this.southProperty, resolvedSouth);
+        state = this.states.with(state, this.westProperty, resolvedWest);
+        state = this.states.with(state, this.powerProperty, this.zeroPower);
+        // the wire is not in the world yet; the engine powers it on the next tick
+        this.markWire(blockGetter, placePosition);
+        return BlockStateTable.block(this.block, state);
+    }
 
-        return this.block
-                .withProperty("north", resolvedNorth)
-                .withProperty("east", resolvedEast)
-                .withProperty("south", resolvedSouth)
-                .withProperty("west", resolvedWest)
-                .withProperty("power", "0");
+    @Override
+    public Block blockUpdate(@NotNull UpdateState updateState) {
+        this.markWire(updateState.instance(), updateState.blockPosition());
+        return updateState.currentBlock();
+    }
+
+    private void markWire(@NotNull Block.Getter blockGetter, @NotNull Point position) {
+        var instance = VanillaPlacementUtils.writableInstance(blockGetter);
+
+        if (instance != null) {
+            RedstoneEngine.of(instance).markWire(position);
+        }
     }
 
-    private String computeSide(@NotNull Block.Getter blockGetter, @NotNull Point placePosition, @NotNull BlockFace face) {
+    private int computeSide(@NotNull Block.Getter blockGetter, @NotNull Point placePosition, @NotNull BlockFace face) {
         var sidePosition = placePosition.relative(face);
         var sideBlock = blockGetter.getBlock(sidePosition);
 
         if (sideBlock.compare(this.block)) {
-            return "side";
+            return this.sideValue;
         }
 
         var abovePosition = placePosition.relative(BlockFace.TOP);
         var aboveBlock = blockGetter.getBlock(abovePosition);
         var aboveSidePosition = sidePosition.relative(BlockFace.TOP);
         var aboveSideBlock = blockGetter.getBlock(aboveSidePosition);
-        var sideSturdyTop = sideBlock.registry().collisionShape().isFaceFull(BlockFace.TOP);
-        var aboveSolid = aboveBlock.registry().collisionShape().isFaceFull(BlockFace.BOTTOM);
+        var sideSturdyTop = FaceSturdiness.isFull(sideBlock, BlockFace.TOP);
+        var aboveSolid = FaceSturdiness.isFull(aboveBlock, BlockFace.BOTTOM);
 
         if (sideSturdyTop && !aboveSolid && aboveSideBlock.compare(this.block)) {
-            return "up";
+            return this.upValue;
         }
 
         var belowSidePosition = sidePosition.relative(BlockFace.BOTTOM);
         var belowSideBlock = blockGetter.getBlock(belowSidePosition);
 
         if (!sideSturdyTop && belowSideBlock.compare(this.block)) {
-            return "side";
+            return this.sideValue;
         }
-        return "none";
+        return this.noneValue;
     }
 }
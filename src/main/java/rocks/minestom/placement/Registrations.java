@@ -12,6 +12,20 @@ public final class Registrations {
     }
 
     public static void registerAllVanilla(@NotNull BlockManager blockManager) {
+        registerAllVanilla(blockManager, false);
+    }
+
+    /**
+     * Registers every vanilla rule and handler. When {@code instrumented} is set, each rule is wrapped
+     * so that its calls are recorded in {@link PlacementMetrics}; otherwise the plain rules are used
+     * and instrumentation costs nothing.
+     */
+    public static void registerAllVanilla(@NotNull BlockManager blockManager, boolean instrumented) {
+        BlockTag.rebuildAll();
+        BlockStateTable.buildAll();
+        ConnectionEngine.buildAll();
+        FaceSturdiness.buildAll();
+        StairShapeSolver.buildAll();
         registerHandlers(blockManager);
         registerByTag(AxisPlacementRule::new, "minecraft:logs");
         Utility.registerPlacementRules(
@@ -197,13 +211,13 @@ public final class Registrations {
         Utility.registerPlacementRules(WallTorchPlacementRule::new,
                 Block.WALL_TORCH,
                 Block.SOUL_WALL_TORCH,
-                Block.REDSTONE_WALL_TORCH,
                 Block.COPPER_WALL_TORCH);
+        Utility.registerPlacementRules(block -> new WallTorchPlacementRule(block, RedstoneTorchBlockHandler.INSTANCE), Block.REDSTONE_WALL_TORCH);
         Utility.registerPlacementRules(TorchPlacementRule::new,
                 Block.TORCH,
                 Block.SOUL_TORCH,
-                Block.REDSTONE_TORCH,
                 Block.COPPER_TORCH);
+        Utility.registerPlacementRules(block -> new TorchPlacementRule(block, RedstoneTorchBlockHandler.INSTANCE), Block.REDSTONE_TORCH);
         Utility.registerPlacementRules(PlantPlacementRule::new,
                 Block.BUSH,
                 Block.FERN,
@@ -378,6 +392,10 @@ public final class Registrations {
                 Block.PALE_OAK_SHELF,
                 Block.SPRUCE_SHELF,
                 Block.WARPED_SHELF);
+
+        if (instrumented) {
+            PlacementMetrics.instrument(blockManager);
+        }
     }
 
     private static void registerHandlers(@NotNull BlockManager blockManager) {
@@ -395,6 +413,7 @@ public final class Registrations {
         blockManager.registerHandler(NoteBlockHandler.INSTANCE.getKey(), () -> NoteBlockHandler.INSTANCE);
         blockManager.registerHandler(RepeaterBlockHandler.INSTANCE.getKey(), () -> RepeaterBlockHandler.INSTANCE);
         blockManager.registerHandler(ComparatorBlockHandler.INSTANCE.getKey(), () -> ComparatorBlockHandler.INSTANCE);
+        blockManager.registerHandler(RedstoneTorchBlockHandler.INSTANCE.getKey(), () -> RedstoneTorchBlockHandler.INSTANCE);
     }
 
     private static void registerByTag(@NotNull java.util.function.Function<Block, ? extends net.minestom.server.instance.block.rule.BlockPlacementRule> factory, @NotNull String tagKey) {
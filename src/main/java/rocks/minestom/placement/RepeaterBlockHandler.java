@@ -7,6 +7,7 @@ import org.jetbrains.annotations.NotNull;
 public final class RepeaterBlockHandler implements BlockHandler {
     public static final RepeaterBlockHandler INSTANCE = new RepeaterBlockHandler();
     private static final Key KEY = Key.key("placement:repeater");
+    private static final IntProperty DELAY = IntProperty.of("delay");
 
     private RepeaterBlockHandler() {
 
@@ -24,10 +25,9 @@ public final class RepeaterBlockHandler implements BlockHandler {
         }
 
         var block = interaction.getBlock();
-        var delayProperty = block.getProperty("delay");
-        var delay = delayProperty == null ? 1 : Integer.parseInt(delayProperty);
+        var delay = DELAY.get(block, 1);
         var nextDelay = delay >= 4 ? 1 : delay + 1;
-        var updatedBlock = block.withProperty("delay", Integer.toString(nextDelay));
+        var updatedBlock = DELAY.with(block, nextDelay);
 
         interaction.getInstance().setBlock(interaction.getBlockPosition(), updatedBlock);
         return false;
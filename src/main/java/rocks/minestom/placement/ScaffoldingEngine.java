@@ -0,0 +1,274 @@
+package rocks.minestom.placement;
+
+import net.minestom.server.coordinate.Point;
+import net.minestom.server.instance.Instance;
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.instance.block.BlockFace;
+import net.minestom.server.tag.Tag;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Incremental scaffolding distance propagation, mirroring vanilla's {@code ScaffoldingBlock.tick}.
+ * Scaffolding whose neighborhood changed is marked dirty and recomputed breadth-first: each round
+ * recomputes the current frontier and queues the neighbors of every block that changed. At most
+ * {@link #MAX_UPDATES_PER_TICK} positions are recomputed per tick, the rest carry over to the next one.
+ * <p>
+ * Scaffolding that reaches {@link #MAX_DISTANCE} collapses. Collapsed positions read as air for the rest
+ * of the tick and are removed together once the tick's rounds are done, so a tower losing its support
+ * is taken down in a few large steps rather than one block per scheduled tick.
+ */
+final class ScaffoldingEngine {
+    static final int MAX_DISTANCE = 7;
+    static final int MAX_UPDATES_PER_TICK = 4096;
+
+    private static final Tag<ScaffoldingEngine> TAG = Tag.Transient("placement:scaffolding_engine");
+    private static final BlockFace[] FACES = BlockFace.values();
+    private static final BlockFace[] HORIZONTAL_FACES = {
+            BlockFace.NORTH,
+            BlockFace.EAST,
+            BlockFace.SOUTH,
+            BlockFace.WEST
+    };
+    private static final int INITIAL_CAPACITY = 256;
+    private static final IntProperty DISTANCE = IntProperty.of("distance");
+
+    private final Instance instance;
+    private final Block.Getter collapsingView;
+    private final PositionQueue collapsing = new PositionQueue(INITIAL_CAPACITY);
+    private PositionQueue dirty = new PositionQueue(INITIAL_CAPACITY);
+    private PositionQueue processing = new PositionQueue(INITIAL_CAPACITY);
+    private boolean scheduled;
+
+    private ScaffoldingEngine(@NotNull Instance instance) {
+        this.instance = instance;
+        this.collapsingView = (x, y, z, condition) -> this.collapsing.indexOf(PositionQueue.pack(x, y, z)) != -1
+                ? Block.AIR
+                : instance.getBlock(x, y, z, condition);
+    }
+
+    static @NotNull ScaffoldingEngine of(@NotNull Instance instance) {
+        var engine = instance.getTag(TAG);
+
+        if (engine != null) {
+            return engine;
+        }
+
+        synchronized (instance) {
+            engine = instance.getTag(TAG);
+
+            if (engine == null) {
+                engine = new ScaffoldingEngine(instance);
+                instance.setTag(TAG, engine);
+            }
+
+            return engine;
+        }
+    }
+
+    /**
+     * Returns the distance scaffolding at {@code position} would have, from the current state of the
+     * block below it and its horizontal neighbors.
+     */
+    static int computeDistance(@NotNull Block.Getter blockGetter, @NotNull Point position) {
+        return computeDistance(blockGetter, position.blockX(), position.blockY(), position.blockZ());
+    }
+
+    /**
+     * Whether scaffolding with the given distance shows its bottom frame, i.e. is not standing on more
+     * scaffolding.
+     */
+    static boolean isBottom(@NotNull Block.Getter blockGetter, @NotNull Point position, int distance) {
+        return isBottom(blockGetter, position.blockX(), position.blockY(), position.blockZ(), distance);
+    }
+
+    void markDirty(@NotNull Point position) {
+        synchronized (this) {
+            this.dirty.add(PositionQueue.pack(position.blockX(), position.blockY(), position.blockZ()), 0);
+
+            if (this.scheduled) {
+                return;
+            }
+
+            this.scheduled = true;
+        }
+
+        this.instance.scheduleNextTick(ignored -> this.process());
+    }
+
+    synchronized int pendingUpdates() {
+        return this.dirty.size();
+    }
+
+    private void process() {
+        var budget = MAX_UPDATES_PER_TICK;
+
+        try {
+            while (budget > 0) {
+                PositionQueue batch;
+
+                synchronized (this) {
+                    if (this.dirty.isEmpty()) {
+                        break;
+                    }
+
+                    batch = this.dirty;
+                    this.dirty = this.processing;
+                    this.processing = batch;
+                }
+
+                var count = Math.min(batch.size(), budget);
+                budget -= count;
+
+                try {
+                    for (var index = 0; index < count; index++) {
+                        this.update(batch.position(index));
+                    }
+                } finally {
+                    synchronized (this) {
+                        for (var index = count; index < batch.size(); index++) {
+                            this.dirty.add(batch.position(index), 0);
+                        }
+                    }
+
+                    batch.clear();
+                }
+            }
+
+            this.collapse();
+        } finally {
+            // after a failure, collapses that were not written are recomputed next tick
+            synchronized (this) {
+                for (var index = 0; index < this.collapsing.size(); index++) {
+                    this.dirty.add(this.collapsing.position(index), 0);
+                }
+            }
+
+            this.collapsing.clear();
+            this.reschedule();
+        }
+    }
+
+    private void reschedule() {
+        synchronized (this) {
+            if (this.dirty.isEmpty()) {
+                this.scheduled = false;
+                return;
+            }
+        }
+
+        this.instance.scheduleNextTick(ignored -> this.process());
+    }
+
+    private void update(long packed) {
+        if (this.collapsing.indexOf(packed) != -1) {
+            return;
+        }
+
+        var x = PositionQueue.unpackX(packed);
+        var y = PositionQueue.unpackY(packed);
+        var z = PositionQueue.unpackZ(packed);
+
+        if (!this.isLoaded(x, z)) {
+            // the chunk or one next to it unloaded while the position was dirty
+            return;
+        }
+
+        var block = this.instance.getBlock(x, y, z);
+
+        if (!block.compare(Block.SCAFFOLDING)) {
+            return;
+        }
+
+        var distance = computeDistance(this.collapsingView, x, y, z);
+
+        if (distance == MAX_DISTANCE) {
+            this.collapsing.add(packed, 0);
+        } else {
+            var updated = DISTANCE.with(block, distance)
+                    .withProperty("bottom", String.valueOf(isBottom(this.collapsingView, x, y, z, distance)));
+
+            if (updated.stateId() == block.stateId()) {
+                return;
+            }
+
+            this.instance.setBlock(x, y, z, updated, false);
+            SignalIndex.invalidate(this.instance, x, y, z);
+
+            if (distanceAt(block) == distance) {
+                // only the bottom frame changed, which nothing else depends on
+                return;
+            }
+        }
+
+        synchronized (this) {
+            for (var face : FACES) {
+                var neighbor = PositionQueue.offset(packed, face);
+
+                if (this.instance.getBlock(PositionQueue.unpackX(neighbor), PositionQueue.unpackY(neighbor), PositionQueue.unpackZ(neighbor)).compare(Block.SCAFFOLDING)) {
+                    this.dirty.add(neighbor, 0);
+                }
+            }
+        }
+    }
+
+    private void collapse() {
+        for (var index = 0; index < this.collapsing.size(); index++) {
+            var packed = this.collapsing.position(index);
+            var x = PositionQueue.unpackX(packed);
+            var y = PositionQueue.unpackY(packed);
+            var z = PositionQueue.unpackZ(packed);
+
+            if (!this.instance.isChunkLoaded(x >> 4, z >> 4)) {
+                continue;
+            }
+
+            var waterlogged = "true".equals(this.instance.getBlock(x, y, z).getProperty("waterlogged"));
+            this.instance.setBlock(x, y, z, waterlogged ? Block.WATER : Block.AIR, false);
+            SignalIndex.invalidate(this.instance, x, y, z);
+        }
+
+        this.collapsing.clear();
+    }
+
+    /**
+     * Whether the chunks holding the position and its horizontal neighbors are all loaded.
+     */
+    private boolean isLoaded(int x, int z) {
+        return this.instance.isChunkLoaded((x - 1) >> 4, z >> 4) && this.instance.isChunkLoaded((x + 1) >> 4, z >> 4)
+                && this.instance.isChunkLoaded(x >> 4, (z - 1) >> 4) && this.instance.isChunkLoaded(x >> 4, (z + 1) >> 4);
+    }
+
+    private static int computeDistance(@NotNull Block.Getter blockGetter, int x, int y, int z) {
+        var below = blockGetter.getBlock(x, y - 1, z);
+        var distance = MAX_DISTANCE;
+
+        if (below.compare(Block.SCAFFOLDING)) {
+            distance = distanceAt(below);
+        } else if (FaceSturdiness.isFull(below, BlockFace.TOP)) {
+            return 0;
+        }
+
+        for (var face : HORIZONTAL_FACES) {
+            var direction = face.toDirection();
+            var neighbor = blockGetter.getBlock(x + direction.normalX(), y, z + direction.normalZ());
+
+            if (neighbor.compare(Block.SCAFFOLDING)) {
+                distance = Math.min(distance, distanceAt(neighbor) + 1);
+
+                if (distance == 1) {
+                    break;
+                }
+            }
+        }
+
+        return distance;
+    }
+
+    private static boolean isBottom(@NotNull Block.Getter blockGetter, int x, int y, int z, int distance) {
+        return distance > 0 && !blockGetter.getBlock(x, y - 1, z).compare(Block.SCAFFOLDING);
+    }
+
+    private static int distanceAt(@NotNull Block block) {
+        return DISTANCE.get(block, MAX_DISTANCE);
+    }
+}
@@ -0,0 +1,136 @@
+package rocks.minestom.placement;
+
+import net.kyori.adventure.nbt.BinaryTagIO;
+import net.kyori.adventure.nbt.CompoundBinaryTag;
+import net.minestom.server.coordinate.Point;
+import net.minestom.server.instance.Instance;
+import net.minestom.server.instance.block.Block;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Imports Sponge schematics ({@code .schem}, versions 2 and 3) into instances. Connection properties
+ * written by other tools are frequently wrong, so the blocks are normalized with the registered placement
+ * rules on the way in, in parallel per chunk, and written as one batch per chunk.
+ * <p>
+ * Block entities and entities stored in the schematic are not imported.
+ */
+public final class SchematicImporter {
+    private SchematicImporter() {
+
+    }
+
+    /**
+     * Reads a gzip-compressed Sponge schematic into a region placed at {@code origin}. Palette entries
+     * that are not valid block states are imported as air.
+     */
+    public static @NotNull PlacementRegion read(@NotNull InputStream input, @NotNull Point origin) throws IOException {
+        var root = BinaryTagIO.reader().read(input, BinaryTagIO.Compression.GZIP);
+        var schematic = root.get("Schematic") instanceof CompoundBinaryTag nested ? nested : root;
+        var width = schematic.getShort("Width") & 0xFFFF;
+        var height = schematic.getShort("Height") & 0xFFFF;
+        var length = schematic.getShort("Length") & 0xFFFF;
+        CompoundBinaryTag palette;
+        byte[] data;
+
+        if (schematic.get("Blocks") instanceof CompoundBinaryTag blocks) {
+            palette = blocks.getCompound("Palette");
+            data = blocks.getByteArray("Data");
+        } else {
+            palette = schematic.getCompound("Palette");
+            data = schematic.getByteArray("BlockData");
+        }
+
+        var states = new Block[palette.size()];
+
+        for (var state : palette.keySet()) {
+            var id = palette.getInt(state);
+
+            if (id < 0) {
+                throw new IOException("Negative palette index " + id + " for " + state);
+            }
+
+            if (id >= states.length) {
+                states = Arrays.copyOf(states, id + 1);
+            }
+
+            var block = Block.fromState(state);
+            states[id] = block == null ? Block.AIR : block;
+        }
+
+        var region = new PlacementRegion(origin, width, height, length);
+        var offset = 0;
+
+        for (var y = 0; y < height; y++) {
+            for (var z = 0; z < length; z++) {
+                for (var x = 0; x < width; x++) {
+                    var id = 0;
+                    var shift = 0;
+                    byte current;
+
+                    do {
+                        if (offset >= data.length) {
+                            throw new IOException("Block data ends before " + width + "x" + height + "x" + length + " blocks");
+                        }
+
+                        current = data[offset++];
+                        id |= (current & 0x7F) << shift;
+                        shift += 7;
+                    } while ((current & 0x80) != 0);
+
+                    if (id >= states.length || states[id] == null) {
+                        throw new IOException("Unknown palette index " + id);
+                    }
+
+                    region.set(x, y, z, states[id]);
+                }
+            }
+        }
+
+        return region;
+    }
+
+    /**
+     * Normalizes the connection shapes of {@code region} on {@code pool} and writes it into
+     * {@code instance}, one batch per chunk. The returned future completes once every batch is applied.
+     * Must be called from the instance's tick thread, which reads the blocks around the region before
+     * the work is forked.
+     */
+    public static @NotNull CompletableFuture<Void> paste(@NotNull Instance instance, @NotNull PlacementRegion region, @NotNull ForkJoinPool pool) {
+        var future = new CompletableFuture<Void>();
+        var halo = PlacementEngine.captureHalo(instance, region);
+
+        pool.execute(() -> {
+            try {
+                var batches = PlacementEngine.resolveCaptured(halo, region, pool);
+                var remaining = new AtomicInteger(batches.size());
+
+                if (batches.isEmpty()) {
+                    future.complete(null);
+                    return;
+                }
+
+                for (var batch : batches) {
+                    batch.apply(instance, () -> {
+                        if (remaining.decrementAndGet() == 0) {
+                            var origin = region.origin();
+                            SignalIndex.invalidateArea(instance, origin.blockX(), origin.blockZ(),
+                                    origin.blockX() + region.sizeX() - 1, origin.blockZ() + region.sizeZ() - 1);
+                            future.complete(null);
+                        }
+                    });
+                }
+            } catch (Throwable throwable) {
+                future.completeExceptionally(throwable);
+            }
+        });
+
+        return future;
+    }
+}
@@ -6,6 +6,8 @@ import net.minestom.server.instance.block.rule.BlockPlacementRule;
 import org.jetbrains.annotations.NotNull;
 
 public final class SeaPicklePlacementRule extends BlockPlacementRule {
+    private static final IntProperty PICKLES = IntProperty.of("pickles");
+
     public SeaPicklePlacementRule(@NotNull Block block) {
         super(block);
     }
@@ -17,18 +19,17 @@ public final class SeaPicklePlacementRule extends BlockPlacementRule {
         var existingBlock = instance.getBlock(placePosition);
 
         if (existingBlock.compare(this.block)) {
-            var picklesProperty = existingBlock.getProperty("pickles");
-            var pickles = picklesProperty == null ? 1 : Integer.parseInt(picklesProperty);
+            var pickles = PICKLES.get(existingBlock, 1);
 
             if (pickles < 4) {
-                return existingBlock.withProperty("pickles", Integer.toString(pickles + 1));
+                return PICKLES.with(existingBlock, pickles + 1);
             }
         }
 
         var supportPosition = placePosition.relative(BlockFace.BOTTOM);
         var supportBlock = instance.getBlock(supportPosition);
 
-        if (!supportBlock.registry().collisionShape().isFaceFull(BlockFace.TOP)) {
+        if (!FaceSturdiness.isFull(supportBlock, BlockFace.TOP)) {
             return null;
         }
 
@@ -47,7 +48,7 @@ public final class SeaPicklePlacementRule extends BlockPlacementRule {
         }
         var below = updateState.instance().getBlock(updateState.blockPosition().relative(BlockFace.BOTTOM));
 
-        if (!below.registry().collisionShape().isFaceFull(BlockFace.TOP)) {
+        if (!FaceSturdiness.isFull(below, BlockFace.TOP)) {
             return Block.AIR;
         }
         return updateState.currentBlock();
@@ -63,8 +64,7 @@ public final class SeaPicklePlacementRule extends BlockPlacementRule {
             return false;
         }
 
-        var picklesProperty = replacement.block().getProperty("pickles");
-        var pickles = picklesProperty == null ? 1 : Integer.parseInt(picklesProperty);
+        var pickles = PICKLES.get(replacement.block(), 1);
         return pickles < 4;
     }
 }
@@ -22,7 +22,7 @@ public final class SeagrassPlacementRule extends BlockPlacementRule {
 
         var belowBlock = instance.getBlock(placePosition.relative(BlockFace.BOTTOM));
 
-        if (!belowBlock.registry().collisionShape().isFaceFull(BlockFace.TOP)) {
+        if (!FaceSturdiness.isFull(belowBlock, BlockFace.TOP)) {
             return null;
         }
         return this.block;
@@ -1,14 +1,12 @@
 package rocks.minestom.placement;
 
-import net.kyori.adventure.key.Key;
-import net.minestom.server.MinecraftServer;
 import net.minestom.server.instance.block.Block;
 import net.minestom.server.instance.block.BlockFace;
 import net.minestom.server.instance.block.rule.BlockPlacementRule;
 import org.jetbrains.annotations.NotNull;
 
 public final class SegmentedPlacementRule extends BlockPlacementRule {
-    private static final Key SUPPORTS_VEGETATION_TAG = Key.key("minecraft:supports_vegetation");
+    private static final IntProperty FLOWER_AMOUNT = IntProperty.of("flower_amount");
 
     public SegmentedPlacementRule(@NotNull Block block) {
         super(block);
@@ -27,9 +25,9 @@ public final class SegmentedPlacementRule extends BlockPlacementRule {
         var existingBlock = instance.getBlock(placePosition);
 
         if (existingBlock.compare(this.block)) {
-            var amount = parseAmount(existingBlock.getProperty("flower_amount"));
+            var amount = FLOWER_AMOUNT.get(existingBlock, 1);
             var increased = Math.min(4, amount + 1);
-            return existingBlock.withProperty("flower_amount", Integer.toString(increased));
+            return FLOWER_AMOUNT.with(existingBlock, increased);
         }
 
         var playerPosition = placementState.playerPosition();
@@ -56,8 +54,7 @@ public final class SegmentedPlacementRule extends BlockPlacementRule {
     }
 
     private static boolean supportsVegetation(@NotNull Block block) {
-        var tag = MinecraftServer.process().blocks().getTag(SUPPORTS_VEGETATION_TAG);
-        return tag != null && tag.contains(block);
+        return BlockTag.SUPPORTS_VEGETATION.contains(block);
     }
 
     @Override
@@ -70,19 +67,7 @@ public final class SegmentedPlacementRule extends BlockPlacementRule {
             return false;
         }
 
-        var amount = parseAmount(replacement.block().getProperty("flower_amount"));
+        var amount = FLOWER_AMOUNT.get(replacement.block(), 1);
         return amount < 4;
     }
-
-    private static int parseAmount(String property) {
-        if (property == null) {
-            return 1;
-        }
-
-        try {
-            return Integer.parseInt(property);
-        } catch (NumberFormatException exception) {
-            return 1;
-        }
-    }
 }
@@ -0,0 +1,16 @@
+package rocks.minestom.placement;
+
+import net.minestom.server.coordinate.Point;
+import net.minestom.server.instance.block.Block;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A rule whose connection shape can be recomputed from its neighbors alone, without a placing player.
+ * Used by {@link PlacementEngine} to resolve whole regions in a single sweep.
+ */
+interface ShapeResolvingRule {
+    /**
+     * Returns {@code current} with every neighbor-dependent property recomputed.
+     */
+    @NotNull Block resolveShape(@NotNull Block.Getter blockGetter, @NotNull Point position, @NotNull Block current);
+}
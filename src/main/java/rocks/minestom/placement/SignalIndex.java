@@ -0,0 +1,282 @@
+package rocks.minestom.placement;
+
+import net.minestom.server.coordinate.Point;
+import net.minestom.server.event.instance.InstanceChunkUnloadEvent;
+import net.minestom.server.event.player.PlayerBlockBreakEvent;
+import net.minestom.server.event.player.PlayerBlockPlaceEvent;
+import net.minestom.server.instance.Instance;
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.instance.block.BlockFace;
+import net.minestom.server.tag.Tag;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-instance cache of vanilla's {@code Level.hasNeighborSignal}, stored as one byte per block in
+ * lazily allocated section arrays. A cached answer is kept until a block within two blocks of it
+ * changes, since that is as far as a source can reach through a strongly powered block. Changes are
+ * reported by player block events, the lever, button, torch and daylight detector handlers, the redstone
+ * engine, and the library's other writers: region and schematic pastes, async and multi-block placement,
+ * the neighbor queue and the leaf, scaffolding, rail, dripstone and stair engines. Sections are dropped
+ * with their chunk.
+ * <p>
+ * Blocks set directly through {@link Instance#setBlock} by other code are not seen; answers around them
+ * stay stale until the chunk unloads. Such writes should go through {@link PlacementRegion#apply(Block.Setter)} with the instance
+ * when they place or remove signal sources or conductors.
+ */
+final class SignalIndex {
+    private static final Tag<SignalIndex> TAG = Tag.Transient("placement:signal_index");
+    private static final BlockFace[] FACES = BlockFace.values();
+    private static final byte UNKNOWN = 0;
+    private static final byte UNPOWERED = 1;
+    private static final byte POWERED = 2;
+    private static final int INVALIDATION_RADIUS = 2;
+    private static final IntProperty POWER = IntProperty.of("power");
+
+    /**
+     * Name of the redstone wire side property pointing back at a block queried from the given face.
+     */
+    private static final String[] SIDE_PROPERTY = new String[FACES.length];
+
+    static {
+        for (var face : FACES) {
+            SIDE_PROPERTY[face.ordinal()] = face.getOppositeFace().name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    private final Instance instance;
+    private final Map<Long, Section[]> chunks = new ConcurrentHashMap<>();
+    private final int minSection;
+    private final int sectionCount;
+
+    private SignalIndex(@NotNull Instance instance) {
+        var dimensionType = instance.getCachedDimensionType();
+        this.instance = instance;
+        this.minSection = dimensionType.minY() >> 4;
+        this.sectionCount = dimensionType.height() >> 4;
+
+        var eventNode = instance.eventNode();
+        eventNode.addListener(PlayerBlockPlaceEvent.class, event -> this.invalidate(event.getBlockPosition()));
+        eventNode.addListener(PlayerBlockBreakEvent.class, event -> this.invalidate(event.getBlockPosition()));
+        eventNode.addListener(InstanceChunkUnloadEvent.class, event -> this.chunks.remove(chunkKey(event.getChunkX(), event.getChunkZ())));
+    }
+
+    static @NotNull SignalIndex of(@NotNull Instance instance) {
+        var index = instance.getTag(TAG);
+
+        if (index != null) {
+            return index;
+        }
+
+        synchronized (instance) {
+            index = instance.getTag(TAG);
+
+            if (index == null) {
+                index = new SignalIndex(instance);
+                instance.setTag(TAG, index);
+            }
+
+            return index;
+        }
+    }
+
+    /**
+     * Whether any neighbor of {@code position} feeds it a redstone signal. Cached per instance when the
+     * getter is backed by one; computed directly otherwise.
+     */
+    static boolean hasNeighborSignal(@NotNull Block.Getter blockGetter, @NotNull Point position) {
+        var instance = VanillaPlacementUtils.instance(blockGetter);
+
+        if (instance == null) {
+            return compute(blockGetter, position.blockX(), position.blockY(), position.blockZ());
+        }
+
+        return of(instance).isPowered(position.blockX(), position.blockY(), position.blockZ());
+    }
+
+    /**
+     * Reports a write to the block at the given position, if {@code instance} has an index.
+     */
+    static void invalidate(@NotNull Instance instance, int x, int y, int z) {
+        var index = instance.getTag(TAG);
+
+        if (index != null) {
+            index.invalidate(x, y, z);
+        }
+    }
+
+    static void invalidate(@NotNull Instance instance, @NotNull Point position) {
+        invalidate(instance, position.blockX(), position.blockY(), position.blockZ());
+    }
+
+    /**
+     * Reports writes anywhere in the given horizontal area, dropping every chunk they can affect.
+     */
+    static void invalidateArea(@NotNull Instance instance, int minX, int minZ, int maxX, int maxZ) {
+        var index = instance.getTag(TAG);
+
+        if (index == null) {
+            return;
+        }
+
+        for (var chunkX = (minX - INVALIDATION_RADIUS) >> 4; chunkX <= (maxX + INVALIDATION_RADIUS) >> 4; chunkX++) {
+            for (var chunkZ = (minZ - INVALIDATION_RADIUS) >> 4; chunkZ <= (maxZ + INVALIDATION_RADIUS) >> 4; chunkZ++) {
+                index.chunks.remove(chunkKey(chunkX, chunkZ));
+            }
+        }
+    }
+
+    boolean isPowered(int x, int y, int z) {
+        var section = this.section(x, y, z);
+
+        if (section == null) {
+            return compute(this.instance, x, y, z);
+        }
+
+        var index = sectionIndex(x, y, z);
+        var cached = section.states[index];
+
+        if (cached != UNKNOWN) {
+            return cached == POWERED;
+        }
+
+        var powered = compute(this.instance, x, y, z);
+        section.states[index] = powered ? POWERED : UNPOWERED;
+        return powered;
+    }
+
+    /**
+     * Drops every cached answer that a change of the block at {@code position} can affect.
+     */
+    void invalidate(@NotNull Point position) {
+        this.invalidate(position.blockX(), position.blockY(), position.blockZ());
+    }
+
+    void invalidate(int centerX, int centerY, int centerZ) {
+        for (var x = centerX - INVALIDATION_RADIUS; x <= centerX + INVALIDATION_RADIUS; x++) {
+            for (var z = centerZ - INVALIDATION_RADIUS; z <= centerZ + INVALIDATION_RADIUS; z++) {
+                var sections = this.chunks.get(chunkKey(x >> 4, z >> 4));
+
+                if (sections == null) {
+                    continue;
+                }
+
+                for (var y = centerY - INVALIDATION_RADIUS; y <= centerY + INVALIDATION_RADIUS; y++) {
+                    if (Math.abs(x - centerX) + Math.abs(y - centerY) + Math.abs(z - centerZ) > INVALIDATION_RADIUS) {
+                        continue;
+                    }
+
+                    var sectionY = (y >> 4) - this.minSection;
+
+                    if (sectionY >= 0 && sectionY < sections.length && sections[sectionY] != null) {
+                        sections[sectionY].states[sectionIndex(x, y, z)] = UNKNOWN;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the cache section holding the position, or {@code null} if the position is outside of the
+     * world or its chunk is not loaded.
+     */
+    private @Nullable Section section(int x, int y, int z) {
+        var sectionY = (y >> 4) - this.minSection;
+
+        if (sectionY < 0 || sectionY >= this.sectionCount) {
+            return null;
+        }
+
+        var key = chunkKey(x >> 4, z >> 4);
+        var sections = this.chunks.get(key);
+
+        if (sections == null) {
+            if (!this.instance.isChunkLoaded(x >> 4, z >> 4)) {
+                return null;
+            }
+
+            sections = this.chunks.computeIfAbsent(key, ignored -> new Section[this.sectionCount]);
+        }
+
+        var section = sections[sectionY];
+
+        if (section == null) {
+            section = new Section();
+            sections[sectionY] = section;
+        }
+
+        return section;
+    }
+
+    private static boolean compute(@NotNull Block.Getter blockGetter, int x, int y, int z) {
+        for (var face : FACES) {
+            var direction = face.toDirection();
+            var neighborX = x + direction.normalX();
+            var neighborY = y + direction.normalY();
+            var neighborZ = z + direction.normalZ();
+            var neighbor = blockGetter.getBlock(neighborX, neighborY, neighborZ);
+
+            if (RedstoneEngine.signal(neighbor, face) > 0 || wireSignal(neighbor, face) > 0) {
+                return true;
+            }
+
+            if (FaceSturdiness.isFullCube(neighbor) && isStronglyPowered(blockGetter, neighborX, neighborY, neighborZ)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private static boolean isStronglyPowered(@NotNull Block.Getter blockGetter, int x, int y, int z) {
+        for (var face : FACES) {
+            var direction = face.toDirection();
+            var source = blockGetter.getBlock(x + direction.normalX(), y + direction.normalY(), z + direction.normalZ());
+
+            if (RedstoneEngine.directSignal(source, face) > 0 || wireSignal(source, face) > 0) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Signal of redstone dust towards the block it is queried from: the block below it, and the blocks
+     * its sides point into.
+     */
+    private static int wireSignal(@NotNull Block wire, @NotNull BlockFace direction) {
+        if (!wire.compare(Block.REDSTONE_WIRE) || direction == BlockFace.BOTTOM) {
+            return 0;
+        }
+
+        var power = POWER.get(wire, 0);
+
+        if (power == 0) {
+            return 0;
+        }
+
+        if (direction == BlockFace.TOP) {
+            return power;
+        }
+
+        var side = wire.getProperty(SIDE_PROPERTY[direction.ordinal()]);
+        return side == null || "none".equals(side) ? 0 : power;
+    }
+
+    private static long chunkKey(int chunkX, int chunkZ) {
+        return PositionQueue.pack(chunkX, 0, chunkZ);
+    }
+
+    private static int sectionIndex(int x, int y, int z) {
+        return (y & 15) << 8 | (z & 15) << 4 | x & 15;
+    }
+
+    private static final class Section {
+        private final byte[] states = new byte[4096];
+    }
+}
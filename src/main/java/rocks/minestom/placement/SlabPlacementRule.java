@@ -15,7 +15,9 @@ public final class SlabPlacementRule extends BlockPlacementRule {
         var existingBlock = placementState.instance().getBlock(placementState.placePosition());
 
         if (existingBlock.compare(this.block)) {
-            return this.block.withProperty("type", "double").withProperty("waterlogged", "false");
+            // completing a slab grows its shape into the space an entity may be standing in
+            var doubleSlab = this.block.withProperty("type", "double").withProperty("waterlogged", "false");
+            return EntityCollisionIndex.intersectsAnyEntity(placementState.instance(), placementState.placePosition(), doubleSlab) ? null : doubleSlab;
         }
 
         var blockFace = placementState.blockFace();
@@ -1,8 +1,5 @@
 package rocks.minestom.placement;
 
-import net.kyori.adventure.key.Key;
-import net.minestom.server.MinecraftServer;
-import net.minestom.server.instance.Instance;
 import net.minestom.server.instance.block.Block;
 import net.minestom.server.instance.block.BlockFace;
 import net.minestom.server.instance.block.rule.BlockPlacementRule;
@@ -15,34 +12,17 @@ public final class SmallDripleafPlacementRule extends BlockPlacementRule {
 
     @Override
     public Block blockPlace(@NotNull PlacementState placementState) {
-        if (!(placementState.instance() instanceof Instance instance)) {
-            return null;
-        }
-
+        var blockGetter = placementState.instance();
         var placePosition = placementState.placePosition();
         var upperPosition = placePosition.relative(BlockFace.TOP);
-        var maxY = instance.getCachedDimensionType().maxY();
-
-        if (upperPosition.blockY() >= maxY) {
-            return null;
-        }
-
-        var existingUpperBlock = instance.getBlock(upperPosition);
-
-        if (!existingUpperBlock.registry().isReplaceable()) {
-            return null;
-        }
-
-        var belowBlock = instance.getBlock(placePosition.relative(BlockFace.BOTTOM));
-        var registry = MinecraftServer.process().blocks();
-        var supportsSmall = registry.getTag(Key.key("minecraft:supports_small_dripleaf"));
-        var lowerReplaced = instance.getBlock(placePosition);
+        var existingUpperBlock = blockGetter.getBlock(upperPosition);
+        var belowBlock = blockGetter.getBlock(placePosition.relative(BlockFace.BOTTOM));
+        var lowerReplaced = blockGetter.getBlock(placePosition);
         var lowerWaterlogged = lowerReplaced.compare(Block.WATER) && isWaterSource(lowerReplaced);
-        var validSupport = supportsSmall != null && supportsSmall.contains(belowBlock);
+        var validSupport = BlockTag.SUPPORTS_SMALL_DRIPLEAF.contains(belowBlock);
 
         if (!validSupport) {
-            var supportsVegetation = registry.getTag(Key.key("minecraft:supports_vegetation"));
-            var vegetationOk = supportsVegetation != null && supportsVegetation.contains(belowBlock);
+            var vegetationOk = BlockTag.SUPPORTS_VEGETATION.contains(belowBlock);
             validSupport = lowerWaterlogged && vegetationOk;
         }
 
@@ -58,12 +38,14 @@ public final class SmallDripleafPlacementRule extends BlockPlacementRule {
                 .withProperty("facing", facing)
                 .withProperty("half", "upper")
                 .withProperty("waterlogged", String.valueOf(upperWaterlogged));
-        instance.setBlock(upperPosition, upperBlock, false);
-
-        return this.block
+        var lowerBlock = this.block
                 .withProperty("facing", facing)
                 .withProperty("half", "lower")
                 .withProperty("waterlogged", String.valueOf(lowerWaterlogged));
+
+        return MultiBlockPlacement.begin(blockGetter, placePosition)
+                .with(upperPosition, upperBlock)
+                .commit(lowerBlock);
     }
 
     @Override
@@ -92,10 +74,7 @@ public final class SmallDripleafPlacementRule extends BlockPlacementRule {
 
             if (fromFace == BlockFace.BOTTOM) {
                 var belowBlock = instance.getBlock(blockPosition.relative(BlockFace.BOTTOM));
-                var registry = MinecraftServer.process().blocks();
-                var supportsSmall = registry.getTag(Key.key("minecraft:supports_small_dripleaf"));
-
-                if (supportsSmall != null && supportsSmall.contains(belowBlock)) {
+                if (BlockTag.SUPPORTS_SMALL_DRIPLEAF.contains(belowBlock)) {
                     return currentBlock;
                 }
                 return Block.AIR;
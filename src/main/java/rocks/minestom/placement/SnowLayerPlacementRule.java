@@ -1,13 +1,13 @@
 package rocks.minestom.placement;
 
-import net.kyori.adventure.key.Key;
-import net.minestom.server.MinecraftServer;
 import net.minestom.server.instance.block.Block;
 import net.minestom.server.instance.block.BlockFace;
 import net.minestom.server.instance.block.rule.BlockPlacementRule;
 import org.jetbrains.annotations.NotNull;
 
 public final class SnowLayerPlacementRule extends BlockPlacementRule {
+    private static final IntProperty LAYERS = IntProperty.of("layers");
+
     public SnowLayerPlacementRule(@NotNull Block block) {
         super(block);
     }
@@ -19,32 +19,27 @@ public final class SnowLayerPlacementRule extends BlockPlacementRule {
         var existingBlock = instance.getBlock(placePosition);
 
         if (existingBlock.compare(this.block)) {
-            var layersProperty = existingBlock.getProperty("layers");
-            var layers = layersProperty == null ? 1 : Integer.parseInt(layersProperty);
+            var layers = LAYERS.get(existingBlock, 1);
 
             if (layers < 8) {
-                return existingBlock.withProperty("layers", Integer.toString(Math.min(8, layers + 1)));
+                return LAYERS.with(existingBlock, Math.min(8, layers + 1));
             }
         }
 
         var belowBlock = instance.getBlock(placePosition.relative(BlockFace.BOTTOM));
-        var registry = MinecraftServer.process().blocks();
-        var cannotSupport = registry.getTag(Key.key("minecraft:cannot_support_snow_layer"));
-
-        if (cannotSupport != null && cannotSupport.contains(belowBlock)) {
+        if (BlockTag.CANNOT_SUPPORT_SNOW_LAYER.contains(belowBlock)) {
             return null;
         }
 
-        var supportOverride = registry.getTag(Key.key("minecraft:support_override_snow_layer"));
-        var hasOverride = supportOverride != null && supportOverride.contains(belowBlock);
-        var faceFull = belowBlock.registry().collisionShape().isFaceFull(BlockFace.TOP);
-        var isFullSnow = belowBlock.compare(this.block) && "8".equals(belowBlock.getProperty("layers"));
+        var hasOverride = BlockTag.SUPPORT_OVERRIDE_SNOW_LAYER.contains(belowBlock);
+        var faceFull = FaceSturdiness.isFull(belowBlock, BlockFace.TOP);
+        var isFullSnow = belowBlock.compare(this.block) && LAYERS.get(belowBlock, 0) == 8;
 
         if (!hasOverride && !faceFull && !isFullSnow) {
             return null;
         }
 
-        return this.block.withProperty("layers", "1");
+        return LAYERS.with(this.block, 1);
     }
 
     @Override
@@ -57,8 +52,7 @@ public final class SnowLayerPlacementRule extends BlockPlacementRule {
             return false;
         }
 
-        var layersProperty = replacement.block().getProperty("layers");
-        var layers = layersProperty == null ? 1 : Integer.parseInt(layersProperty);
+        var layers = LAYERS.get(replacement.block(), 1);
         return layers < 8;
     }
 }
@@ -0,0 +1,201 @@
+package rocks.minestom.placement;
+
+import net.minestom.server.coordinate.Point;
+import net.minestom.server.instance.Instance;
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.instance.block.BlockFace;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Stair shapes from pre-decoded facing and half data. Every stair state is packed into one byte (a
+ * present bit, the top half bit and the facing as an index into {@link #HORIZONTAL_FACES}), so shape
+ * probes never parse properties. A stair's shape only depends on the facing and half of its neighbors,
+ * never on their shapes, so a whole cluster reaches its final shapes in a single pass.
+ */
+final class StairShapeSolver {
+    static final int MAX_CLUSTER_SIZE = 32768;
+
+    private static final int PRESENT = 1 << 3;
+    private static final int TOP = 1 << 2;
+    private static final int FACING_MASK = 3;
+
+    /**
+     * Ordered clockwise, so rotating a facing is a matter of adding to its index.
+     */
+    private static final BlockFace[] HORIZONTAL_FACES = {
+            BlockFace.NORTH,
+            BlockFace.EAST,
+            BlockFace.SOUTH,
+            BlockFace.WEST
+    };
+    private static final int[] OFFSET_X = {0, 1, 0, -1};
+    private static final int[] OFFSET_Z = {-1, 0, 1, 0};
+
+    private static volatile byte[] decoded;
+
+    private StairShapeSolver() {
+
+    }
+
+    /**
+     * Decodes the facing and half of every stair state. Must run after {@link BlockTag#rebuildAll()}.
+     */
+    static synchronized byte[] buildAll() {
+        var existing = StairShapeSolver.decoded;
+
+        if (existing != null) {
+            return existing;
+        }
+
+        var maxStateId = 0;
+
+        for (var block : Block.values()) {
+            for (var state : block.possibleStates()) {
+                maxStateId = Math.max(maxStateId, state.stateId());
+            }
+        }
+
+        var decoded = new byte[maxStateId + 1];
+
+        for (var block : Block.values()) {
+            if (!BlockTag.STAIRS.contains(block)) {
+                continue;
+            }
+
+            for (var state : block.possibleStates()) {
+                var facing = state.getProperty("facing");
+                var half = state.getProperty("half");
+
+                if (facing == null || half == null) {
+                    continue;
+                }
+
+                decoded[state.stateId()] = (byte) encode(BlockFace.valueOf(facing.toUpperCase()), "top".equals(half));
+            }
+        }
+
+        StairShapeSolver.decoded = decoded;
+        return decoded;
+    }
+
+    /**
+     * Packs a facing and half the way {@link #decode(Block)} returns them.
+     */
+    static int encode(@NotNull BlockFace facing, boolean top) {
+        var index = 0;
+
+        while (HORIZONTAL_FACES[index] != facing) {
+            index++;
+        }
+
+        return PRESENT | (top ? TOP : 0) | index;
+    }
+
+    /**
+     * Returns the packed facing and half of a stair, or {@code 0} for any other block.
+     */
+    static int decode(@NotNull Block block) {
+        var decoded = StairShapeSolver.decoded;
+
+        if (decoded == null) {
+            decoded = buildAll();
+        }
+
+        var stateId = block.stateId();
+        return stateId < decoded.length ? decoded[stateId] : 0;
+    }
+
+    /**
+     * Computes the shape of a stair with the given packed data at the given position, following
+     * vanilla's {@code StairBlock.getStairsShape}.
+     */
+    static @NotNull String shape(@NotNull Block.Getter blockGetter, int x, int y, int z, int data) {
+        var facing = data & FACING_MASK;
+        var half = data & TOP;
+        var behind = decode(blockGetter.getBlock(x + OFFSET_X[facing], y, z + OFFSET_Z[facing]));
+
+        if (behind != 0 && (behind & TOP) == half) {
+            var behindFacing = behind & FACING_MASK;
+
+            if (((behindFacing ^ facing) & 1) != 0 && canTakeShape(blockGetter, x, y, z, data, (behindFacing + 2) & FACING_MASK)) {
+                return behindFacing == ((facing + 3) & FACING_MASK) ? "outer_left" : "outer_right";
+            }
+        }
+
+        var front = (facing + 2) & FACING_MASK;
+        var ahead = decode(blockGetter.getBlock(x + OFFSET_X[front], y, z + OFFSET_Z[front]));
+
+        if (ahead != 0 && (ahead & TOP) == half) {
+            var aheadFacing = ahead & FACING_MASK;
+
+            if (((aheadFacing ^ facing) & 1) != 0 && canTakeShape(blockGetter, x, y, z, data, aheadFacing)) {
+                return aheadFacing == ((facing + 3) & FACING_MASK) ? "inner_left" : "inner_right";
+            }
+        }
+
+        return "straight";
+    }
+
+    /**
+     * Resolves the shape of every stair horizontally connected to {@code origin} (including the stair
+     * at {@code origin}, if any) in one pass and writes the ones that changed without neighbor updates.
+     * At most {@link #MAX_CLUSTER_SIZE} stairs are visited. Returns the number of stairs rewritten.
+     */
+    static int resolveCluster(@NotNull Instance instance, @NotNull Point origin) {
+        var cluster = new PositionQueue(64);
+        var originX = origin.blockX();
+        var y = origin.blockY();
+        var originZ = origin.blockZ();
+
+        if (decode(instance.getBlock(originX, y, originZ)) != 0) {
+            cluster.add(PositionQueue.pack(originX, y, originZ), 0);
+        } else {
+            for (var facing = 0; facing < HORIZONTAL_FACES.length; facing++) {
+                var neighborX = originX + OFFSET_X[facing];
+                var neighborZ = originZ + OFFSET_Z[facing];
+
+                if (decode(instance.getBlock(neighborX, y, neighborZ)) != 0) {
+                    cluster.add(PositionQueue.pack(neighborX, y, neighborZ), 0);
+                }
+            }
+        }
+
+        for (var index = 0; index < cluster.size() && cluster.size() < MAX_CLUSTER_SIZE; index++) {
+            var packed = cluster.position(index);
+            var x = PositionQueue.unpackX(packed);
+            var z = PositionQueue.unpackZ(packed);
+
+            for (var facing = 0; facing < HORIZONTAL_FACES.length; facing++) {
+                var neighborX = x + OFFSET_X[facing];
+                var neighborZ = z + OFFSET_Z[facing];
+
+                if (decode(instance.getBlock(neighborX, y, neighborZ)) != 0) {
+                    cluster.add(PositionQueue.pack(neighborX, y, neighborZ), 0);
+                }
+            }
+        }
+
+        var changed = 0;
+
+        for (var index = 0; index < cluster.size(); index++) {
+            var packed = cluster.position(index);
+            var x = PositionQueue.unpackX(packed);
+            var z = PositionQueue.unpackZ(packed);
+            var block = instance.getBlock(x, y, z);
+            var shape = shape(instance, x, y, z, decode(block));
+
+            if (!shape.equals(block.getProperty("shape"))) {
+                instance.setBlock(x, y, z, block.withProperty("shape", shape), false);
+                SignalIndex.invalidate(instance, x, y, z);
+                changed++;
+            }
+        }
+
+        return changed;
+    }
+
+    private static boolean canTakeShape(@NotNull Block.Getter blockGetter, int x, int y, int z, int data, int neighborFacing) {
+        var neighbor = decode(blockGetter.getBlock(x + OFFSET_X[neighborFacing], y, z + OFFSET_Z[neighborFacing]));
+        return neighbor != data;
+    }
+}
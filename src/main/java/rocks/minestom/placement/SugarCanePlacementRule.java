@@ -1,7 +1,5 @@
 package rocks.minestom.placement;
 
-import net.kyori.adventure.key.Key;
-import net.minestom.server.MinecraftServer;
 import net.minestom.server.instance.block.Block;
 import net.minestom.server.instance.block.BlockFace;
 import net.minestom.server.instance.block.rule.BlockPlacementRule;
@@ -28,11 +26,7 @@ public final class SugarCanePlacementRule extends BlockPlacementRule {
         if (supportBlock.compare(Block.SUGAR_CANE)) {
             return this.block;
         }
-        var registry = MinecraftServer.process().blocks();
-        var dirtTag = registry.getTag(Key.key("minecraft:dirt"));
-        var sandTag = registry.getTag(Key.key("minecraft:sand"));
-        var onValidGround = (dirtTag != null && dirtTag.contains(supportBlock))
-                || (sandTag != null && sandTag.contains(supportBlock));
+        var onValidGround = BlockTag.DIRT.contains(supportBlock) || BlockTag.SAND.contains(supportBlock);
 
         if (!onValidGround) {
             return null;
@@ -57,11 +51,7 @@ public final class SugarCanePlacementRule extends BlockPlacementRule {
         if (below.compare(Block.SUGAR_CANE)) {
             return updateState.currentBlock();
         }
-        var registry = MinecraftServer.process().blocks();
-        var dirtTag = registry.getTag(Key.key("minecraft:dirt"));
-        var sandTag = registry.getTag(Key.key("minecraft:sand"));
-        var onValidGround = (dirtTag != null && dirtTag.contains(below))
-                || (sandTag != null && sandTag.contains(below));
+        var onValidGround = BlockTag.DIRT.contains(below) || BlockTag.SAND.contains(below);
 
         if (!onValidGround) {
             return Block.AIR;
@@ -1,6 +1,5 @@
 package rocks.minestom.placement;
 
-import net.minestom.server.instance.Instance;
 import net.minestom.server.instance.block.Block;
 import net.minestom.server.instance.block.BlockFace;
 import net.minestom.server.instance.block.rule.BlockPlacementRule;
@@ -13,28 +12,11 @@ public final class TallPlantPlacementRule extends BlockPlacementRule {
 
     @Override
     public Block blockPlace(@NotNull PlacementState placementState) {
-        if (!(placementState.instance() instanceof Instance instance)) {
-            return null;
-        }
-
         var placePosition = placementState.placePosition();
         var upperPosition = placePosition.relative(BlockFace.TOP);
-        var maxY = instance.getCachedDimensionType().maxY();
-
-        if (upperPosition.blockY() >= maxY) {
-            return null;
-        }
-
-        var existingUpperBlock = instance.getBlock(upperPosition);
-
-        if (!existingUpperBlock.registry().isReplaceable()) {
-            return null;
-        }
-
-        var upperBlock = this.block.withProperty("half", "upper");
-        instance.setBlock(upperPosition, upperBlock, false);
-
-        return this.block.withProperty("half", "lower");
+        return MultiBlockPlacement.begin(placementState.instance(), placePosition)
+                .with(upperPosition, this.block.withProperty("half", "upper"))
+                .commit(this.block.withProperty("half", "lower"));
     }
 
     @Override
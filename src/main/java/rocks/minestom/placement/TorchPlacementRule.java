@@ -2,22 +2,31 @@ package rocks.minestom.placement;
 
 import net.minestom.server.instance.block.Block;
 import net.minestom.server.instance.block.BlockFace;
+import net.minestom.server.instance.block.BlockHandler;
 import net.minestom.server.instance.block.rule.BlockPlacementRule;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 public final class TorchPlacementRule extends BlockPlacementRule {
+    private final @Nullable BlockHandler handler;
+
     public TorchPlacementRule(@NotNull Block block) {
+        this(block, null);
+    }
+
+    public TorchPlacementRule(@NotNull Block block, @Nullable BlockHandler handler) {
         super(block);
+        this.handler = handler;
     }
 
     @Override
     public Block blockPlace(@NotNull PlacementState placementState) {
         var below = placementState.instance().getBlock(placementState.placePosition().relative(BlockFace.BOTTOM));
 
-        if (!below.registry().collisionShape().isFaceFull(BlockFace.TOP)) {
+        if (!FaceSturdiness.isFull(below, BlockFace.TOP)) {
             return null;
         }
-        return this.block;
+        return this.handler == null ? this.block : this.block.withHandler(this.handler);
     }
 
     @Override
@@ -27,6 +36,6 @@ public final class TorchPlacementRule extends BlockPlacementRule {
             return updateState.currentBlock();
         }
         var below = updateState.instance().getBlock(updateState.blockPosition().relative(BlockFace.BOTTOM));
-        return below.registry().collisionShape().isFaceFull(BlockFace.TOP) ? updateState.currentBlock() : Block.AIR;
+        return FaceSturdiness.isFull(below, BlockFace.TOP) ? updateState.currentBlock() : Block.AIR;
     }
 }
@@ -54,7 +54,7 @@ public final class TrapdoorBlockHandler implements BlockHandler {
             return opening ? SoundEvent.BLOCK_IRON_TRAPDOOR_OPEN : SoundEvent.BLOCK_IRON_TRAPDOOR_CLOSE;
         }
 
-        if (Utility.hasTag(block, Key.key("minecraft:copper_trapdoors"))) {
+        if (BlockTag.COPPER_TRAPDOORS.contains(block)) {
             return opening ? SoundEvent.BLOCK_COPPER_TRAPDOOR_OPEN : SoundEvent.BLOCK_COPPER_TRAPDOOR_CLOSE;
         }
 
@@ -24,14 +24,14 @@ public final class TrapdoorPlacementRule extends BlockPlacementRule {
                 : (clickedFace == BlockFace.BOTTOM ? "top" : "bottom");
         var replaced = placementState.instance().getBlock(placementState.placePosition());
         var waterlogged = replaced.compare(Block.WATER) && "0".equals(replaced.getProperty("level"));
-        // TODO: vanilla checks hasNeighborSignal(pos) and sets open=powered=true; not yet implemented
+        var powered = SignalIndex.hasNeighborSignal(placementState.instance(), placementState.placePosition());
 
         return this.block
                 .withHandler(TrapdoorBlockHandler.INSTANCE)
                 .withProperty("facing", facing.name().toLowerCase())
                 .withProperty("half", half)
-                .withProperty("open", "false")
-                .withProperty("powered", "false")
+                .withProperty("open", String.valueOf(powered))
+                .withProperty("powered", String.valueOf(powered))
                 .withProperty("waterlogged", waterlogged ? "true" : "false");
     }
 }
@@ -1,13 +1,13 @@
 package rocks.minestom.placement;
 
-import net.kyori.adventure.key.Key;
-import net.minestom.server.MinecraftServer;
 import net.minestom.server.instance.block.Block;
 import net.minestom.server.instance.block.BlockFace;
 import net.minestom.server.instance.block.rule.BlockPlacementRule;
 import org.jetbrains.annotations.NotNull;
 
 public final class TurtleEggPlacementRule extends BlockPlacementRule {
+    private static final IntProperty EGGS = IntProperty.of("eggs");
+
     public TurtleEggPlacementRule(@NotNull Block block) {
         super(block);
     }
@@ -19,18 +19,15 @@ public final class TurtleEggPlacementRule extends BlockPlacementRule {
         var existingBlock = instance.getBlock(placePosition);
 
         if (existingBlock.compare(this.block)) {
-            var eggsProperty = existingBlock.getProperty("eggs");
-            var eggs = eggsProperty == null ? 1 : Integer.parseInt(eggsProperty);
+            var eggs = EGGS.get(existingBlock, 1);
 
             if (eggs < 4) {
-                return existingBlock.withProperty("eggs", Integer.toString(Math.min(4, eggs + 1)));
+                return EGGS.with(existingBlock, Math.min(4, eggs + 1));
             }
         }
 
         var belowBlock = instance.getBlock(placePosition.relative(BlockFace.BOTTOM));
-        var sandTag = MinecraftServer.process().blocks().getTag(Key.key("minecraft:sand"));
-
-        if (sandTag == null || !sandTag.contains(belowBlock)) {
+        if (!BlockTag.SAND.contains(belowBlock)) {
             return null;
         }
 
@@ -45,7 +42,7 @@ public final class TurtleEggPlacementRule extends BlockPlacementRule {
         }
         var below = updateState.instance().getBlock(updateState.blockPosition().relative(BlockFace.BOTTOM));
 
-        if (!below.registry().collisionShape().isFaceFull(BlockFace.TOP)) {
+        if (!FaceSturdiness.isFull(below, BlockFace.TOP)) {
             return Block.AIR;
         }
         return updateState.currentBlock();
@@ -61,8 +58,7 @@ public final class TurtleEggPlacementRule extends BlockPlacementRule {
             return false;
         }
 
-        var eggsProperty = replacement.block().getProperty("eggs");
-        var eggs = eggsProperty == null ? 1 : Integer.parseInt(eggsProperty);
+        var eggs = EGGS.get(replacement.block(), 1);
         return eggs < 4;
     }
 }
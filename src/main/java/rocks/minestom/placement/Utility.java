@@ -43,8 +43,7 @@ public final class Utility {
      * Returns {@code false} when the tag is missing from the loaded registry data.
      */
     public static boolean hasTag(Block block, Key key) {
-        var tag = MinecraftServer.process().blocks().getTag(key);
-        return tag != null && tag.contains(block);
+        return BlockTag.of(key).contains(block);
     }
 
     /**
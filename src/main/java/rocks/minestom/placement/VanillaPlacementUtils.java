@@ -1,49 +1,63 @@
 package rocks.minestom.placement;
 
-import net.minestom.server.MinecraftServer;
 import net.minestom.server.coordinate.Point;
 import net.minestom.server.instance.Instance;
 import net.minestom.server.instance.block.Block;
-import net.minestom.server.instance.block.BlockFace;
-import net.minestom.server.instance.block.rule.BlockPlacementRule;
+import org.jetbrains.annotations.Nullable;
 
 final class VanillaPlacementUtils {
-    private static final BlockFace[] HORIZONTAL_FACES = {
-            BlockFace.NORTH,
-            BlockFace.EAST,
-            BlockFace.SOUTH,
-            BlockFace.WEST
-    };
-
     private VanillaPlacementUtils() {
 
     }
 
+    /**
+     * Returns the instance behind a rule's block getter, or {@code null} if the rule is not running
+     * against a live instance. Only for reads; rules that write or schedule work use
+     * {@link #writableInstance(Block.Getter)}.
+     */
+    static @Nullable Instance instance(Block.Getter blockGetter) {
+        if (blockGetter instanceof InstrumentedPlacementRule.CountingGetter counting) {
+            return instance(counting.delegate());
+        }
+
+        return blockGetter instanceof Instance instance ? instance : null;
+    }
+
+    /**
+     * Returns the instance a rule may write to or schedule work on, or {@code null} if the rule is not
+     * running against a live instance. Against an {@link AsyncPlacement} snapshot, this also marks the
+     * placement as needing the live instance, so it is evaluated again on the tick thread.
+     */
+    static @Nullable Instance writableInstance(Block.Getter blockGetter) {
+        var snapshot = snapshot(blockGetter);
+
+        if (snapshot != null) {
+            snapshot.requestInstance();
+            return null;
+        }
+
+        return instance(blockGetter);
+    }
+
+    /**
+     * Returns the snapshot behind a rule's block getter, or {@code null} if the rule is not running against
+     * one.
+     */
+    static @Nullable ChunkSnapshot snapshot(Block.Getter blockGetter) {
+        if (blockGetter instanceof InstrumentedPlacementRule.CountingGetter counting) {
+            return snapshot(counting.delegate());
+        }
+
+        return blockGetter instanceof ChunkSnapshot snapshot ? snapshot : null;
+    }
+
     static void scheduleHorizontalNeighborRuleUpdates(Block.Getter blockGetter, Point centerPosition) {
-        if (!(blockGetter instanceof Instance instance)) {
+        var instance = writableInstance(blockGetter);
+
+        if (instance == null) {
             return;
         }
 
-        instance.scheduleNextTick(currentInstance -> {
-            for (var neighborFace : HORIZONTAL_FACES) {
-                var neighborPosition = centerPosition.relative(neighborFace);
-                var neighborBlock = currentInstance.getBlock(neighborPosition);
-                var placementRule = MinecraftServer.getBlockManager().getBlockPlacementRule(neighborBlock);
-
-                if (placementRule == null) {
-                    continue;
-                }
-
-                var updateState = new BlockPlacementRule.UpdateState(
-                        currentInstance,
-                        neighborPosition,
-                        neighborBlock,
-                        neighborFace.getOppositeFace()
-                );
-
-                var updatedNeighbor = placementRule.blockUpdate(updateState);
-                currentInstance.setBlock(neighborPosition, updatedNeighbor, false);
-            }
-        });
+        NeighborUpdateQueue.of(instance).enqueueHorizontalNeighbors(centerPosition);
     }
 }
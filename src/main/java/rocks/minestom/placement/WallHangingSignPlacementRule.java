@@ -18,8 +18,8 @@ public final class WallHangingSignPlacementRule extends BlockPlacementRule {
         var yaw = playerPosition == null ? 0.0F : playerPosition.yaw();
         var pitch = playerPosition == null ? 0.0F : playerPosition.pitch();
         var nearest = playerPosition == null
-                ? new BlockFace[]{BlockFace.NORTH, BlockFace.EAST, BlockFace.SOUTH, BlockFace.WEST, BlockFace.TOP, BlockFace.BOTTOM}
-                : orderedByNearest(yaw, pitch);
+                ? FaceOrdering.DEFAULT
+                : FaceOrdering.nearest(yaw, pitch);
         var clickedFace = Objects.requireNonNullElse(placementState.blockFace(), BlockFace.TOP);
         var instance = placementState.instance();
         var placePosition = placementState.placePosition();
@@ -36,8 +36,8 @@ public final class WallHangingSignPlacementRule extends BlockPlacementRule {
             var clockwiseBlock = instance.getBlock(placePosition.relative(clockwise));
             var counterClockwiseBlock = instance.getBlock(placePosition.relative(counterClockwise));
 
-            if (clockwiseBlock.registry().collisionShape().isFaceFull(counterClockwise)
-                    && counterClockwiseBlock.registry().collisionShape().isFaceFull(clockwise)) {
+            if (FaceSturdiness.isFull(clockwiseBlock, counterClockwise)
+                    && FaceSturdiness.isFull(counterClockwiseBlock, clockwise)) {
                 facing = candidate;
                 break;
             }
@@ -74,8 +74,8 @@ public final class WallHangingSignPlacementRule extends BlockPlacementRule {
         var blockPosition = updateState.blockPosition();
         var clockwiseBlock = instance.getBlock(blockPosition.relative(clockwise));
         var counterClockwiseBlock = instance.getBlock(blockPosition.relative(counterClockwise));
-        var clockwiseSupports = clockwiseBlock.registry().collisionShape().isFaceFull(counterClockwise);
-        var counterClockwiseSupports = counterClockwiseBlock.registry().collisionShape().isFaceFull(clockwise);
+        var clockwiseSupports = FaceSturdiness.isFull(clockwiseBlock, counterClockwise);
+        var counterClockwiseSupports = FaceSturdiness.isFull(counterClockwiseBlock, clockwise);
 
         if (!clockwiseSupports || !counterClockwiseSupports) {
             return Block.AIR;
@@ -124,48 +124,4 @@ public final class WallHangingSignPlacementRule extends BlockPlacementRule {
             case TOP, BOTTOM -> second == BlockFace.TOP || second == BlockFace.BOTTOM;
         };
     }
-
-    private static BlockFace[] orderedByNearest(float yawDegrees, float pitchDegrees) {
-        var pitchRadians = pitchDegrees * (float) (Math.PI / 180.0D);
-        var yawRadians = -yawDegrees * (float) (Math.PI / 180.0D);
-        var pitchSin = (float) Math.sin(pitchRadians);
-        var pitchCos = (float) Math.cos(pitchRadians);
-        var yawSin = (float) Math.sin(yawRadians);
-        var yawCos = (float) Math.cos(yawRadians);
-        var xPositive = yawSin > 0.0F;
-        var yPositive = pitchSin < 0.0F;
-        var zPositive = yawCos > 0.0F;
-        var xYaw = xPositive ? yawSin : -yawSin;
-        var yMagnitude = yPositive ? -pitchSin : pitchSin;
-        var zYaw = zPositive ? yawCos : -yawCos;
-        var xMagnitude = xYaw * pitchCos;
-        var zMagnitude = zYaw * pitchCos;
-        var axisX = xPositive ? BlockFace.EAST : BlockFace.WEST;
-        var axisY = yPositive ? BlockFace.TOP : BlockFace.BOTTOM;
-        var axisZ = zPositive ? BlockFace.SOUTH : BlockFace.NORTH;
-
-        if (xYaw > zYaw) {
-            if (yMagnitude > xMagnitude) {
-                return makeDirectionArray(axisY, axisX, axisZ);
-            }
-
-            if (zMagnitude > yMagnitude) {
-                return makeDirectionArray(axisX, axisZ, axisY);
-            }
-            return makeDirectionArray(axisX, axisY, axisZ);
-        }
-
-        if (yMagnitude > zMagnitude) {
-            return makeDirectionArray(axisY, axisZ, axisX);
-        }
-
-        if (xMagnitude > yMagnitude) {
-            return makeDirectionArray(axisZ, axisX, axisY);
-        }
-        return makeDirectionArray(axisZ, axisY, axisX);
-    }
-
-    private static BlockFace[] makeDirectionArray(@NotNull BlockFace first, @NotNull BlockFace second, @NotNull BlockFace third) {
-        return new BlockFace[]{first, second, third, third.getOppositeFace(), second.getOppositeFace(), first.getOppositeFace()};
-    }
 }
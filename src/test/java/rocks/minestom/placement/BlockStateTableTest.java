@@ -0,0 +1,34 @@
+package rocks.minestom.placement;
+
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.instance.block.Block;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public final class BlockStateTableTest {
+    @BeforeAll
+    static void initServer() {
+        MinecraftServer.init();
+    }
+
+    @Test
+    void transitionsMatchWithProperty() {
+        for (var block : Block.values()) {
+            var table = BlockStateTable.of(block);
+
+            for (var state : block.possibleStates()) {
+                for (var entry : state.properties().entrySet()) {
+                    var property = table.property(entry.getKey());
+                    assertEquals(entry.getValue(), table.valueName(property, table.valueIndex(state.stateId(), property)));
+
+                    for (var value = 0; value < table.valueCount(property); value++) {
+                        var expected = state.withProperty(entry.getKey(), table.valueName(property, value));
+                        assertEquals(expected.stateId(), table.with(state.stateId(), property, value), expected.toString());
+                    }
+                }
+            }
+        }
+    }
+}
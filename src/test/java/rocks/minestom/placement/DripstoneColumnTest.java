@@ -0,0 +1,90 @@
+package rocks.minestom.placement;
+
+import net.minestom.server.coordinate.Vec;
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.instance.block.BlockFace;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@ExtendWith(MinecraftServerExtension.class)
+public final class DripstoneColumnTest {
+    private static final int CEILING = 10;
+
+    @Test
+    void columnThinsTowardsTip() {
+        var world = stalactite(4);
+
+        assertEquals("base", reshaped(world, CEILING - 1));
+        assertEquals("middle", reshaped(world, CEILING - 2));
+        assertEquals("frustum", reshaped(world, CEILING - 3));
+        assertEquals("tip", reshaped(world, CEILING - 4));
+    }
+
+    @Test
+    void shortColumns() {
+        assertEquals("tip", reshaped(stalactite(1), CEILING - 1));
+
+        var world = stalactite(2);
+        assertEquals("frustum", reshaped(world, CEILING - 1));
+        assertEquals("tip", reshaped(world, CEILING - 2));
+    }
+
+    @Test
+    void segmentThicknessFromNeighbors() {
+        var world = stalactite(3)
+                .set(0, CEILING - 2, 0, dripstone(BlockFace.BOTTOM, "frustum"))
+                .set(0, CEILING - 3, 0, dripstone(BlockFace.BOTTOM, "tip"));
+
+        assertEquals("base", DripstoneColumn.thickness(world, new Vec(0, CEILING - 1, 0), BlockFace.BOTTOM, false));
+        assertEquals("frustum", DripstoneColumn.thickness(world, new Vec(0, CEILING - 2, 0), BlockFace.BOTTOM, false));
+        assertEquals("tip", DripstoneColumn.thickness(world, new Vec(0, CEILING - 3, 0), BlockFace.BOTTOM, false));
+
+        world.set(0, CEILING - 3, 0, dripstone(BlockFace.BOTTOM, "frustum"));
+        assertEquals("middle", DripstoneColumn.thickness(world, new Vec(0, CEILING - 2, 0), BlockFace.BOTTOM, false));
+    }
+
+    @Test
+    void opposingTipsMerge() {
+        var world = stalactite(1).set(0, CEILING - 2, 0, dripstone(BlockFace.TOP, "tip"));
+        var position = new Vec(0, CEILING - 1, 0);
+
+        assertEquals("tip", DripstoneColumn.thickness(world, position, BlockFace.BOTTOM, false));
+        assertEquals("tip_merge", DripstoneColumn.thickness(world, position, BlockFace.BOTTOM, true));
+
+        world.set(0, CEILING - 2, 0, dripstone(BlockFace.TOP, "tip_merge"));
+        assertEquals("tip_merge", reshaped(world, CEILING - 1));
+    }
+
+    @Test
+    void unsupportedColumnIsRemoved() {
+        var world = stalactite(3).set(0, CEILING, 0, Block.AIR);
+
+        for (var y = CEILING - 3; y < CEILING; y++) {
+            var current = world.getBlock(0, y, 0);
+            assertEquals(Block.AIR, DripstoneColumn.reshape(world, null, new Vec(0, y, 0), current));
+        }
+    }
+
+    private static TestWorld stalactite(int length) {
+        var world = new TestWorld().set(0, CEILING, 0, Block.STONE);
+
+        for (var y = CEILING - length; y < CEILING; y++) {
+            world.set(0, y, 0, dripstone(BlockFace.BOTTOM, "tip"));
+        }
+
+        return world;
+    }
+
+    private static Block dripstone(BlockFace tipDirection, String thickness) {
+        return Block.POINTED_DRIPSTONE
+                .withProperty("vertical_direction", DripstoneColumn.verticalName(tipDirection))
+                .withProperty("thickness", thickness);
+    }
+
+    private static String reshaped(TestWorld world, int y) {
+        var position = new Vec(0, y, 0);
+        return DripstoneColumn.reshape(world, null, position, world.getBlock(position)).getProperty("thickness");
+    }
+}
@@ -0,0 +1,72 @@
+package rocks.minestom.placement;
+
+import net.minestom.server.coordinate.Vec;
+import net.minestom.server.instance.block.Block;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@ExtendWith(MinecraftServerExtension.class)
+public final class LeafDistanceEngineTest {
+    private static final int LENGTH = 9;
+
+    @Test
+    void distanceGrowsAwayFromLog() {
+        var world = branch();
+
+        for (var x = 1; x <= LENGTH; x++) {
+            assertEquals(Math.min(x, LeafDistanceEngine.MAX_DISTANCE), world.intProperty(x, 0, 0, "distance"), "leaves at x=" + x);
+        }
+    }
+
+    @Test
+    void leavesDecayAfterLogIsRemoved() {
+        var world = branch();
+        world.set(0, 0, 0, Block.AIR);
+
+        // settle the way the engine does, one recomputation per changed leaf and its neighbors
+        var changed = true;
+
+        while (changed) {
+            changed = false;
+
+            for (var x = 1; x <= LENGTH; x++) {
+                var distance = LeafDistanceEngine.computeDistance(world, new Vec(x, 0, 0));
+
+                if (distance != world.intProperty(x, 0, 0, "distance")) {
+                    world.set(x, 0, 0, Block.OAK_LEAVES.withProperty("distance", String.valueOf(distance)));
+                    changed = true;
+                }
+            }
+        }
+
+        for (var x = 1; x <= LENGTH; x++) {
+            assertEquals(LeafDistanceEngine.MAX_DISTANCE, world.intProperty(x, 0, 0, "distance"), "leaves at x=" + x);
+        }
+    }
+
+    @Test
+    void nearestLogWins() {
+        var world = branch();
+        world.set(LENGTH + 1, 0, 0, Block.OAK_LOG);
+
+        assertEquals(1, LeafDistanceEngine.computeDistance(world, new Vec(LENGTH, 0, 0)));
+        assertEquals(2, LeafDistanceEngine.computeDistance(world, new Vec(LENGTH - 1, 0, 0)));
+    }
+
+    private static TestWorld branch() {
+        var world = new TestWorld().set(0, 0, 0, Block.OAK_LOG);
+
+        for (var x = 1; x <= LENGTH; x++) {
+            world.set(x, 0, 0, Block.OAK_LEAVES.withProperty("distance", "7"));
+        }
+
+        for (var x = 1; x <= LENGTH; x++) {
+            var distance = LeafDistanceEngine.computeDistance(world, new Vec(x, 0, 0));
+            world.set(x, 0, 0, Block.OAK_LEAVES.withProperty("distance", String.valueOf(distance)));
+        }
+
+        return world;
+    }
+}
@@ -0,0 +1,23 @@
+package rocks.minestom.placement;
+
+import net.minestom.server.MinecraftServer;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+/**
+ * Initializes the server once per test run, for tests that need the block registry and managers.
+ */
+final class MinecraftServerExtension implements BeforeAllCallback {
+    private static boolean initialized;
+
+    @Override
+    public void beforeAll(@NotNull ExtensionContext context) {
+        synchronized (MinecraftServerExtension.class) {
+            if (!initialized) {
+                MinecraftServer.init();
+                initialized = true;
+            }
+        }
+    }
+}
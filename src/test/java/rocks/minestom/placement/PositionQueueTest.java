@@ -0,0 +1,50 @@
+package rocks.minestom.placement;
+
+import net.minestom.server.instance.block.BlockFace;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public final class PositionQueueTest {
+    private static final int[][] POSITIONS = {
+            {0, 0, 0},
+            {-1, -1, -1},
+            {-30_000_000, -64, 29_999_999},
+            {29_999_999, 319, -30_000_000},
+            {-17, -2048, 5},
+            {12, 2047, -33_554_432}
+    };
+
+    @Test
+    void packRoundTripsNegativeCoordinates() {
+        for (var position : POSITIONS) {
+            var packed = PositionQueue.pack(position[0], position[1], position[2]);
+            assertEquals(position[0], PositionQueue.unpackX(packed));
+            assertEquals(position[1], PositionQueue.unpackY(packed));
+            assertEquals(position[2], PositionQueue.unpackZ(packed));
+        }
+    }
+
+    @Test
+    void offsetCrossesZero() {
+        var packed = PositionQueue.pack(0, 0, 0);
+        assertEquals(PositionQueue.pack(0, -1, 0), PositionQueue.offset(packed, BlockFace.BOTTOM));
+        assertEquals(PositionQueue.pack(0, 0, -1), PositionQueue.offset(packed, BlockFace.NORTH));
+        assertEquals(PositionQueue.pack(-1, 0, 0), PositionQueue.offset(packed, BlockFace.WEST));
+        assertEquals(PositionQueue.pack(-1, 0, 0), PositionQueue.offset(PositionQueue.pack(-2, 0, 0), BlockFace.EAST));
+    }
+
+    @Test
+    void addMergesMasksOfNegativePositions() {
+        var queue = new PositionQueue(2);
+        queue.add(PositionQueue.pack(-1, -1, -1), 1);
+        queue.add(PositionQueue.pack(1, 1, 1), 2);
+        queue.add(PositionQueue.pack(-1, -1, -1), 4);
+        queue.add(PositionQueue.pack(-5, 3, -7), 8);
+
+        assertEquals(3, queue.size());
+        assertEquals(5, queue.mask(queue.indexOf(PositionQueue.pack(-1, -1, -1))));
+        assertEquals(2, queue.indexOf(PositionQueue.pack(-5, 3, -7)));
+        assertEquals(-1, queue.indexOf(PositionQueue.pack(-1, -1, 1)));
+    }
+}
@@ -0,0 +1,70 @@
+package rocks.minestom.placement;
+
+import net.minestom.server.coordinate.Vec;
+import net.minestom.server.instance.block.Block;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@ExtendWith(MinecraftServerExtension.class)
+public final class RailNetworkTest {
+    private static final Vec ORIGIN = Vec.ZERO;
+
+    @Test
+    void lonelyRailKeepsItsShape() {
+        assertEquals("north_south", place(new TestWorld(), Block.RAIL, false));
+    }
+
+    @Test
+    void curvesTowardsTwoNeighbors() {
+        var world = new TestWorld()
+                .set(0, 0, 1, Block.RAIL)
+                .set(1, 0, 0, Block.RAIL);
+        assertEquals("south_east", place(world, Block.RAIL, false));
+
+        world = new TestWorld()
+                .set(0, 0, -1, Block.RAIL)
+                .set(-1, 0, 0, Block.RAIL);
+        assertEquals("north_west", place(world, Block.RAIL, false));
+    }
+
+    @Test
+    void poweredRailsNeverCurve() {
+        var world = new TestWorld()
+                .set(0, 0, 1, Block.POWERED_RAIL)
+                .set(1, 0, 0, Block.POWERED_RAIL);
+        assertEquals("north_south", place(world, Block.POWERED_RAIL, false));
+    }
+
+    @Test
+    void junctionPrefersCurveByPower() {
+        var world = new TestWorld()
+                .set(0, 0, -1, Block.RAIL)
+                .set(0, 0, 1, Block.RAIL)
+                .set(1, 0, 0, Block.RAIL);
+        assertEquals("south_east", place(world, Block.RAIL, false));
+        assertEquals("north_east", place(world, Block.RAIL, true));
+    }
+
+    @Test
+    void ascendsTowardsRailOneBlockUp() {
+        var world = new TestWorld().set(0, 1, -1, Block.RAIL);
+        assertEquals("ascending_north", place(world, Block.RAIL, false));
+
+        world = new TestWorld().set(-1, 1, 0, Block.RAIL);
+        assertEquals("ascending_west", place(world, Block.RAIL, false));
+    }
+
+    @Test
+    void descendsTowardsRailOneBlockDown() {
+        // the lower rail is the one that slopes, the placed one stays flat
+        var world = new TestWorld().set(1, -1, 0, Block.RAIL);
+        assertEquals("east_west", place(world, Block.RAIL, false));
+    }
+
+    private static String place(TestWorld world, Block rail, boolean powered) {
+        world.set(ORIGIN, rail);
+        return RailNetwork.place(world, ORIGIN, rail, powered);
+    }
+}
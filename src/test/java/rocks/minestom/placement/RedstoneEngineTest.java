@@ -0,0 +1,95 @@
+package rocks.minestom.placement;
+
+import net.minestom.server.instance.block.Block;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@ExtendWith(MinecraftServerExtension.class)
+public final class RedstoneEngineTest {
+    @Test
+    void powerFallsOffThroughCorner() {
+        // a redstone block feeding a run of dust east, which turns south at x=4
+        var world = new TestWorld().set(0, 0, 0, Block.REDSTONE_BLOCK);
+
+        for (var x = 1; x <= 4; x++) {
+            world.set(x, 0, 0, Block.REDSTONE_WIRE);
+        }
+
+        world.set(4, 0, 1, Block.REDSTONE_WIRE).set(4, 0, 2, Block.REDSTONE_WIRE);
+
+        var wires = seed(1, 0, 0);
+        var power = RedstoneEngine.solve(world, wires);
+
+        assertEquals(6, wires.size());
+        assertEquals(15, power(wires, power, 1, 0, 0));
+        assertEquals(14, power(wires, power, 2, 0, 0));
+        assertEquals(12, power(wires, power, 4, 0, 0));
+        assertEquals(11, power(wires, power, 4, 0, 1));
+        assertEquals(10, power(wires, power, 4, 0, 2));
+    }
+
+    @Test
+    void powerClimbsStepsUnlessCut() {
+        var world = new TestWorld()
+                .set(0, 0, 0, Block.REDSTONE_BLOCK)
+                .set(1, 0, 0, Block.REDSTONE_WIRE)
+                .set(2, 0, 0, Block.STONE)
+                .set(2, 1, 0, Block.REDSTONE_WIRE);
+
+        var wires = seed(1, 0, 0);
+        var power = RedstoneEngine.solve(world, wires);
+        assertEquals(14, power(wires, power, 2, 1, 0));
+
+        // a conducting block above the lower wire cuts the step
+        world.set(1, 1, 0, Block.STONE);
+        wires = seed(1, 0, 0);
+        power = RedstoneEngine.solve(world, wires);
+        assertEquals(-1, wires.indexOf(PositionQueue.pack(2, 1, 0)));
+        assertEquals(15, power(wires, power, 1, 0, 0));
+    }
+
+    @Test
+    void torchPowersDustThroughBlockAbove() {
+        var world = new TestWorld()
+                .set(0, 0, 0, Block.REDSTONE_TORCH)
+                .set(0, 1, 0, Block.STONE)
+                .set(0, 2, 0, Block.REDSTONE_WIRE)
+                .set(1, 2, 0, Block.REDSTONE_WIRE);
+
+        var wires = seed(0, 2, 0);
+        var power = RedstoneEngine.solve(world, wires);
+        assertEquals(15, power(wires, power, 0, 2, 0));
+        assertEquals(14, power(wires, power, 1, 2, 0));
+    }
+
+    @Test
+    void unpoweredNetworkSettlesToZero() {
+        var world = new TestWorld();
+
+        for (var x = 0; x < 20; x++) {
+            world.set(x, 0, 0, Block.REDSTONE_WIRE);
+        }
+
+        var wires = seed(10, 0, 0);
+        var power = RedstoneEngine.solve(world, wires);
+
+        assertEquals(20, wires.size());
+
+        for (var value : power) {
+            assertEquals(0, value);
+        }
+    }
+
+    private static PositionQueue seed(int x, int y, int z) {
+        var wires = new PositionQueue(64);
+        wires.add(PositionQueue.pack(x, y, z), 0);
+        return wires;
+    }
+
+    private static int power(PositionQueue wires, int[] power, int x, int y, int z) {
+        var index = wires.indexOf(PositionQueue.pack(x, y, z));
+        return index < 0 ? -1 : power[index];
+    }
+}
@@ -0,0 +1,91 @@
+package rocks.minestom.placement;
+
+import net.minestom.server.coordinate.Vec;
+import net.minestom.server.instance.block.Block;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@ExtendWith(MinecraftServerExtension.class)
+public final class ScaffoldingEngineTest {
+    @Test
+    void distanceGrowsAlongOverhang() {
+        var world = overhang(ScaffoldingEngine.MAX_DISTANCE);
+
+        assertEquals(0, ScaffoldingEngine.computeDistance(world, new Vec(0, 1, 0)));
+
+        for (var x = 1; x < ScaffoldingEngine.MAX_DISTANCE; x++) {
+            assertEquals(x, ScaffoldingEngine.computeDistance(world, new Vec(x, 1, 0)), "scaffolding at x=" + x);
+        }
+
+        // the seventh block out has no support left and collapses
+        assertEquals(ScaffoldingEngine.MAX_DISTANCE, ScaffoldingEngine.computeDistance(world, new Vec(ScaffoldingEngine.MAX_DISTANCE, 1, 0)));
+    }
+
+    @Test
+    void towerKeepsItsBaseDistance() {
+        var world = new TestWorld().set(0, 0, 0, Block.STONE);
+
+        for (var y = 1; y <= 10; y++) {
+            world.set(0, y, 0, scaffolding(ScaffoldingEngine.computeDistance(world, new Vec(0, y, 0))));
+        }
+
+        for (var y = 1; y <= 10; y++) {
+            assertEquals(0, world.intProperty(0, y, 0, "distance"), "scaffolding at y=" + y);
+        }
+    }
+
+    @Test
+    void overhangCollapsesWithoutSupport() {
+        var world = overhang(3);
+        world.set(0, 0, 0, Block.AIR);
+
+        // settle the way the engine does, round by round, until nothing changes
+        var changed = true;
+
+        while (changed) {
+            changed = false;
+
+            for (var x = 0; x <= 3; x++) {
+                var distance = ScaffoldingEngine.computeDistance(world, new Vec(x, 1, 0));
+
+                if (distance != world.intProperty(x, 1, 0, "distance")) {
+                    world.set(x, 1, 0, scaffolding(distance));
+                    changed = true;
+                }
+            }
+        }
+
+        for (var x = 0; x <= 3; x++) {
+            assertEquals(ScaffoldingEngine.MAX_DISTANCE, world.intProperty(x, 1, 0, "distance"), "scaffolding at x=" + x);
+        }
+    }
+
+    @Test
+    void bottomFrameOnlyAwayFromScaffolding() {
+        var world = overhang(2);
+
+        assertFalse(ScaffoldingEngine.isBottom(world, new Vec(0, 1, 0), 0));
+        assertTrue(ScaffoldingEngine.isBottom(world, new Vec(1, 1, 0), 1));
+
+        world.set(1, 2, 0, scaffolding(1));
+        assertFalse(ScaffoldingEngine.isBottom(world, new Vec(1, 2, 0), 1));
+    }
+
+    private static TestWorld overhang(int length) {
+        var world = new TestWorld().set(0, 0, 0, Block.STONE);
+
+        for (var x = 0; x <= length; x++) {
+            world.set(x, 1, 0, scaffolding(ScaffoldingEngine.computeDistance(world, new Vec(x, 1, 0))));
+        }
+
+        return world;
+    }
+
+    private static Block scaffolding(int distance) {
+        return Block.SCAFFOLDING.withProperty("distance", String.valueOf(distance));
+    }
+}
@@ -0,0 +1,68 @@
+package rocks.minestom.placement;
+
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.instance.block.BlockFace;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@ExtendWith(MinecraftServerExtension.class)
+public final class StairShapeSolverTest {
+    private static final int NORTH_BOTTOM = StairShapeSolver.encode(BlockFace.NORTH, false);
+
+    @Test
+    void lonelyStairIsStraight() {
+        assertEquals("straight", shape(new TestWorld()));
+    }
+
+    @Test
+    void outerCornersFollowStairBehind() {
+        assertEquals("outer_left", shape(new TestWorld().set(0, 0, -1, stair(BlockFace.WEST, false))));
+        assertEquals("outer_right", shape(new TestWorld().set(0, 0, -1, stair(BlockFace.EAST, false))));
+    }
+
+    @Test
+    void innerCornersFollowStairInFront() {
+        assertEquals("inner_left", shape(new TestWorld().set(0, 0, 1, stair(BlockFace.WEST, false))));
+        assertEquals("inner_right", shape(new TestWorld().set(0, 0, 1, stair(BlockFace.EAST, false))));
+    }
+
+    @Test
+    void cornersNeedMatchingHalf() {
+        assertEquals("straight", shape(new TestWorld().set(0, 0, -1, stair(BlockFace.WEST, true))));
+        assertEquals("straight", shape(new TestWorld().set(0, 0, 1, stair(BlockFace.WEST, true))));
+    }
+
+    @Test
+    void parallelStairsKeepTheRowStraight() {
+        assertEquals("straight", shape(new TestWorld().set(0, 0, -1, stair(BlockFace.NORTH, false))));
+
+        // an identical stair on the side the corner would turn towards blocks it
+        var world = new TestWorld()
+                .set(0, 0, -1, stair(BlockFace.WEST, false))
+                .set(1, 0, 0, stair(BlockFace.NORTH, false));
+        assertEquals("straight", shape(world));
+    }
+
+    @Test
+    void decodeRoundTripsEncode() {
+        for (var facing : new BlockFace[]{BlockFace.NORTH, BlockFace.EAST, BlockFace.SOUTH, BlockFace.WEST}) {
+            assertEquals(StairShapeSolver.encode(facing, false), StairShapeSolver.decode(stair(facing, false)));
+            assertEquals(StairShapeSolver.encode(facing, true), StairShapeSolver.decode(stair(facing, true)));
+        }
+
+        assertEquals(0, StairShapeSolver.decode(Block.STONE));
+    }
+
+    private static String shape(TestWorld world) {
+        world.set(0, 0, 0, stair(BlockFace.NORTH, false));
+        return StairShapeSolver.shape(world, 0, 0, 0, NORTH_BOTTOM);
+    }
+
+    private static Block stair(BlockFace facing, boolean top) {
+        return Block.OAK_STAIRS
+                .withProperty("facing", facing.name().toLowerCase())
+                .withProperty("half", top ? "top" : "bottom");
+    }
+}
@@ -0,0 +1,34 @@
+package rocks.minestom.placement;
+
+import net.minestom.server.coordinate.Point;
+import net.minestom.server.instance.block.Block;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Block getter over a sparse map of blocks, for testing rules and engines without an instance. Unset
+ * positions read as air.
+ */
+final class TestWorld implements Block.Getter {
+    private final Map<Long, Block> blocks = new HashMap<>();
+
+    @Override
+    public Block getBlock(int x, int y, int z, @NotNull Condition condition) {
+        return this.blocks.getOrDefault(PositionQueue.pack(x, y, z), Block.AIR);
+    }
+
+    @NotNull TestWorld set(int x, int y, int z, @NotNull Block block) {
+        this.blocks.put(PositionQueue.pack(x, y, z), block);
+        return this;
+    }
+
+    @NotNull TestWorld set(@NotNull Point position, @NotNull Block block) {
+        return this.set(position.blockX(), position.blockY(), position.blockZ(), block);
+    }
+
+    int intProperty(int x, int y, int z, @NotNull String name) {
+        return Integer.parseInt(this.getBlock(x, y, z).getProperty(name));
+    }
+}